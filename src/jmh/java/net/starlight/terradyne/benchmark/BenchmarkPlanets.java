@@ -0,0 +1,71 @@
+package net.starlight.terradyne.benchmark;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.starlight.terradyne.planet.physics.AtmosphereComposition;
+import net.starlight.terradyne.planet.physics.CrustComposition;
+import net.starlight.terradyne.planet.physics.PlanetConfig;
+import net.starlight.terradyne.planet.physics.PlanetModel;
+
+/**
+ * Fixed planet configurations for benchmarks
+ * Never change an existing entry - results are only comparable across commits while these stay put.
+ * Add a new entry instead.
+ */
+public enum BenchmarkPlanets {
+    EARTHLIKE {
+        @Override
+        PlanetConfig createConfig() {
+            return new PlanetConfig("bench_earthlike", 1234567890L)
+                    .setCircumference(40000)
+                    .setDistanceFromStar(150)
+                    .setCrustComposition(CrustComposition.SILICATE)
+                    .setAtmosphereComposition(AtmosphereComposition.OXYGEN_RICH)
+                    .setTectonicActivity(0.6)
+                    .setWaterContent(0.7)
+                    .setCrustalThickness(35.0)
+                    .setAtmosphericDensity(1.0)
+                    .setRotationPeriod(1.0)
+                    .setNoiseScale(0.002);
+        }
+    },
+    VOLCANIC {
+        @Override
+        PlanetConfig createConfig() {
+            return new PlanetConfig("bench_volcanic", 987654321L)
+                    .setCircumference(20000)
+                    .setDistanceFromStar(90)
+                    .setCrustComposition(CrustComposition.HADEAN)
+                    .setAtmosphereComposition(AtmosphereComposition.CARBON_DIOXIDE)
+                    .setTectonicActivity(0.95)
+                    .setWaterContent(0.1)
+                    .setCrustalThickness(15.0)
+                    .setAtmosphericDensity(0.8)
+                    .setRotationPeriod(2.0)
+                    .setNoiseScale(0.003);
+        }
+    };
+
+    private static boolean bootstrapped = false;
+
+    abstract PlanetConfig createConfig();
+
+    /**
+     * Build a fresh planet model - every caller gets its own cold caches
+     */
+    public PlanetModel createModel() {
+        bootstrapMinecraft();
+        return new PlanetModel(createConfig());
+    }
+
+    /**
+     * Initialise block, biome and registry statics so palettes and chunk sections can be built outside the game
+     */
+    public static synchronized void bootstrapMinecraft() {
+        if (!bootstrapped) {
+            SharedConstants.createGameVersion();
+            Bootstrap.initialize();
+            bootstrapped = true;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package net.starlight.terradyne.benchmark;
+
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.world.biome.Biome;
+import net.starlight.terradyne.planet.biome.BiomeClassificationSystem;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Physics biome classification - per quart and per chunk batch
+ * Climate caches are warmed first so the numbers isolate classification itself
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class BiomeClassificationBenchmark {
+
+    private static final int WARM_CHUNKS_SIDE = 32;
+
+    @Param({"EARTHLIKE", "VOLCANIC"})
+    public BenchmarkPlanets planet;
+
+    private BiomeClassificationSystem classifier;
+    @SuppressWarnings("unchecked")
+    private final RegistryKey<Biome>[] surface = new RegistryKey[16];
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        classifier = new BiomeClassificationSystem(planet.createModel());
+        for (int i = 0; i < WARM_CHUNKS_SIDE * WARM_CHUNKS_SIDE; i++) {
+            classifier.classifyChunkSurface(i % WARM_CHUNKS_SIDE, i / WARM_CHUNKS_SIDE, surface);
+        }
+    }
+
+    /**
+     * One quart lookup, as BiomeSource.getBiome does
+     */
+    @Benchmark
+    public RegistryKey<Biome> classifyBiome() {
+        index = (index + 1) & (WARM_CHUNKS_SIDE * WARM_CHUNKS_SIDE * 16 - 1);
+        int chunk = index >> 4;
+        int quart = index & 15;
+        int worldX = ((chunk % WARM_CHUNKS_SIDE) << 4) + ((quart & 3) << 2);
+        int worldZ = ((chunk / WARM_CHUNKS_SIDE) << 4) + ((quart >> 2) << 2);
+        return classifier.classifyBiome(worldX, worldZ);
+    }
+
+    /**
+     * All 16 surface quarts of a chunk in one batch, as populateBiomes does
+     */
+    @Benchmark
+    public void classifyChunkSurface(Blackhole blackhole) {
+        index = (index + 1) & (WARM_CHUNKS_SIDE * WARM_CHUNKS_SIDE - 1);
+        classifier.classifyChunkSurface(index % WARM_CHUNKS_SIDE, index / WARM_CHUNKS_SIDE, surface);
+        blackhole.consume(surface);
+    }
+}
@@ -0,0 +1,49 @@
+package net.starlight.terradyne.benchmark;
+
+/**
+ * Deterministic stream of chunk positions for cold-cache benchmarks
+ * Walks a 4096×4096-chunk square from the origin row by row, so a position only repeats after ~16M
+ * chunks - far beyond every bounded cache. The square is not clipped to the planet's bounds.
+ */
+final class ChunkCursor {
+
+    private static final int ROW_LENGTH = 4096;
+
+    private final int originChunkX;
+    private final int originChunkZ;
+    private long position;
+
+    ChunkCursor(int originChunkX, int originChunkZ) {
+        this.originChunkX = originChunkX;
+        this.originChunkZ = originChunkZ;
+    }
+
+    /**
+     * Advance to the next chunk and return its packed index
+     */
+    long next() {
+        return position++ & 0xFFFFFFL;
+    }
+
+    int chunkX(long index) {
+        return originChunkX + (int) (index % ROW_LENGTH);
+    }
+
+    int chunkZ(long index) {
+        return originChunkZ + (int) (index / ROW_LENGTH);
+    }
+
+    /**
+     * World X of the chunk center
+     */
+    int centerX(long index) {
+        return (chunkX(index) << 4) + 8;
+    }
+
+    /**
+     * World Z of the chunk center
+     */
+    int centerZ(long index) {
+        return (chunkZ(index) << 4) + 8;
+    }
+}
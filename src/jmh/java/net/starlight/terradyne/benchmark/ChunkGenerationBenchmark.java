@@ -0,0 +1,99 @@
+package net.starlight.terradyne.benchmark;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.HeightLimitView;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.tick.SimpleTickScheduler;
+import net.starlight.terradyne.planet.biome.PhysicsBasedBiomeSource;
+import net.starlight.terradyne.planet.physics.PlanetModel;
+import net.starlight.terradyne.planet.terrain.UniversalChunkGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full 16×16×256 terrain generation (populateNoise) into a detached ProtoChunk
+ * COLD: a never-generated chunk each call (height grid and climate computed from scratch)
+ * WARM: cycles over pre-generated chunks, so only block selection and section writes are measured
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ChunkGenerationBenchmark {
+
+    public enum CacheState { COLD, WARM }
+
+    private static final HeightLimitView WORLD_HEIGHT = HeightLimitView.create(0, 256);
+    private static final int WARM_CHUNKS_SIDE = 8;
+
+    @Param({"EARTHLIKE", "VOLCANIC"})
+    public BenchmarkPlanets planet;
+
+    @Param({"COLD", "WARM"})
+    public CacheState cache;
+
+    private UniversalChunkGenerator generator;
+    private ChunkCursor cursor;
+    private int warmIndex;
+    private ProtoChunk chunk;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        PlanetModel model = planet.createModel();
+        generator = new UniversalChunkGenerator(model, new PhysicsBasedBiomeSource(model),
+                new Identifier("terradyne", model.getConfig().getPlanetName()));
+        cursor = new ChunkCursor(-1024, 300);
+
+        if (cache == CacheState.WARM) {
+            for (int i = 0; i < WARM_CHUNKS_SIDE * WARM_CHUNKS_SIDE; i++) {
+                generate(createChunk(new ChunkPos(i % WARM_CHUNKS_SIDE, i / WARM_CHUNKS_SIDE)));
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareChunk() {
+        ChunkPos pos;
+        if (cache == CacheState.COLD) {
+            long index = cursor.next();
+            pos = new ChunkPos(cursor.chunkX(index), cursor.chunkZ(index));
+        } else {
+            warmIndex = (warmIndex + 1) % (WARM_CHUNKS_SIDE * WARM_CHUNKS_SIDE);
+            pos = new ChunkPos(warmIndex % WARM_CHUNKS_SIDE, warmIndex / WARM_CHUNKS_SIDE);
+        }
+        chunk = createChunk(pos);
+    }
+
+    @Benchmark
+    public Chunk populateNoise() {
+        return generate(chunk);
+    }
+
+    private Chunk generate(ProtoChunk target) {
+        // Terrain generation ignores blender, noise config and structures - run inline on this thread
+        return generator.populateNoise(Runnable::run, null, null, null, target).join();
+    }
+
+    /**
+     * Empty proto chunk with explicit sections, so no biome registry (and no server) is needed
+     */
+    private static ProtoChunk createChunk(ChunkPos pos) {
+        ChunkSection[] sections = new ChunkSection[WORLD_HEIGHT.countVerticalSections()];
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = new ChunkSection(new PalettedContainer<>(Block.STATE_IDS, Blocks.AIR.getDefaultState(),
+                    PalettedContainer.PaletteProvider.BLOCK_STATE), null);
+        }
+        return new ProtoChunk(pos, UpgradeData.NO_UPGRADE_DATA, sections,
+                new SimpleTickScheduler<>(), new SimpleTickScheduler<>(), WORLD_HEIGHT, null, null);
+    }
+}
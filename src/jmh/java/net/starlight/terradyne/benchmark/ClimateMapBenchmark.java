@@ -0,0 +1,78 @@
+package net.starlight.terradyne.benchmark;
+
+import net.starlight.terradyne.planet.mapping.PlanetaryNoiseSystem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Climate maps with cold and warm region caches
+ * COLD: every call lands on a chunk never sampled before (includes the dependent maps' work)
+ * WARM: calls cycle over a pre-sampled block of chunks
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ClimateMapBenchmark {
+
+    public enum ClimateMap { TEMPERATURE, WIND, MOISTURE, HABITABILITY }
+    public enum CacheState { COLD, WARM }
+
+    private static final int WARM_CHUNKS_SIDE = 32; // One full region
+
+    @Param({"EARTHLIKE", "VOLCANIC"})
+    public BenchmarkPlanets planet;
+
+    @Param({"TEMPERATURE", "WIND", "MOISTURE", "HABITABILITY"})
+    public ClimateMap map;
+
+    @Param({"COLD", "WARM"})
+    public CacheState cache;
+
+    private PlanetaryNoiseSystem noiseSystem;
+    private ChunkCursor cursor;
+    private int warmIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        noiseSystem = planet.createModel().getNoiseSystem();
+        cursor = new ChunkCursor(-2048, -600);
+
+        if (cache == CacheState.WARM) {
+            for (int i = 0; i < WARM_CHUNKS_SIDE * WARM_CHUNKS_SIDE; i++) {
+                sample(warmX(i), warmZ(i));
+            }
+        }
+    }
+
+    @Benchmark
+    public double sampleClimate() {
+        if (cache == CacheState.COLD) {
+            long index = cursor.next();
+            return sample(cursor.centerX(index), cursor.centerZ(index));
+        }
+
+        warmIndex = (warmIndex + 1) & (WARM_CHUNKS_SIDE * WARM_CHUNKS_SIDE - 1);
+        return sample(warmX(warmIndex), warmZ(warmIndex));
+    }
+
+    private double sample(int worldX, int worldZ) {
+        return switch (map) {
+            case TEMPERATURE -> noiseSystem.sampleTemperature(worldX, worldZ);
+            case WIND -> noiseSystem.sampleWindSpeed(worldX, worldZ);
+            case MOISTURE -> noiseSystem.sampleMoisture(worldX, worldZ);
+            case HABITABILITY -> noiseSystem.sampleHabitability(worldX, worldZ);
+        };
+    }
+
+    private static int warmX(int index) {
+        return ((index % WARM_CHUNKS_SIDE) << 4) + 8;
+    }
+
+    private static int warmZ(int index) {
+        return ((index / WARM_CHUNKS_SIDE) << 4) + 8;
+    }
+}
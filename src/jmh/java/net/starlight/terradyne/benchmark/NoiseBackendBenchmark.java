@@ -0,0 +1,68 @@
+package net.starlight.terradyne.benchmark;
+
+import net.starlight.terradyne.planet.mapping.NoiseBackend;
+import net.starlight.terradyne.planet.mapping.NoiseBackends;
+import net.starlight.terradyne.planet.physics.NoiseBackendType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Noise backends - vanilla 3D simplex on a y slice vs native 2D simplex
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NoiseBackendBenchmark {
+
+    private static final int ROW_LENGTH = 48;
+
+    @Param({"VANILLA", "FAST_2D"})
+    public NoiseBackendType backend;
+
+    private NoiseBackend noise;
+    private final double[] x = new double[ROW_LENGTH];
+    private final double[] z = new double[ROW_LENGTH];
+    private final double[] out = new double[ROW_LENGTH];
+    private int step;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        noise = NoiseBackends.create(backend, 1234567890L);
+    }
+
+    /**
+     * One point at terrain frequency
+     */
+    @Benchmark
+    public double samplePoint() {
+        step++;
+        return noise.sample(step * 7 * 0.0024, step * 3 * 0.0024, 7);
+    }
+
+    /**
+     * A region-grid row in one call
+     */
+    @Benchmark
+    public double sampleRow() {
+        step++;
+        for (int i = 0; i < ROW_LENGTH; i++) {
+            x[i] = (i + 7 * step) * 0.0024;
+            z[i] = step * 0.0024;
+        }
+        noise.sampleRow(x, z, 7, out, ROW_LENGTH);
+        return out[ROW_LENGTH - 1];
+    }
+
+    /**
+     * Four-octave fractal sum, as the continental layer uses
+     */
+    @Benchmark
+    public double sampleOctaves() {
+        step++;
+        return noise.sampleOctaves(step * 7 * 0.0024, step * 3 * 0.0024, 0, 4, 3.0, 0.3, 1.0);
+    }
+}
@@ -0,0 +1,70 @@
+package net.starlight.terradyne.benchmark;
+
+import net.minecraft.util.math.noise.SimplexNoiseSampler;
+import net.minecraft.util.math.random.Random;
+import net.starlight.terradyne.planet.mapping.SimplexBatchSampler;
+import net.starlight.terradyne.planet.mapping.SimplexBatchSamplers;
+import net.starlight.terradyne.planet.mapping.VectorSimplexBatchSampler;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch simplex kernels - scalar sampler vs the Vector API kernel, per row
+ * Vector width follows the host (AVX2 = 256 bits, AVX-512 = 512); narrow it with
+ * -PjmhArgs="NoiseKernel -jvmArgsAppend -XX:MaxVectorSize=16"
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NoiseKernelBenchmark {
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    // Chunk grid row, and a region climate grid row
+    @Param({"16", "48"})
+    public int rowLength;
+
+    private SimplexBatchSampler sampler;
+    private double[] x;
+    private double[] z;
+    private double[] out;
+    private int row;
+
+    @Setup(Level.Trial)
+    public void setup() throws ReflectiveOperationException {
+        SimplexNoiseSampler noise = new SimplexNoiseSampler(Random.create(1234567890L));
+
+        if (kernel.equals("vector")) {
+            // No mixins outside the game - read the permutation table directly
+            Field permutation = SimplexNoiseSampler.class.getDeclaredField("permutation");
+            permutation.setAccessible(true);
+            sampler = new VectorSimplexBatchSampler((int[]) permutation.get(noise));
+        } else {
+            sampler = SimplexBatchSamplers.scalar(noise);
+        }
+
+        x = new double[rowLength];
+        z = new double[rowLength];
+        out = new double[rowLength];
+    }
+
+    /**
+     * One row at terrain frequency, advancing a row per call
+     */
+    @Benchmark
+    public double sampleRow() {
+        row++;
+        for (int i = 0; i < rowLength; i++) {
+            x[i] = (i + 7 * row) * 0.0024;
+            z[i] = row * 0.0024;
+        }
+        sampler.sample(x, 3.0, z, out, rowLength);
+        return out[rowLength - 1];
+    }
+}
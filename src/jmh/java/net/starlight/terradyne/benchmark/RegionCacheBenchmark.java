@@ -0,0 +1,76 @@
+package net.starlight.terradyne.benchmark;
+
+import net.starlight.terradyne.planet.mapping.RegionClimateTile;
+import net.starlight.terradyne.planet.mapping.RegionCompletionTracker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Region climate cache get/set through RegionCompletionTracker, as the climate maps use it
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RegionCacheBenchmark {
+
+    private static final String PLANET = "bench_cache";
+    private static final int WARM_CHUNKS_SIDE = 128; // 4×4 regions
+
+    private RegionCompletionTracker tracker;
+    private ChunkCursor cursor;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tracker = new RegionCompletionTracker();
+        cursor = new ChunkCursor(-8192, -8192);
+        for (int i = 0; i < WARM_CHUNKS_SIDE * WARM_CHUNKS_SIDE; i++) {
+            int chunkX = i % WARM_CHUNKS_SIDE;
+            int chunkZ = i / WARM_CHUNKS_SIDE;
+            tracker.getOrCreateClimateTile(RegionCompletionTracker.RegionKey.fromChunkCoords(PLANET, chunkX, chunkZ))
+                    .set(RegionClimateTile.TEMPERATURE, RegionClimateTile.index(chunkX, chunkZ), i);
+        }
+    }
+
+    /**
+     * Cache hit: key construction, tile lookup, presence check and value read
+     */
+    @Benchmark
+    public double getWarm() {
+        index = (index + 1) & (WARM_CHUNKS_SIDE * WARM_CHUNKS_SIDE - 1);
+        int chunkX = index % WARM_CHUNKS_SIDE;
+        int chunkZ = index / WARM_CHUNKS_SIDE;
+        RegionClimateTile tile = tracker.getOrCreateClimateTile(
+                RegionCompletionTracker.RegionKey.fromChunkCoords(PLANET, chunkX, chunkZ));
+        int tileIndex = RegionClimateTile.index(chunkX, chunkZ);
+        return tile.has(RegionClimateTile.TEMPERATURE, tileIndex) ? tile.get(RegionClimateTile.TEMPERATURE, tileIndex) : 0.0;
+    }
+
+    /**
+     * Store into an existing tile
+     */
+    @Benchmark
+    public void setWarm() {
+        index = (index + 1) & (WARM_CHUNKS_SIDE * WARM_CHUNKS_SIDE - 1);
+        int chunkX = index % WARM_CHUNKS_SIDE;
+        int chunkZ = index / WARM_CHUNKS_SIDE;
+        tracker.getOrCreateClimateTile(RegionCompletionTracker.RegionKey.fromChunkCoords(PLANET, chunkX, chunkZ))
+                .set(RegionClimateTile.MOISTURE, RegionClimateTile.index(chunkX, chunkZ), index);
+    }
+
+    /**
+     * Store into ever-new chunks - includes tile creation and CLOCK eviction once the budget fills
+     */
+    @Benchmark
+    public void setCold() {
+        long next = cursor.next();
+        int chunkX = cursor.chunkX(next);
+        int chunkZ = cursor.chunkZ(next);
+        tracker.getOrCreateClimateTile(RegionCompletionTracker.RegionKey.fromChunkCoords(PLANET, chunkX, chunkZ))
+                .set(RegionClimateTile.WIND_SPEED, RegionClimateTile.index(chunkX, chunkZ), next);
+    }
+}
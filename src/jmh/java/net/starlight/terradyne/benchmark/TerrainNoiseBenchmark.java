@@ -0,0 +1,62 @@
+package net.starlight.terradyne.benchmark;
+
+import net.starlight.terradyne.planet.mapping.PlanetaryNoiseSystem;
+import net.starlight.terradyne.planet.physics.PlanetModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Terrain height sampling - the innermost worldgen cost
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TerrainNoiseBenchmark {
+
+    @Param({"EARTHLIKE", "VOLCANIC"})
+    public BenchmarkPlanets planet;
+
+    private PlanetaryNoiseSystem noiseSystem;
+    private int worldX;
+    private int worldZ;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        PlanetModel model = planet.createModel();
+        noiseSystem = model.getNoiseSystem();
+    }
+
+    /**
+     * Full terrain noise stack for one column, bypassing the heightfield cache
+     */
+    @Benchmark
+    public double terrainNoiseSample() {
+        worldX += 7;
+        worldZ += 3;
+        return noiseSystem.getHeightfieldCache().sampleUncached(worldX & 0xFFFF, worldZ & 0xFFFF);
+    }
+
+    /**
+     * Public entry point - reads a chunk grid when present, otherwise samples the column
+     */
+    @Benchmark
+    public double sampleTerrainHeight() {
+        worldX += 7;
+        worldZ += 3;
+        return noiseSystem.sampleTerrainHeight(worldX & 0xFFFF, worldZ & 0xFFFF);
+    }
+
+    /**
+     * Tectonic activity (also evaluated once per terrain sample for domain warping)
+     */
+    @Benchmark
+    public double tectonicActivity() {
+        worldX += 7;
+        worldZ += 3;
+        return noiseSystem.sampleTectonicActivity(worldX & 0xFFFF, worldZ & 0xFFFF);
+    }
+}
@@ -0,0 +1,54 @@
+package net.starlight.terradyne.benchmark;
+
+import net.starlight.terradyne.planet.mapping.TectonicVolatilityManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tectonic volatility lookups - cached (warm), cache misses (cold) and the raw computation
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class VolatilityBenchmark {
+
+    private static final int WARM_SIDE = 256; // Blocks - well inside the default cache
+
+    @Param({"EARTHLIKE", "VOLCANIC"})
+    public BenchmarkPlanets planet;
+
+    private TectonicVolatilityManager volatility;
+    private ChunkCursor cursor;
+    private int warmIndex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        volatility = planet.createModel().getVolatilityManager();
+        cursor = new ChunkCursor(1024, 1024);
+        for (int i = 0; i < WARM_SIDE * WARM_SIDE; i++) {
+            volatility.getVolatilityAt(i % WARM_SIDE, i / WARM_SIDE);
+        }
+    }
+
+    @Benchmark
+    public int getVolatilityAtWarm() {
+        warmIndex = (warmIndex + 1) & (WARM_SIDE * WARM_SIDE - 1);
+        return volatility.getVolatilityAt(warmIndex % WARM_SIDE, warmIndex / WARM_SIDE);
+    }
+
+    @Benchmark
+    public int getVolatilityAtCold() {
+        long index = cursor.next();
+        return volatility.getVolatilityAt(cursor.centerX(index), cursor.centerZ(index));
+    }
+
+    @Benchmark
+    public int computeVolatilityUncached() {
+        long index = cursor.next();
+        return volatility.computeVolatilityUncached(cursor.centerX(index), cursor.centerZ(index));
+    }
+}
@@ -2,7 +2,9 @@ package net.starlight.terradyne;
 
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.minecraft.registry.Registry;
 import net.minecraft.registry.Registries;
@@ -14,9 +16,13 @@ import net.starlight.terradyne.blocks.ModBlocks;
 import net.starlight.terradyne.commands.CommandRegistry;
 import net.starlight.terradyne.planet.biome.ModBiomes;
 import net.starlight.terradyne.planet.biome.PhysicsBasedBiomeSource;
+import net.starlight.terradyne.planet.config.ExistingPlanetRegistry;
 import net.starlight.terradyne.planet.features.ModFeatures;
+import net.starlight.terradyne.planet.mapping.ClimateExportManager;
+import net.starlight.terradyne.planet.mapping.RegionCompletionTracker;
 import net.starlight.terradyne.planet.physics.PlanetModel;
 import net.starlight.terradyne.planet.physics.PlanetModelRegistry;
+import net.starlight.terradyne.planet.pregen.PregenManager;
 import net.starlight.terradyne.planet.terrain.UniversalChunkGenerator;
 import net.starlight.terradyne.planet.dimension.ModDimensionTypes;
 import net.starlight.terradyne.starsystem.DatapackLoader;
@@ -24,6 +30,9 @@ import net.starlight.terradyne.starsystem.TerradyneResourceReloadListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Main mod class - FIXED for data generation approach
  * Now properly initializes all required systems for tree generation
@@ -206,6 +215,13 @@ public class Terradyne implements ModInitializer {
             // Populate registry after worlds are loaded
             ServerLifecycleEvents.SERVER_STARTED.register(server -> {
                 populatePlanetModelRegistry(server);
+                PregenManager.resumeAll(server);
+            });
+
+            // Checkpoint pregeneration while the worlds can still save; abandon running map exports
+            ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+                PregenManager.shutdown();
+                ClimateExportManager.shutdown();
             });
 
             ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
@@ -215,6 +231,9 @@ public class Terradyne implements ModInitializer {
                 LOGGER.info("Server stopped - Terradyne cleaned up");
             });
 
+            registerCacheEvictionEvents();
+            PregenManager.init();
+
             LOGGER.info("✓ Server lifecycle events registered");
         } catch (Exception e) {
             LOGGER.error("❌ Failed to register server events!", e);
@@ -222,6 +241,68 @@ public class Terradyne implements ModInitializer {
         }
     }
 
+	// Player-distance sweep cadence for region climate caches (30 seconds)
+	private static final int CACHE_SWEEP_INTERVAL_TICKS = 600;
+
+	/**
+	 * Feed chunk-unload and player-distance signals into each planet's region cache
+	 * so climate tiles stay bounded during long uptime and pregeneration
+	 */
+	private void registerCacheEvictionEvents() {
+		ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> {
+			PlanetModel planetModel = getPlanetModel(world);
+			if (planetModel != null) {
+				planetModel.getCacheTracker().onChunkLoaded(regionKeyFor(planetModel,
+						chunk.getPos().x, chunk.getPos().z));
+			}
+		});
+
+		ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
+			PlanetModel planetModel = getPlanetModel(world);
+			if (planetModel != null) {
+				planetModel.getCacheTracker().onChunkUnloaded(regionKeyFor(planetModel,
+						chunk.getPos().x, chunk.getPos().z));
+			}
+		});
+
+		ServerTickEvents.END_WORLD_TICK.register(world -> {
+			if (world.getTime() % CACHE_SWEEP_INTERVAL_TICKS != 0) {
+				return;
+			}
+			PlanetModel planetModel = getPlanetModel(world);
+			if (planetModel == null) {
+				return;
+			}
+
+			List<RegionCompletionTracker.RegionKey> playerRegions = new ArrayList<>();
+			world.getPlayers().forEach(player -> playerRegions.add(regionKeyFor(planetModel,
+					player.getChunkPos().x, player.getChunkPos().z)));
+			PregenManager.addActiveRegions(world, playerRegions);
+
+			// Keep everything within view distance plus one region of margin for climate gradients
+			int keepRadius = (world.getServer().getPlayerManager().getViewDistance() >> 5) + 2;
+			int evicted = planetModel.getCacheTracker().evictRegionsAwayFrom(playerRegions, keepRadius);
+			if (evicted > 0) {
+				LOGGER.debug("Evicted {} region climate tiles for {} ({})", evicted,
+						planetModel.getConfig().getPlanetName(), planetModel.getCacheTracker().getStatistics());
+			}
+		});
+	}
+
+	private static RegionCompletionTracker.RegionKey regionKeyFor(PlanetModel planetModel, int chunkX, int chunkZ) {
+		return RegionCompletionTracker.RegionKey.fromChunkCoords(planetModel.getConfig().getPlanetName(), chunkX, chunkZ);
+	}
+
+	/**
+	 * Get the planet model behind a world, or null for non-Terradyne worlds
+	 */
+	public static PlanetModel getPlanetModel(ServerWorld world) {
+		if (world.getChunkManager().getChunkGenerator() instanceof UniversalChunkGenerator generator) {
+			return generator.getPlanetModel();
+		}
+		return null;
+	}
+
 	/**
 	 * Populate PlanetModelRegistry by scanning all loaded dimensions
 	 */
@@ -244,6 +325,7 @@ public class Terradyne implements ModInitializer {
 
 						if (planetModel != null) {
 							PlanetModelRegistry.register(dimensionKey.getValue(), planetModel);
+							planetModel.startClimateAtlas(ExistingPlanetRegistry.getCacheDirectory(server));
 							registered++;
 							LOGGER.info("✓ Registered PlanetModel for dimension: {} ({})",
 									dimensionKey.getValue(), planetModel.getConfig().getPlanetName());
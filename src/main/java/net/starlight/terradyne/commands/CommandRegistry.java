@@ -1,6 +1,7 @@
 package net.starlight.terradyne.commands;
 
 import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
@@ -12,10 +13,17 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.starlight.terradyne.Terradyne;
 import net.starlight.terradyne.planet.config.PlanetConfigLoader;
 import net.starlight.terradyne.planet.dimension.PlanetDimensionManager;
-import net.starlight.terradyne.planet.mapping.ClimateMapExporter;
+import net.starlight.terradyne.planet.mapping.ClimateExportManager;
+import net.starlight.terradyne.planet.mapping.StreamingMapExporter;
+import net.starlight.terradyne.planet.mapping.TerrainLatticeSampler;
 import net.starlight.terradyne.planet.physics.PlanetConfig;
+import net.starlight.terradyne.planet.physics.PlanetModel;
+import net.starlight.terradyne.planet.pregen.PregenManager;
 
 /**
  * Central command registry for all Terradyne commands
@@ -60,11 +68,56 @@ public class CommandRegistry {
                                         .executes(CommandRegistry::debugBiomeCommand)
                                 )
                         )
+                        .then(CommandManager.literal("terrain_sampling")
+                                .requires(source -> source.hasPermissionLevel(3)) // OP only
+                                .executes(context -> debugTerrainSamplingCommand(context, 4,
+                                        PlanetConfig.DEFAULT_TERRAIN_LATTICE_SPACING))
+                                // Runs on the server thread - 9×9 chunks at most keeps it to one short tick
+                                .then(CommandManager.argument("radius", IntegerArgumentType.integer(0, 4))
+                                        .executes(context -> debugTerrainSamplingCommand(context,
+                                                IntegerArgumentType.getInteger(context, "radius"),
+                                                PlanetConfig.DEFAULT_TERRAIN_LATTICE_SPACING))
+                                        .then(CommandManager.argument("spacing", IntegerArgumentType.integer(2, 16))
+                                                .executes(context -> debugTerrainSamplingCommand(context,
+                                                        IntegerArgumentType.getInteger(context, "radius"),
+                                                        IntegerArgumentType.getInteger(context, "spacing")))
+                                        )
+                                )
+                        )
                 )
                 .then(CommandManager.literal("reload")
                         .requires(source -> source.hasPermissionLevel(3)) // OP only
                         .executes(CommandRegistry::reloadConfigCommand)
                 )
+                .then(CommandManager.literal("pregen")
+                        .requires(source -> source.hasPermissionLevel(3)) // OP only
+                        .then(CommandManager.argument("planet", StringArgumentType.string())
+                                .suggests((context, builder) -> {
+                                    // Suggest available planets
+                                    getAvailablePlanets(context.getSource().getServer())
+                                            .forEach(builder::suggest);
+                                    return builder.buildFuture();
+                                })
+                                .then(CommandManager.literal("full")
+                                        .executes(context -> pregenStartCommand(context, -1))
+                                )
+                                .then(CommandManager.argument("radius", IntegerArgumentType.integer(0, 1_000_000))
+                                        .executes(context -> pregenStartCommand(context,
+                                                IntegerArgumentType.getInteger(context, "radius")))
+                                )
+                        )
+                )
+                // Own nodes - under pregen, "status" and "stop" would shadow planets of those names
+                .then(CommandManager.literal("pregenstatus")
+                        .requires(source -> source.hasPermissionLevel(3)) // OP only
+                        .executes(CommandRegistry::pregenStatusCommand)
+                )
+                .then(CommandManager.literal("pregenstop")
+                        .requires(source -> source.hasPermissionLevel(3)) // OP only
+                        .then(CommandManager.argument("planet", StringArgumentType.string())
+                                .executes(CommandRegistry::pregenStopCommand)
+                        )
+                )
                 .then(CommandManager.literal("export")
                         .then(CommandManager.argument("planet", StringArgumentType.string())
                                 .suggests((context, builder) -> {
@@ -74,6 +127,32 @@ public class CommandRegistry {
                                     return builder.buildFuture();
                                 })
                                 .executes(CommandRegistry::exportClimateCommand)
+                                .then(CommandManager.literal("large")
+                                        .requires(source -> source.hasPermissionLevel(3)) // OP only
+                                        .then(CommandManager.argument("map", StringArgumentType.word())
+                                                .suggests((context, builder) -> {
+                                                    for (StreamingMapExporter.Layer layer : StreamingMapExporter.Layer.values()) {
+                                                        builder.suggest(layer.getFileName());
+                                                    }
+                                                    return builder.buildFuture();
+                                                })
+                                                .then(CommandManager.argument("blocksPerPixel", IntegerArgumentType.integer(1, 256))
+                                                        .executes(context -> exportLargeCommand(context, false))
+                                                        .then(CommandManager.literal("raw")
+                                                                .executes(context -> exportLargeCommand(context, true))
+                                                        )
+                                                )
+                                        )
+                                )
+                        )
+                )
+                // Its own node - under export, "cancel" would shadow a planet of that name
+                .then(CommandManager.literal("exportcancel")
+                        .requires(source -> source.hasPermissionLevel(3)) // OP only
+                        .executes(context -> exportCancelCommand(context, null))
+                        .then(CommandManager.argument("planet", StringArgumentType.string())
+                                .executes(context -> exportCancelCommand(context,
+                                        StringArgumentType.getString(context, "planet")))
                         )
                 )
         );
@@ -279,7 +358,7 @@ public class CommandRegistry {
     }
 
     /**
-     * Export climate maps for a planet
+     * Export climate maps for a planet - runs in the background, reporting progress to the source
      */
     private static int exportClimateCommand(CommandContext<ServerCommandSource> context) {
         ServerCommandSource source = context.getSource();
@@ -294,22 +373,149 @@ public class CommandRegistry {
         }
 
         try {
-            source.sendFeedback(() -> Text.literal("🗺️ Exporting climate maps for ")
-                    .append(Text.literal(planetName).formatted(Formatting.GREEN))
-                    .append("...")
-                    .formatted(Formatting.WHITE), false);
+            String message = ClimateExportManager.start(source, planetName);
+            source.sendFeedback(() -> Text.literal("🗺️ " + message).formatted(Formatting.WHITE), false);
+            source.sendFeedback(() -> Text.literal("Cancel with ")
+                    .append(Text.literal("/terradyne exportcancel " + planetName).formatted(Formatting.AQUA))
+                    .formatted(Formatting.GRAY), false);
+            return 1;
+
+        } catch (Exception e) {
+            source.sendError(Text.literal("❌ Failed to export climate maps: " + e.getMessage()));
+            return 0;
+        }
+    }
 
-            // Export all climate maps
-            ClimateMapExporter.exportAllMaps(source.getServer(), planetName);
+    /**
+     * Stream one whole-planet map layer to disk at the given resolution - PNG, or float32 values when raw
+     */
+    private static int exportLargeCommand(CommandContext<ServerCommandSource> context, boolean raw) {
+        ServerCommandSource source = context.getSource();
+        String planetName = StringArgumentType.getString(context, "planet");
+        String mapName = StringArgumentType.getString(context, "map");
+        int blocksPerPixel = IntegerArgumentType.getInteger(context, "blocksPerPixel");
 
-            source.sendFeedback(() -> Text.literal("✅ Climate maps exported successfully! Check ")
-                    .append(Text.literal("saves/[world]/terradyne/exports/").formatted(Formatting.AQUA))
-                    .formatted(Formatting.GREEN), false);
+        StreamingMapExporter.Layer layer = StreamingMapExporter.Layer.byName(mapName);
+        if (layer == null) {
+            source.sendError(Text.literal("Unknown map '" + mapName + "'"));
+            return 0;
+        }
 
+        try {
+            String message = ClimateExportManager.startStreaming(source, planetName, layer, blocksPerPixel, raw);
+            source.sendFeedback(() -> Text.literal("🗺️ " + message).formatted(Formatting.WHITE), false);
+            source.sendFeedback(() -> Text.literal("Cancel with ")
+                    .append(Text.literal("/terradyne exportcancel " + planetName).formatted(Formatting.AQUA))
+                    .formatted(Formatting.GRAY), false);
             return 1;
+        } catch (Exception e) {
+            source.sendError(Text.literal("❌ Failed to start map export: " + e.getMessage()));
+            return 0;
+        }
+    }
 
+    /**
+     * Cancel a planet's climate export, or every export when planetName is null
+     */
+    private static int exportCancelCommand(CommandContext<ServerCommandSource> context, String planetName) {
+        ServerCommandSource source = context.getSource();
+
+        try {
+            String message = ClimateExportManager.cancel(planetName);
+            source.sendFeedback(() -> Text.literal(message).formatted(Formatting.YELLOW), false);
+            return 1;
         } catch (Exception e) {
-            source.sendError(Text.literal("❌ Failed to export climate maps: " + e.getMessage()));
+            source.sendError(Text.literal("❌ " + e.getMessage()));
+            return 0;
+        }
+    }
+
+    /**
+     * Pregenerate a planet around its center - radius in blocks, or -1 for the whole planet
+     */
+    private static int pregenStartCommand(CommandContext<ServerCommandSource> context, int radiusBlocks) {
+        ServerCommandSource source = context.getSource();
+        String planetName = StringArgumentType.getString(context, "planet");
+
+        try {
+            String message = PregenManager.start(source, planetName, radiusBlocks);
+            source.sendFeedback(() -> Text.literal("⛏ " + message).formatted(Formatting.GREEN), true);
+            source.sendFeedback(() -> Text.literal("Progress is reported every 10 seconds; stop with ")
+                    .append(Text.literal("/terradyne pregenstop " + planetName).formatted(Formatting.AQUA))
+                    .formatted(Formatting.GRAY), false);
+            return 1;
+        } catch (Exception e) {
+            source.sendError(Text.literal("❌ Failed to start pregeneration: " + e.getMessage()));
+            return 0;
+        }
+    }
+
+    /**
+     * Stop a pregeneration job, keeping its checkpoint
+     */
+    private static int pregenStopCommand(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        String planetName = StringArgumentType.getString(context, "planet");
+
+        try {
+            String message = PregenManager.stop(planetName);
+            source.sendFeedback(() -> Text.literal(message).formatted(Formatting.YELLOW), true);
+            return 1;
+        } catch (Exception e) {
+            source.sendError(Text.literal("❌ " + e.getMessage()));
+            return 0;
+        }
+    }
+
+    /**
+     * Show progress of every running pregeneration job
+     */
+    private static int pregenStatusCommand(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+
+        var status = PregenManager.getStatus();
+        if (status.isEmpty()) {
+            source.sendFeedback(() -> Text.literal("No pregeneration running").formatted(Formatting.YELLOW), false);
+            return 1;
+        }
+        for (String line : status) {
+            source.sendFeedback(() -> Text.literal(line).formatted(Formatting.WHITE), false);
+        }
+        return status.size();
+    }
+
+    /**
+     * Compare high-fidelity and interpolated terrain sampling around the source position
+     */
+    private static int debugTerrainSamplingCommand(CommandContext<ServerCommandSource> context, int radius, int spacing) {
+        ServerCommandSource source = context.getSource();
+
+        PlanetModel planetModel = Terradyne.getPlanetModel(source.getWorld());
+        if (planetModel == null) {
+            source.sendError(Text.literal("This command must be run in a Terradyne planet dimension"));
+            return 0;
+        }
+
+        if (!TerrainLatticeSampler.isSupportedSpacing(spacing)) {
+            source.sendError(Text.literal("Lattice spacing must be 2, 4, 8 or 16"));
+            return 0;
+        }
+
+        try {
+            ChunkPos center = new ChunkPos(BlockPos.ofFloored(source.getPosition()));
+            String report = planetModel.getNoiseSystem()
+                    .generateTerrainSamplingReport(center.x, center.z, radius, spacing);
+
+            source.sendFeedback(() -> Text.literal("=== TERRAIN SAMPLING REPORT ===")
+                    .formatted(Formatting.YELLOW, Formatting.BOLD), false);
+            for (String line : report.split("\\R")) {
+                source.sendFeedback(() -> Text.literal(line).formatted(Formatting.WHITE), false);
+            }
+            Terradyne.LOGGER.info(report);
+            return 1;
+
+        } catch (Exception e) {
+            source.sendError(Text.literal("Failed to generate terrain sampling report: " + e.getMessage()));
             return 0;
         }
     }
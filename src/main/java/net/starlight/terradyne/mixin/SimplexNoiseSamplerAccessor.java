@@ -0,0 +1,15 @@
+package net.starlight.terradyne.mixin;
+
+import net.minecraft.util.math.noise.SimplexNoiseSampler;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Exposes the simplex permutation table to the SIMD noise kernel
+ */
+@Mixin(SimplexNoiseSampler.class)
+public interface SimplexNoiseSamplerAccessor {
+
+    @Accessor("permutation")
+    int[] getPermutation();
+}
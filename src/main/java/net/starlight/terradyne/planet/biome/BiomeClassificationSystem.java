@@ -2,6 +2,7 @@ package net.starlight.terradyne.planet.biome;
 
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.world.biome.Biome;
+import net.starlight.terradyne.planet.mapping.ChunkClimateContext;
 import net.starlight.terradyne.planet.physics.PlanetModel;
 
 /**
@@ -20,14 +21,45 @@ public class BiomeClassificationSystem {
      * Classify biome at world coordinates using complete physics-based decision tree
      */
     public RegistryKey<Biome> classifyBiome(int worldX, int worldZ) {
-        // Sample all physics data for this location
+        // Sample all physics data for this location - point height lookups never build a chunk grid
+        ChunkClimateContext climate = planetModel.createChunkClimate(worldX >> 4, worldZ >> 4);
         double terrainHeight = planetModel.getTerrainHeight(worldX, worldZ);
+
+        return classifyBiome(worldX, worldZ, terrainHeight, climate);
+    }
+
+    /**
+     * Classify the 16 surface quarts (4×4 grid of 4-block cells) of a chunk in one batch
+     * Climate is memoized per chunk, so it is read once and shared by every quart;
+     * only height and volatility vary per quart
+     * @param out array of 16 entries, indexed (quartZ << 2) | quartX
+     */
+    public void classifyChunkSurface(int chunkX, int chunkZ, RegistryKey<Biome>[] out) {
+        int startX = chunkX << 4;
+        int startZ = chunkZ << 4;
+
+        // Shared chunk heightfield - terrain generation reuses it after the biome stage
+        ChunkClimateContext climate = planetModel.createChunkClimate(chunkX, chunkZ);
+
+        for (int quartZ = 0; quartZ < 4; quartZ++) {
+            for (int quartX = 0; quartX < 4; quartX++) {
+                int worldX = startX + (quartX << 2);
+                int worldZ = startZ + (quartZ << 2);
+                out[(quartZ << 2) | quartX] = classifyBiome(worldX, worldZ,
+                        climate.getTerrainHeight(worldX, worldZ), climate);
+            }
+        }
+    }
+
+    /**
+     * Classify biome with height already sampled and the chunk's memoized climate
+     */
+    private RegistryKey<Biome> classifyBiome(int worldX, int worldZ, double terrainHeight,
+                                             ChunkClimateContext climate) {
+        double temperature = climate.getTemperature();
         double seaLevel = planetModel.getPlanetData().getSeaLevel();
-        double temperature = planetModel.getTemperature(worldX, worldZ);
-        double humidity = planetModel.getMoisture(worldX, worldZ);
         double habitability = planetModel.getPlanetData().getHabitability();
         int volatility = planetModel.getVolatilityAt(worldX, worldZ);
-        double windSpeed = planetModel.getNoiseSystem().sampleWindSpeed(worldX, worldZ);
         double elevationAboveSeaLevel = terrainHeight - seaLevel;
 
         // === EXTREME TEMPERATURE OVERRIDES ===
@@ -42,8 +74,8 @@ public class BiomeClassificationSystem {
         if (terrainHeight <= seaLevel) {
             return classifyWaterBiome(temperature, habitability);
         } else {
-            return classifyLandBiome(temperature, humidity, habitability, volatility,
-                                   windSpeed, elevationAboveSeaLevel);
+            return classifyLandBiome(temperature, climate.getMoisture(), habitability, volatility,
+                                   climate.getWindSpeed(), elevationAboveSeaLevel);
         }
     }
     
@@ -12,6 +12,7 @@ import net.minecraft.world.biome.source.util.MultiNoiseUtil;
 import net.starlight.terradyne.Terradyne;
 import net.starlight.terradyne.planet.physics.PlanetModel;
 
+import java.util.Arrays;
 import java.util.stream.Stream;
 
 import static net.starlight.terradyne.Terradyne.server;
@@ -88,6 +89,29 @@ public class PhysicsBasedBiomeSource extends BiomeSource {
         }
     }
 
+    /**
+     * Classify a chunk's 16 surface quarts in one batch (biomes ignore Y)
+     * @return registry entries indexed (quartZ << 2) | quartX
+     */
+    @SuppressWarnings("unchecked")
+    public RegistryEntry<Biome>[] getChunkSurfaceBiomes(int chunkX, int chunkZ) {
+        RegistryKey<Biome>[] keys = new RegistryKey[16];
+        RegistryEntry<Biome>[] entries = new RegistryEntry[16];
+
+        try {
+            classifier.classifyChunkSurface(chunkX, chunkZ, keys);
+        } catch (Exception e) {
+            Terradyne.LOGGER.error("Error classifying biomes for chunk ({}, {}): {}", chunkX, chunkZ, e.getMessage());
+            Arrays.fill(keys, ModBiomes.DEBUG);
+        }
+
+        // Neighbouring quarts usually share a biome - resolve each key once
+        for (int i = 0; i < 16; i++) {
+            entries[i] = (i > 0 && keys[i] == keys[i - 1]) ? entries[i - 1] : getBiomeEntry(keys[i]);
+        }
+        return entries;
+    }
+
     /**
      * Get all possible biomes this source can generate
      */
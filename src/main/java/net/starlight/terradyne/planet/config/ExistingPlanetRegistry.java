@@ -249,6 +249,20 @@ public class ExistingPlanetRegistry {
         return String.valueOf(config.toString().hashCode());
     }
 
+    /**
+     * Get the directory for derived planet caches (climate atlases) in the current world
+     */
+    public static Path getCacheDirectory(MinecraftServer server) {
+        return getTerradyneConfigDirectory(server).resolve("cache");
+    }
+
+    /**
+     * Get the directory holding pregeneration checkpoints
+     */
+    public static Path getPregenDirectory(MinecraftServer server) {
+        return getTerradyneConfigDirectory(server).resolve("pregen");
+    }
+
     /**
      * Get the Terradyne config directory for the current world
      */
@@ -0,0 +1,89 @@
+package net.starlight.terradyne.planet.mapping;
+
+/**
+ * Memoized climate of one chunk for a single generation pass
+ * The first climate read resolves the chunk's region tile once (the builder fills temperature, wind,
+ * moisture and habitability in dependency order); every field is then read from it at most once.
+ * The height grid is likewise fetched on first use. After that, reads are plain field accesses -
+ * no region or chunk keys and no hash lookups.
+ *
+ * Not thread-safe: create one per chunk per generation stage, on the thread that uses it.
+ */
+public final class ChunkClimateContext {
+
+    private final int chunkX;
+    private final int chunkZ;
+    private final ChunkHeightfieldCache terrainHeights;
+    private final RegionClimateBuilder climateBuilder;
+
+    // === LAZY FIELDS (NaN / null until first read) ===
+    private double[] heightGrid;
+    private RegionClimateTile tile;
+    private double temperature = Double.NaN;
+    private double windSpeed = Double.NaN;
+    private double moisture = Double.NaN;
+    private double habitability = Double.NaN;
+
+    ChunkClimateContext(int chunkX, int chunkZ, ChunkHeightfieldCache terrainHeights,
+                        RegionClimateBuilder climateBuilder) {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+        this.terrainHeights = terrainHeights;
+        this.climateBuilder = climateBuilder;
+    }
+
+    public int getChunkX() { return chunkX; }
+    public int getChunkZ() { return chunkZ; }
+
+    /**
+     * The chunk's shared 16×16 height grid, indexed (localZ << 4) | localX - do not modify
+     */
+    public double[] getHeightGrid() {
+        if (heightGrid == null) {
+            heightGrid = terrainHeights.getGrid(chunkX, chunkZ);
+        }
+        return heightGrid;
+    }
+
+    /**
+     * Terrain height of a column in this chunk (world or local coordinates)
+     */
+    public double getTerrainHeight(int x, int z) {
+        return getHeightGrid()[ChunkHeightfieldCache.index(x, z)];
+    }
+
+    public double getTemperature() {
+        if (Double.isNaN(temperature)) {
+            temperature = readClimate(RegionClimateTile.TEMPERATURE);
+        }
+        return temperature;
+    }
+
+    public double getWindSpeed() {
+        if (Double.isNaN(windSpeed)) {
+            windSpeed = readClimate(RegionClimateTile.WIND_SPEED);
+        }
+        return windSpeed;
+    }
+
+    public double getMoisture() {
+        if (Double.isNaN(moisture)) {
+            moisture = readClimate(RegionClimateTile.MOISTURE);
+        }
+        return moisture;
+    }
+
+    public double getHabitability() {
+        if (Double.isNaN(habitability)) {
+            habitability = readClimate(RegionClimateTile.HABITABILITY);
+        }
+        return habitability;
+    }
+
+    private double readClimate(int field) {
+        if (tile == null) {
+            tile = climateBuilder.getCompleteTile(chunkX, chunkZ);
+        }
+        return tile.get(field, RegionClimateTile.index(chunkX, chunkZ));
+    }
+}
@@ -0,0 +1,202 @@
+package net.starlight.terradyne.planet.mapping;
+
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-planet cache of 16×16 terrain height grids, keyed by packed chunk position
+ * Terrain generation, getHeight, getColumnSample and biome classification all read the same grid,
+ * so each column's height is computed once per chunk instead of once per caller.
+ * Computation is single-flight: concurrent callers for the same chunk wait on one future.
+ * Bounded by entry count with first-in-first-out eviction - a chunk's grid is only hot
+ * between its structure, biome and noise stages.
+ */
+public final class ChunkHeightfieldCache {
+
+    public static final int DEFAULT_MAX_CHUNKS = 4096; // ~8.5 MB of double grids
+    private static final int GRID_SIZE = 16 * 16;
+
+    private final TerrainNoiseMap terrainMap;
+    private final TerrainLatticeSampler latticeSampler; // null = HIGH_FIDELITY (every column sampled)
+    private final int maxChunks;
+
+    private final ConcurrentHashMap<Long, CompletableFuture<double[]>> grids = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    ChunkHeightfieldCache(TerrainNoiseMap terrainMap, TerrainLatticeSampler latticeSampler, int maxChunks) {
+        this.terrainMap = terrainMap;
+        this.latticeSampler = latticeSampler;
+        this.maxChunks = Math.max(16, maxChunks);
+    }
+
+    /**
+     * Index of a column within a grid (local x/z, or any world x/z)
+     */
+    public static int index(int x, int z) {
+        return ((z & 15) << 4) | (x & 15);
+    }
+
+    /**
+     * Get the height grid for a chunk, computing it if absent
+     * The returned array is shared - callers must not modify it
+     */
+    public double[] getGrid(int chunkX, int chunkZ) {
+        Long key = ChunkPos.toLong(chunkX, chunkZ);
+
+        CompletableFuture<double[]> existing = grids.get(key);
+        if (existing == null) {
+            CompletableFuture<double[]> created = new CompletableFuture<>();
+            existing = grids.putIfAbsent(key, created);
+            if (existing == null) {
+                misses.increment();
+                Entry entry = new Entry(key, created);
+                insertionOrder.add(entry);
+                enforceBound();
+                return computeGrid(entry, chunkX, chunkZ);
+            }
+        }
+
+        hits.increment();
+        return existing.join();
+    }
+
+    /**
+     * Get the height grid for a chunk only if it is already computed
+     */
+    public double[] getGridIfPresent(int chunkX, int chunkZ) {
+        CompletableFuture<double[]> future = grids.get(ChunkPos.toLong(chunkX, chunkZ));
+        if (future == null || !future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.getNow(null);
+    }
+
+    /**
+     * Sample height at one column - reads the chunk's grid if present, otherwise samples directly
+     * Point lookups never build a whole grid; the value is identical either way
+     */
+    public double sample(int worldX, int worldZ) {
+        double[] grid = getGridIfPresent(worldX >> 4, worldZ >> 4);
+        if (grid != null) {
+            return grid[index(worldX, worldZ)];
+        }
+        return sampleUncached(worldX, worldZ);
+    }
+
+    /**
+     * Sample one column in the planet's terrain sampling mode, bypassing the cache
+     */
+    public double sampleUncached(int worldX, int worldZ) {
+        return latticeSampler != null ? latticeSampler.sample(worldX, worldZ) : terrainMap.sample(worldX, worldZ);
+    }
+
+    /**
+     * Fill a chunk grid in the planet's terrain sampling mode, bypassing the cache
+     */
+    void fillGridUncached(int chunkX, int chunkZ, double[] grid) {
+        if (latticeSampler != null) {
+            latticeSampler.fillChunk(chunkX, chunkZ, grid);
+            return;
+        }
+
+        int startX = chunkX << 4;
+        int startZ = chunkZ << 4;
+        for (int z = 0; z < 16; z++) {
+            terrainMap.sampleRow(startX, 1, startZ + z, 16, grid, z << 4);
+        }
+    }
+
+    /**
+     * Sample a row of columns at (startX + i * stepX, worldZ) in the planet's terrain sampling mode,
+     * bypassing the cache - per-column mode evaluates the row in one batch
+     */
+    void sampleRowUncached(int startX, int stepX, int worldZ, int count, double[] out, int outOffset) {
+        if (latticeSampler == null) {
+            terrainMap.sampleRow(startX, stepX, worldZ, count, out, outOffset);
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            out[outOffset + i] = latticeSampler.sample(startX + i * stepX, worldZ);
+        }
+    }
+
+    private double[] computeGrid(Entry entry, int chunkX, int chunkZ) {
+        try {
+            double[] grid = new double[GRID_SIZE];
+            fillGridUncached(chunkX, chunkZ, grid);
+            entry.future.complete(grid);
+            return grid;
+        } catch (RuntimeException e) {
+            // Don't cache failures - the next caller retries with a fresh entry
+            grids.remove(entry.key, entry.future);
+            insertionOrder.remove(entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Drop the oldest computed grids until the cache is back within its bound
+     * Grids still being computed go back to the tail - evicting them would make their waiters recompute.
+     * Each queued entry is looked at most once per call.
+     */
+    private void enforceBound() {
+        int remaining = insertionOrder.size();
+        while (grids.size() > maxChunks && remaining-- > 0) {
+            Entry oldest = insertionOrder.poll();
+            if (oldest == null) {
+                break;
+            }
+            if (!oldest.future.isDone()) {
+                insertionOrder.add(oldest);
+                continue;
+            }
+            // Only remove the grid this entry queued - never a newer one for the same chunk
+            if (grids.remove(oldest.key, oldest.future)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * One queued grid - identity matters, so a retried chunk gets a new entry
+     */
+    private static final class Entry {
+        final Long key;
+        final CompletableFuture<double[]> future;
+
+        Entry(Long key, CompletableFuture<double[]> future) {
+            this.key = key;
+            this.future = future;
+        }
+    }
+
+    public void clear() {
+        grids.clear();
+        insertionOrder.clear();
+    }
+
+    public int size() {
+        return grids.size();
+    }
+
+    public double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    public String getStatistics() {
+        return String.format("HeightfieldCache{chunks=%d/%d, hitRate=%.1f%%, evictions=%d, sampling=%s}",
+                grids.size(), maxChunks, getHitRate() * 100.0, evictions.sum(),
+                latticeSampler != null ? "lattice/" + latticeSampler.getSpacing() : "per-column");
+    }
+}
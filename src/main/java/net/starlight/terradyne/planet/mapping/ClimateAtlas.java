@@ -0,0 +1,188 @@
+package net.starlight.terradyne.planet.mapping;
+
+import java.nio.FloatBuffer;
+import java.util.stream.IntStream;
+
+/**
+ * Planet-wide coarse climate atlas
+ * One sample every 'spacing' blocks over the whole planet square [-circumference/2, circumference/2]²
+ * for height, temperature, moisture, wind, habitability and volatility, served by bilinear lookup.
+ * A 40,000 block planet at 64 blocks is ~392k cells per field (~9 MB for all six).
+ *
+ * For maps, searches and coarse classification - not for chunk generation. Climate is derived from the
+ * atlas's own height and temperature grids: gradient probes that fall between cells are interpolated and
+ * water distance is measured at cell resolution, so values differ slightly from the per-chunk climate.
+ *
+ * Fields are float buffers: heap arrays when freshly built, or views of a memory-mapped cache file
+ * (see ClimateAtlasStore) when loaded from disk.
+ */
+public final class ClimateAtlas {
+
+    public enum Field {
+        HEIGHT, TEMPERATURE, MOISTURE, WIND_SPEED, HABITABILITY, VOLATILITY
+    }
+
+    static final int FIELD_COUNT = Field.values().length;
+
+    private final int spacing;
+    private final int originX;
+    private final int originZ;
+    private final int width;
+    private final int height;
+    private final FloatBuffer[] values;  // [field], indexed row * width + col
+
+    ClimateAtlas(int spacing, int originX, int originZ, int width, int height, FloatBuffer[] values) {
+        this.spacing = spacing;
+        this.originX = originX;
+        this.originZ = originZ;
+        this.width = width;
+        this.height = height;
+        this.values = values;
+    }
+
+    /**
+     * Compute the atlas for a planet, rows split across ForkJoin workers
+     */
+    static ClimateAtlas build(int circumference, int spacing, ChunkHeightfieldCache terrainHeights,
+                              TemperatureNoiseMap temperatureMap, WindNoiseMap windMap,
+                              MoistureNoiseMap moistureMap, HabitabilityNoiseMap habitabilityMap,
+                              TectonicVolatilityManager volatilityManager) {
+        int half = circumference / 2;
+        int origin = -Math.floorDiv(half, spacing) * spacing;
+        int cells = Math.floorDiv(half, spacing) * 2 + 1;
+        float[][] arrays = new float[FIELD_COUNT][cells * cells];
+        FloatBuffer[] buffers = new FloatBuffer[FIELD_COUNT];
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            buffers[field] = FloatBuffer.wrap(arrays[field]);
+        }
+        ClimateAtlas atlas = new ClimateAtlas(spacing, origin, origin, cells, cells, buffers);
+
+        float[] terrain = arrays[Field.HEIGHT.ordinal()];
+        float[] temperature = arrays[Field.TEMPERATURE.ordinal()];
+        float[] windSpeed = arrays[Field.WIND_SPEED.ordinal()];
+        float[] moisture = arrays[Field.MOISTURE.ordinal()];
+        float[] habitability = arrays[Field.HABITABILITY.ordinal()];
+        float[] volatility = arrays[Field.VOLATILITY.ordinal()];
+
+        // === PASS 1: HEIGHT + VOLATILITY (the only full noise evaluations) ===
+        atlas.forEachCell((i, worldX, worldZ) -> {
+            terrain[i] = (float) terrainHeights.sampleUncached(worldX, worldZ);
+            volatility[i] = volatilityManager.computeVolatilityUncached(worldX, worldZ);
+        });
+
+        // === PASS 2: TEMPERATURE ===
+        atlas.forEachCell((i, worldX, worldZ) ->
+                temperature[i] = (float) temperatureMap.computeTemperature(worldX, worldZ, terrain[i]));
+
+        // === PASS 3: WIND (gradients probe the height and temperature grids) ===
+        int d = WindNoiseMap.GRADIENT_SAMPLE_DISTANCE;
+        atlas.forEachCell((i, worldX, worldZ) -> windSpeed[i] = (float) windMap.computeWindSpeed(worldX, worldZ,
+                WindNoiseMap.elevationGradient(atlas.lerp(Field.HEIGHT, worldX + d, worldZ), atlas.lerp(Field.HEIGHT, worldX - d, worldZ)),
+                WindNoiseMap.elevationGradient(atlas.lerp(Field.HEIGHT, worldX, worldZ + d), atlas.lerp(Field.HEIGHT, worldX, worldZ - d)),
+                WindNoiseMap.temperatureGradient(atlas.lerp(Field.TEMPERATURE, worldX + d, worldZ), atlas.lerp(Field.TEMPERATURE, worldX - d, worldZ)),
+                WindNoiseMap.temperatureGradient(atlas.lerp(Field.TEMPERATURE, worldX, worldZ + d), atlas.lerp(Field.TEMPERATURE, worldX, worldZ - d))));
+
+        // === PASS 4: MOISTURE (distance to water from a planet-wide transform of the height grid) ===
+        boolean[] water = new boolean[cells * cells];
+        for (int i = 0; i < water.length; i++) {
+            water[i] = moistureMap.isWater(terrain[i]);
+        }
+        float[] waterDistance = WaterDistanceField.compute(water, cells, cells, spacing);
+        atlas.forEachCell((i, worldX, worldZ) ->
+                moisture[i] = (float) moistureMap.computeMoisture(worldX, worldZ, windSpeed[i], waterDistance[i]));
+
+        // === PASS 5: HABITABILITY ===
+        atlas.forEachCell((i, worldX, worldZ) -> habitability[i] = (float) habitabilityMap.computeHabitability(
+                worldX, worldZ, temperature[i], terrain[i], moisture[i], windSpeed[i]));
+
+        return atlas;
+    }
+
+    /**
+     * Bilinear lookup of a field at world coordinates, clamped to the planet edge
+     */
+    public double sample(Field field, double worldX, double worldZ) {
+        return lerp(field, worldX, worldZ);
+    }
+
+    /**
+     * Raw cell value (col along X, row along Z)
+     */
+    public float getCell(Field field, int col, int row) {
+        return values[field.ordinal()].get(row * width + col);
+    }
+
+    /**
+     * Minimum and maximum of a field over the whole planet
+     */
+    public float[] getRange(Field field) {
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+        FloatBuffer buffer = values[field.ordinal()];
+        for (int i = 0, n = width * height; i < n; i++) {
+            float value = buffer.get(i);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return new float[]{min, max};
+    }
+
+    public int getSpacing() { return spacing; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+    public int getOriginX() { return originX; }
+    public int getOriginZ() { return originZ; }
+
+    public long getEstimatedBytes() {
+        return (long) FIELD_COUNT * width * height * Float.BYTES;
+    }
+
+    /**
+     * Read-only view of a field for persistence
+     */
+    FloatBuffer fieldBuffer(Field field) {
+        return values[field.ordinal()].duplicate().clear();
+    }
+
+    private double lerp(Field fieldName, double worldX, double worldZ) {
+        FloatBuffer field = values[fieldName.ordinal()];
+        double fx = clamp((worldX - originX) / spacing, width - 1);
+        double fz = clamp((worldZ - originZ) / spacing, height - 1);
+        int col = Math.min((int) fx, width - 2);
+        int row = Math.min((int) fz, height - 2);
+        double tx = fx - col;
+        double tz = fz - row;
+
+        int i = row * width + col;
+        float v00 = field.get(i);
+        float v10 = field.get(i + 1);
+        float v01 = field.get(i + width);
+        float v11 = field.get(i + width + 1);
+        double top = v00 + (v10 - v00) * tx;
+        double bottom = v01 + (v11 - v01) * tx;
+        return top + (bottom - top) * tz;
+    }
+
+    private static double clamp(double value, int max) {
+        return Math.max(0.0, Math.min(max, value));
+    }
+
+    private void forEachCell(CellTask task) {
+        IntStream.range(0, height).parallel().forEach(row -> {
+            int worldZ = originZ + row * spacing;
+            for (int col = 0; col < width; col++) {
+                task.run(row * width + col, originX + col * spacing, worldZ);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface CellTask {
+        void run(int index, int worldX, int worldZ);
+    }
+
+    public String getStatistics() {
+        return String.format("ClimateAtlas{spacing=%d, cells=%dx%d, memory=%.1fMB}",
+                spacing, width, height, getEstimatedBytes() / (1024.0 * 1024.0));
+    }
+}
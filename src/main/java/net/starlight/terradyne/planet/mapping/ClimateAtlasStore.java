@@ -0,0 +1,176 @@
+package net.starlight.terradyne.planet.mapping;
+
+import net.starlight.terradyne.Terradyne;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * On-disk cache of a planet's climate atlas (saves/world/terradyne/cache/planet.atlas)
+ * Loaded files are memory-mapped and served directly as the atlas fields - no parsing, and the
+ * OS pages cells in on demand. Files are keyed by the planet's generation config hash and the
+ * format version; any mismatch means the file is stale and the atlas must be rebuilt.
+ *
+ * Layout (little-endian):
+ *   0  int    magic 'TDCA'
+ *   4  int    format version
+ *   8  int    spacing
+ *   12 int    origin X
+ *   16 int    origin Z
+ *   20 int    width
+ *   24 int    height
+ *   28 int    field count
+ *   32 int    config hash length
+ *   36 byte[] config hash (UTF-8, zero padded to the header end)
+ *   64 float  fields in ClimateAtlas.Field order, each width * height, row-major
+ */
+final class ClimateAtlasStore {
+
+    private static final int MAGIC = 0x54444341;    // 'TDCA'
+    static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int MAX_HASH_BYTES = HEADER_BYTES - 36;
+    private static final String FILE_EXTENSION = ".atlas";
+
+    private ClimateAtlasStore() {}
+
+    /**
+     * Cache file for a planet inside the cache directory
+     */
+    static Path atlasFile(Path cacheDirectory, String planetName) {
+        return cacheDirectory.resolve(planetName.toLowerCase().replace(" ", "_") + FILE_EXTENSION);
+    }
+
+    /**
+     * Map a cached atlas, or null if there is no file or it does not match the expected config and spacing
+     */
+    static ClimateAtlas load(Path file, String configHash, int spacing) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (!readFully(channel, header)) {
+                Terradyne.LOGGER.warn("Climate atlas cache {} is truncated, rebuilding", file);
+                return null;
+            }
+            header.flip();
+
+            int magic = header.getInt();
+            int version = header.getInt();
+            int fileSpacing = header.getInt();
+            int originX = header.getInt();
+            int originZ = header.getInt();
+            int width = header.getInt();
+            int height = header.getInt();
+            int fieldCount = header.getInt();
+            int hashLength = header.getInt();
+
+            if (magic != MAGIC || version != FORMAT_VERSION || fieldCount != ClimateAtlas.FIELD_COUNT
+                    || hashLength < 0 || hashLength > MAX_HASH_BYTES) {
+                Terradyne.LOGGER.info("Climate atlas cache {} has an old format (version {}), rebuilding", file, version);
+                return null;
+            }
+
+            byte[] hashBytes = new byte[hashLength];
+            header.get(hashBytes);
+            String fileHash = new String(hashBytes, StandardCharsets.UTF_8);
+            if (!fileHash.equals(configHash) || fileSpacing != spacing) {
+                Terradyne.LOGGER.info("Climate atlas cache {} was built for a different planet config, rebuilding", file);
+                return null;
+            }
+
+            long fieldBytes = (long) width * height * Float.BYTES;
+            if (width < 2 || height < 2 || channel.size() != HEADER_BYTES + fieldBytes * fieldCount) {
+                Terradyne.LOGGER.warn("Climate atlas cache {} has an unexpected size, rebuilding", file);
+                return null;
+            }
+
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, fieldBytes * fieldCount);
+            FloatBuffer[] fields = new FloatBuffer[fieldCount];
+            for (int field = 0; field < fieldCount; field++) {
+                ByteBuffer slice = data.duplicate();
+                slice.position((int) (field * fieldBytes)).limit((int) ((field + 1) * fieldBytes));
+                fields[field] = slice.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+            }
+            return new ClimateAtlas(fileSpacing, originX, originZ, width, height, fields);
+
+        } catch (IOException e) {
+            Terradyne.LOGGER.warn("Failed to read climate atlas cache {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Write an atlas to its cache file - written to a temporary file and moved into place,
+     * so a crash never leaves a half-written file behind
+     */
+    static void save(Path file, ClimateAtlas atlas, String configHash) throws IOException {
+        byte[] hashBytes = configHash.getBytes(StandardCharsets.UTF_8);
+        if (hashBytes.length > MAX_HASH_BYTES) {
+            throw new IllegalArgumentException("Config hash too long for atlas header: " + configHash);
+        }
+
+        Files.createDirectories(file.getParent());
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putInt(atlas.getSpacing())
+                    .putInt(atlas.getOriginX())
+                    .putInt(atlas.getOriginZ())
+                    .putInt(atlas.getWidth())
+                    .putInt(atlas.getHeight())
+                    .putInt(ClimateAtlas.FIELD_COUNT)
+                    .putInt(hashBytes.length)
+                    .put(hashBytes);
+            header.clear();
+            writeFully(channel, header);
+
+            ByteBuffer fieldBytes = ByteBuffer.allocate(atlas.getWidth() * atlas.getHeight() * Float.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            for (ClimateAtlas.Field field : ClimateAtlas.Field.values()) {
+                fieldBytes.clear();
+                fieldBytes.asFloatBuffer().put(atlas.fieldBuffer(field));
+                writeFully(channel, fieldBytes);
+            }
+            channel.force(false);
+        }
+
+        try {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
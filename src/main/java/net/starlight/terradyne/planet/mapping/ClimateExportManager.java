@@ -0,0 +1,241 @@
+package net.starlight.terradyne.planet.mapping;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import net.starlight.terradyne.Terradyne;
+import net.starlight.terradyne.planet.physics.PlanetModel;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs climate map exports (/terradyne export) in the background instead of on the server thread
+ * Covers both the 512×512 climate map set and streamed whole-planet layers. At most one export per planet.
+ * Every export shares one small ForkJoin pool of low-priority workers (a quarter of the cores). Region
+ * climate tiles built during an export run their row passes on that same pool, so all export work is
+ * bounded by it; each job's driver thread only waits on the pool. Progress and results go back to the
+ * command source on the server thread.
+ */
+public final class ClimateExportManager {
+
+    private static final int WORKER_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+    private static final int PROGRESS_STEP_PERCENT = 25;
+
+    private static final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private static ForkJoinPool workers;
+
+    private ClimateExportManager() {}
+
+    /**
+     * Start exporting a planet's climate maps
+     * @return a message describing what was started
+     * @throws IllegalArgumentException if the planet does not exist
+     * @throws IllegalStateException if the planet is already being exported
+     */
+    public static String start(ServerCommandSource source, String planetName) {
+        PlanetModel planetModel = findPlanetModel(source, planetName);
+        Path exportDir = ClimateMapExporter.getExportDirectory(source.getServer());
+
+        submit(source, planetName, "sampled", (executor, progress) -> {
+            ClimateMapExporter.exportAllMaps(planetModel, exportDir, planetName, executor, progress);
+            return "saves/[world]/terradyne/exports/";
+        });
+        return "Exporting climate maps for " + planetName + " in the background";
+    }
+
+    /**
+     * Start streaming one whole-planet map layer to disk
+     * @param blocksPerPixel world blocks per pixel side (1 = full resolution)
+     * @param raw write float32 values instead of a PNG
+     * @throws IllegalArgumentException if the planet does not exist or the layer has no raw form
+     * @throws IllegalStateException if the planet is already being exported
+     */
+    public static String startStreaming(ServerCommandSource source, String planetName, StreamingMapExporter.Layer layer,
+                                        int blocksPerPixel, boolean raw) {
+        if (raw && !layer.isScalar()) {
+            throw new IllegalArgumentException("The " + layer.getFileName() + " map has no raw form");
+        }
+        PlanetModel planetModel = findPlanetModel(source, planetName);
+        Path exportDir = ClimateMapExporter.getExportDirectory(source.getServer());
+
+        submit(source, planetName, "written", (executor, progress) -> {
+            Path output = StreamingMapExporter.export(planetModel, exportDir, planetName, layer, blocksPerPixel, raw,
+                    executor, WORKER_THREADS * 2, progress);
+            return "saves/[world]/terradyne/exports/" + output.getFileName();
+        });
+
+        int size = (planetModel.getConfig().getCircumference() + blocksPerPixel - 1) / blocksPerPixel;
+        return String.format("Streaming the %s map of %s (%d×%d, %s) in the background",
+                layer.getFileName(), planetName, size, size, raw ? "float32" : "PNG");
+    }
+
+    /**
+     * Cancel a planet's export, or every export when planetName is null
+     * @throws IllegalArgumentException if nothing matching is running
+     */
+    public static String cancel(String planetName) {
+        List<String> cancelled = new ArrayList<>();
+        for (Map.Entry<String, ExportJob> entry : jobs.entrySet()) {
+            if (planetName == null || entry.getKey().equals(normalize(planetName))) {
+                entry.getValue().cancelled = true;
+                cancelled.add(entry.getValue().planetName);
+            }
+        }
+
+        if (cancelled.isEmpty()) {
+            throw new IllegalArgumentException(planetName == null
+                    ? "No climate export running" : "No climate export running for '" + planetName + "'");
+        }
+        return "Cancelling climate export of " + String.join(", ", cancelled);
+    }
+
+    /**
+     * Cancel every export and stop the worker pool when the server stops
+     */
+    public static synchronized void shutdown() {
+        for (ExportJob job : jobs.values()) {
+            job.cancelled = true;
+        }
+        if (workers != null) {
+            workers.shutdownNow();
+            try {
+                workers.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            workers = null;
+        }
+    }
+
+    /**
+     * Work done by one export on the shared worker pool
+     */
+    @FunctionalInterface
+    private interface ExportTask {
+        /**
+         * @return where the result was written, shown to the player
+         */
+        String run(ExecutorService executor, ClimateMapExporter.ExportProgress progress) throws Exception;
+    }
+
+    private static PlanetModel findPlanetModel(ServerCommandSource source, String planetName) {
+        PlanetModel planetModel = ClimateMapExporter.loadPlanetModel(source.getServer(), planetName);
+        if (planetModel == null) {
+            throw new IllegalArgumentException("Planet '" + planetName + "' not found or not loaded");
+        }
+        return planetModel;
+    }
+
+    /**
+     * Register the planet's job and start its driver thread
+     */
+    private static void submit(ServerCommandSource source, String planetName, String progressVerb, ExportTask task) {
+        String key = normalize(planetName);
+        ExportJob job = new ExportJob(source.getServer(), source, planetName, progressVerb);
+        if (jobs.putIfAbsent(key, job) != null) {
+            throw new IllegalStateException("Climate maps for " + planetName + " are already being exported");
+        }
+
+        ExecutorService executor = getWorkers();
+        Thread driver = new Thread(() -> job.run(task, executor, key), "Terradyne-Export-" + key);
+        driver.setDaemon(true);
+        driver.start();
+    }
+
+    private static synchronized ExecutorService getWorkers() {
+        if (workers == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("Terradyne-Export-Worker-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            };
+            // A ForkJoin pool, so region climate builds started by export tasks fork into it, never
+            // grows past WORKER_THREADS (no compensation threads for blocked workers)
+            workers = new ForkJoinPool(WORKER_THREADS, factory, null, false,
+                    0, WORKER_THREADS, 1, pool -> true, 60, TimeUnit.SECONDS);
+        }
+        return workers;
+    }
+
+    private static String normalize(String planetName) {
+        return planetName.toLowerCase().replace(" ", "_");
+    }
+
+    /**
+     * One running export - also the exporter's progress and cancellation hook
+     */
+    private static final class ExportJob implements ClimateMapExporter.ExportProgress {
+        private final MinecraftServer server;
+        private final ServerCommandSource source;
+        private final String planetName;
+        private final String progressVerb;
+        private final AtomicInteger reportedPercent = new AtomicInteger();
+        private volatile boolean cancelled;
+
+        ExportJob(MinecraftServer server, ServerCommandSource source, String planetName, String progressVerb) {
+            this.server = server;
+            this.source = source;
+            this.planetName = planetName;
+            this.progressVerb = progressVerb;
+        }
+
+        void run(ExportTask task, ExecutorService executor, String key) {
+            long startNanos = System.nanoTime();
+            try {
+                String location = task.run(executor, this);
+                long seconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos);
+                send(Text.literal("✅ Export of " + planetName + " finished in " + seconds + "s! Check ")
+                        .append(Text.literal(location).formatted(Formatting.AQUA))
+                        .formatted(Formatting.GREEN));
+            } catch (Exception e) {
+                if (cancelled || e instanceof CancellationException || e.getCause() instanceof CancellationException) {
+                    Terradyne.LOGGER.info("Climate export for '{}' cancelled", planetName);
+                    send(Text.literal("🛑 Climate export for " + planetName + " cancelled").formatted(Formatting.YELLOW));
+                } else {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    Terradyne.LOGGER.error("Failed to export climate maps for '{}': {}", planetName, cause.getMessage(), cause);
+                    send(Text.literal("❌ Failed to export climate maps for " + planetName + ": " + cause.getMessage())
+                            .formatted(Formatting.RED));
+                }
+            } finally {
+                jobs.remove(key, this);
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void onRowsSampled(int sampledRows, int totalRows) {
+            int step = sampledRows * 100 / totalRows / PROGRESS_STEP_PERCENT * PROGRESS_STEP_PERCENT;
+            int reported = reportedPercent.get();
+            if (step > reported && reportedPercent.compareAndSet(reported, step)) {
+                send(Text.literal("🗺️ " + planetName + ": " + step + "% " + progressVerb).formatted(Formatting.GRAY));
+            }
+        }
+
+        /**
+         * Feedback is sent on the server thread
+         */
+        private void send(Text message) {
+            server.execute(() -> source.sendFeedback(() -> message, false));
+        }
+    }
+}
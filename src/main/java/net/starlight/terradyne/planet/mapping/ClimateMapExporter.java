@@ -12,10 +12,17 @@ import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
 
 /**
  * Exports climate and terrain maps as PNG images for visualization
@@ -27,14 +34,38 @@ public class ClimateMapExporter {
     // Image specifications
     private static final int IMAGE_SIZE = 512; // 512x512 pixels
     private static final int CHUNKS_RADIUS = IMAGE_SIZE / 2; // 256 chunks in each direction from origin
+    private static final int PIXEL_COUNT = IMAGE_SIZE * IMAGE_SIZE;
+    private static final int BAND_ROWS = 32; // One region row of chunks per task keeps region climate tiles hot
 
     /**
-     * Export all climate maps for a planet
+     * Progress and cancellation hooks for a running export
+     */
+    public interface ExportProgress {
+        ExportProgress NONE = new ExportProgress() {
+            @Override
+            public boolean isCancelled() { return false; }
+
+            @Override
+            public void onRowsSampled(int sampledRows, int totalRows) {}
+        };
+
+        /**
+         * Checked before every sampled row and every rendered map
+         */
+        boolean isCancelled();
+
+        /**
+         * Called from worker threads as rows finish sampling
+         */
+        void onRowsSampled(int sampledRows, int totalRows);
+    }
+
+    /**
+     * Export all climate maps for a planet, blocking the calling thread
+     * Commands use ClimateExportManager instead, which runs this off the server thread
      */
     public static void exportAllMaps(MinecraftServer server, String planetName) {
         try {
-            Terradyne.LOGGER.info("=== EXPORTING CLIMATE MAPS FOR {} ===", planetName.toUpperCase());
-
             // Load planet model - we'll need to get this from the server context
             PlanetModel planetModel = loadPlanetModel(server, planetName);
             if (planetModel == null) {
@@ -42,20 +73,8 @@ public class ClimateMapExporter {
                 return;
             }
 
-            // Create export directory
-            Path exportDir = getExportDirectory(server);
-            Files.createDirectories(exportDir);
-
-            // Export each map type
-            exportTerrainMap(planetModel, exportDir, planetName);
-            exportTectonicMap(planetModel, exportDir, planetName);
-            exportTemperatureMap(planetModel, exportDir, planetName);
-            exportWindSpeedMap(planetModel, exportDir, planetName);
-            exportHumidityMap(planetModel, exportDir, planetName);
-            exportVolatilityMap(planetModel, exportDir, planetName); // NEW
-            exportBiomeMap(planetModel, exportDir, planetName);      // NEW
-
-            Terradyne.LOGGER.info("✅ Climate maps exported to: {}", exportDir);
+            exportAllMaps(planetModel, getExportDirectory(server), planetName,
+                    ForkJoinPool.commonPool(), ExportProgress.NONE);
 
         } catch (Exception e) {
             Terradyne.LOGGER.error("Failed to export climate maps for '{}': {}", planetName, e.getMessage(), e);
@@ -63,213 +82,173 @@ public class ClimateMapExporter {
     }
 
     /**
-     * Export terrain height map
+     * Export all climate maps for a loaded planet model
+     * PERFORMANCE FIX: Every field is sampled once per pixel in parallel row bands, then the images are
+     * rendered from those samples and PNG-encoded concurrently (was 7 serial passes, some sampling twice)
+     * @param executor runs the sampling bands and map encoders - never the calling thread
+     * @throws CancellationException (possibly wrapped in a CompletionException) if progress reports cancellation
      */
-    private static void exportTerrainMap(PlanetModel planetModel, Path exportDir, String planetName) throws IOException {
-        Terradyne.LOGGER.info("Exporting terrain map...");
-
-        BufferedImage image = new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
-
-        // Find terrain height range for color mapping
-        double minHeight = Double.MAX_VALUE;
-        double maxHeight = Double.MIN_VALUE;
-        double seaLevel = planetModel.getPlanetData().getSeaLevel();
-
-        // First pass: find height range
-        for (int pixelX = 0; pixelX < IMAGE_SIZE; pixelX++) {
-            for (int pixelZ = 0; pixelZ < IMAGE_SIZE; pixelZ++) {
-                int[] worldCoords = pixelToWorldCoords(pixelX, pixelZ);
-                double height = planetModel.getTerrainHeight(worldCoords[0], worldCoords[1]);
-                minHeight = Math.min(minHeight, height);
-                maxHeight = Math.max(maxHeight, height);
-            }
-        }
-
-        // Second pass: generate image
-        for (int pixelX = 0; pixelX < IMAGE_SIZE; pixelX++) {
-            for (int pixelZ = 0; pixelZ < IMAGE_SIZE; pixelZ++) {
-                int[] worldCoords = pixelToWorldCoords(pixelX, pixelZ);
-                double height = planetModel.getTerrainHeight(worldCoords[0], worldCoords[1]);
-
-                Color color = getTerrainColor(height, seaLevel, minHeight, maxHeight);
-                image.setRGB(pixelX, pixelZ, color.getRGB());
-            }
-        }
-
-        Path outputPath = exportDir.resolve(planetName + "_terrain_0_0_" + IMAGE_SIZE + ".png");
-        ImageIO.write(image, "PNG", outputPath.toFile());
-        Terradyne.LOGGER.info("  ✓ Terrain map: {} (range: {:.1f} to {:.1f})", outputPath.getFileName(), minHeight, maxHeight);
+    static void exportAllMaps(PlanetModel planetModel, Path exportDir, String planetName,
+                              Executor executor, ExportProgress progress) throws IOException {
+        Terradyne.LOGGER.info("=== EXPORTING CLIMATE MAPS FOR {} ===", planetName.toUpperCase());
+
+        // Create export directory
+        Files.createDirectories(exportDir);
+
+        long startNanos = System.nanoTime();
+        MapSamples samples = MapSamples.sample(planetModel, executor, progress);
+        long sampledNanos = System.nanoTime();
+
+        // Render and encode every map concurrently from the shared samples
+        CompletableFuture.allOf(
+                writeMapAsync(exportDir, planetName, "terrain", terrainColors(samples, planetModel), executor, progress),
+                writeMapAsync(exportDir, planetName, "tectonic", index -> getTectonicColor(samples.tectonic[index]).getRGB(), executor, progress),
+                writeMapAsync(exportDir, planetName, "temperature", temperatureColors(samples), executor, progress),
+                writeMapAsync(exportDir, planetName, "windspeed", index -> getWindSpeedColor(samples.windSpeed[index]).getRGB(), executor, progress),
+                writeMapAsync(exportDir, planetName, "humidity", index -> getHumidityColor(samples.moisture[index]).getRGB(), executor, progress),
+                writeMapAsync(exportDir, planetName, "volatility", index -> getVolatilityColor(samples.volatility[index]).getRGB(), executor, progress),
+                writeMapAsync(exportDir, planetName, "biomes", biomeColors(samples), executor, progress)
+        ).join();
+
+        logBiomeStatistics(samples);
+        Terradyne.LOGGER.info("✅ Climate maps exported to: {} (sampled in {} ms, total {} ms)", exportDir,
+                (sampledNanos - startNanos) / 1_000_000, (System.nanoTime() - startNanos) / 1_000_000);
     }
 
-    /**
-     * Export tectonic activity map
-     */
-    private static void exportTectonicMap(PlanetModel planetModel, Path exportDir, String planetName) throws IOException {
-        Terradyne.LOGGER.info("Exporting tectonic map...");
-
-        BufferedImage image = new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
-
-        for (int pixelX = 0; pixelX < IMAGE_SIZE; pixelX++) {
-            for (int pixelZ = 0; pixelZ < IMAGE_SIZE; pixelZ++) {
-                int[] worldCoords = pixelToWorldCoords(pixelX, pixelZ);
-                double tectonicActivity = planetModel.getTectonicActivity(worldCoords[0], worldCoords[1]);
-
-                Color color = getTectonicColor(tectonicActivity);
-                image.setRGB(pixelX, pixelZ, color.getRGB());
-            }
-        }
-
-        Path outputPath = exportDir.resolve(planetName + "_tectonic_0_0_" + IMAGE_SIZE + ".png");
-        ImageIO.write(image, "PNG", outputPath.toFile());
-        Terradyne.LOGGER.info("  ✓ Tectonic map: {}", outputPath.getFileName());
-    }
+    // === SAMPLING ===
 
     /**
-     * Export temperature map
+     * Every exported field sampled once per pixel, indexed pixelZ * IMAGE_SIZE + pixelX
      */
-    private static void exportTemperatureMap(PlanetModel planetModel, Path exportDir, String planetName) throws IOException {
-        Terradyne.LOGGER.info("Exporting temperature map...");
-
-        BufferedImage image = new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
-
-        // Find temperature range for color mapping
-        double minTemp = Double.MAX_VALUE;
-        double maxTemp = Double.MIN_VALUE;
-
-        // First pass: find temperature range
-        for (int pixelX = 0; pixelX < IMAGE_SIZE; pixelX++) {
-            for (int pixelZ = 0; pixelZ < IMAGE_SIZE; pixelZ++) {
-                int[] worldCoords = pixelToWorldCoords(pixelX, pixelZ);
-                double temperature = planetModel.getTemperature(worldCoords[0], worldCoords[1]);
-                minTemp = Math.min(minTemp, temperature);
-                maxTemp = Math.max(maxTemp, temperature);
-            }
+    private static final class MapSamples {
+        final double[] height = new double[PIXEL_COUNT];
+        final double[] tectonic = new double[PIXEL_COUNT];
+        final double[] temperature = new double[PIXEL_COUNT];
+        final double[] windSpeed = new double[PIXEL_COUNT];
+        final double[] moisture = new double[PIXEL_COUNT];
+        final byte[] volatility = new byte[PIXEL_COUNT];
+        final RegistryKey<Biome>[] biomes;   // null where classification failed
+
+        @SuppressWarnings("unchecked")
+        private MapSamples() {
+            biomes = new RegistryKey[PIXEL_COUNT];
         }
 
-        // Second pass: generate image
-        for (int pixelX = 0; pixelX < IMAGE_SIZE; pixelX++) {
-            for (int pixelZ = 0; pixelZ < IMAGE_SIZE; pixelZ++) {
-                int[] worldCoords = pixelToWorldCoords(pixelX, pixelZ);
-                double temperature = planetModel.getTemperature(worldCoords[0], worldCoords[1]);
-
-                Color color = getTemperatureColor(temperature, minTemp, maxTemp);
-                image.setRGB(pixelX, pixelZ, color.getRGB());
+        /**
+         * Sample all fields in parallel bands of rows
+         */
+        static MapSamples sample(PlanetModel planetModel, Executor executor, ExportProgress progress) {
+            MapSamples samples = new MapSamples();
+            BiomeClassificationSystem classifier = new BiomeClassificationSystem(planetModel);
+            AtomicInteger sampledRows = new AtomicInteger();
+
+            CompletableFuture<?>[] bands = new CompletableFuture<?>[(IMAGE_SIZE + BAND_ROWS - 1) / BAND_ROWS];
+            for (int band = 0; band < bands.length; band++) {
+                int fromRow = band * BAND_ROWS;
+                int toRow = Math.min(IMAGE_SIZE, fromRow + BAND_ROWS);
+                bands[band] = CompletableFuture.runAsync(
+                        () -> samples.sampleRows(planetModel, classifier, fromRow, toRow, progress, sampledRows), executor);
             }
+            CompletableFuture.allOf(bands).join();
+            return samples;
         }
 
-        Path outputPath = exportDir.resolve(planetName + "_temperature_0_0_" + IMAGE_SIZE + ".png");
-        ImageIO.write(image, "PNG", outputPath.toFile());
-        Terradyne.LOGGER.info("  ✓ Temperature map: {} (range: {:.1f}°C to {:.1f}°C)", outputPath.getFileName(), minTemp, maxTemp);
-    }
-
-    /**
-     * Export wind speed map
-     */
-    private static void exportWindSpeedMap(PlanetModel planetModel, Path exportDir, String planetName) throws IOException {
-        Terradyne.LOGGER.info("Exporting wind speed map...");
-
-        BufferedImage image = new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
-
-        for (int pixelX = 0; pixelX < IMAGE_SIZE; pixelX++) {
-            for (int pixelZ = 0; pixelZ < IMAGE_SIZE; pixelZ++) {
-                int[] worldCoords = pixelToWorldCoords(pixelX, pixelZ);
-                double windSpeed = planetModel.getNoiseSystem().sampleWindSpeed(worldCoords[0], worldCoords[1]);
-
-                Color color = getWindSpeedColor(windSpeed);
-                image.setRGB(pixelX, pixelZ, color.getRGB());
+        private void sampleRows(PlanetModel planetModel, BiomeClassificationSystem classifier, int fromRow, int toRow,
+                                ExportProgress progress, AtomicInteger sampledRows) {
+            for (int pixelZ = fromRow; pixelZ < toRow; pixelZ++) {
+                if (progress.isCancelled()) {
+                    throw new CancellationException("Climate export cancelled");
+                }
+                int worldZ = pixelToWorld(pixelZ);
+                for (int pixelX = 0; pixelX < IMAGE_SIZE; pixelX++) {
+                    int worldX = pixelToWorld(pixelX);
+                    int index = pixelZ * IMAGE_SIZE + pixelX;
+
+                    height[index] = planetModel.getTerrainHeight(worldX, worldZ);
+                    tectonic[index] = planetModel.getTectonicActivity(worldX, worldZ);
+                    temperature[index] = sampleClimate(planetModel, ClimateAtlas.Field.TEMPERATURE, worldX, worldZ);
+                    windSpeed[index] = sampleClimate(planetModel, ClimateAtlas.Field.WIND_SPEED, worldX, worldZ);
+                    moisture[index] = sampleClimate(planetModel, ClimateAtlas.Field.MOISTURE, worldX, worldZ);
+                    volatility[index] = (byte) planetModel.getVolatilityAt(worldX, worldZ);
+
+                    try {
+                        biomes[index] = classifier.classifyBiome(worldX, worldZ);
+                    } catch (Exception e) {
+                        biomes[index] = null; // Rendered as the debug color
+                    }
+                }
+                progress.onRowsSampled(sampledRows.incrementAndGet(), IMAGE_SIZE);
             }
         }
-
-        Path outputPath = exportDir.resolve(planetName + "_windspeed_0_0_" + IMAGE_SIZE + ".png");
-        ImageIO.write(image, "PNG", outputPath.toFile());
-        Terradyne.LOGGER.info("  ✓ Wind speed map: {}", outputPath.getFileName());
     }
 
+    // === RENDERING ===
+
     /**
-     * Export humidity map
+     * Render one map from a per-pixel color function and PNG-encode it on the executor
      */
-    private static void exportHumidityMap(PlanetModel planetModel, Path exportDir, String planetName) throws IOException {
-        Terradyne.LOGGER.info("Exporting humidity map...");
+    private static CompletableFuture<Void> writeMapAsync(Path exportDir, String planetName, String mapName,
+                                                         IntUnaryOperator pixelColor, Executor executor,
+                                                         ExportProgress progress) {
+        return CompletableFuture.runAsync(() -> {
+            if (progress.isCancelled()) {
+                throw new CancellationException("Climate export cancelled");
+            }
 
-        BufferedImage image = new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
+            int[] pixels = new int[PIXEL_COUNT];
+            for (int index = 0; index < PIXEL_COUNT; index++) {
+                pixels[index] = pixelColor.applyAsInt(index);
+            }
 
-        for (int pixelX = 0; pixelX < IMAGE_SIZE; pixelX++) {
-            for (int pixelZ = 0; pixelZ < IMAGE_SIZE; pixelZ++) {
-                int[] worldCoords = pixelToWorldCoords(pixelX, pixelZ);
-                double humidity = planetModel.getMoisture(worldCoords[0], worldCoords[1]);
+            BufferedImage image = new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
+            image.setRGB(0, 0, IMAGE_SIZE, IMAGE_SIZE, pixels, 0, IMAGE_SIZE);
 
-                Color color = getHumidityColor(humidity);
-                image.setRGB(pixelX, pixelZ, color.getRGB());
+            Path outputPath = exportDir.resolve(planetName + "_" + mapName + "_0_0_" + IMAGE_SIZE + ".png");
+            try {
+                ImageIO.write(image, "PNG", outputPath.toFile());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
-        }
-
-        Path outputPath = exportDir.resolve(planetName + "_humidity_0_0_" + IMAGE_SIZE + ".png");
-        ImageIO.write(image, "PNG", outputPath.toFile());
-        Terradyne.LOGGER.info("  ✓ Humidity map: {}", outputPath.getFileName());
+            Terradyne.LOGGER.info("  ✓ {} map: {}", mapName, outputPath.getFileName());
+        }, executor);
     }
 
-    /**
-     * NEW: Export volatility map showing tectonic plate boundaries
-     */
-    private static void exportVolatilityMap(PlanetModel planetModel, Path exportDir, String planetName) throws IOException {
-        Terradyne.LOGGER.info("Exporting volatility map...");
-
-        BufferedImage image = new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
-
-        for (int pixelX = 0; pixelX < IMAGE_SIZE; pixelX++) {
-            for (int pixelZ = 0; pixelZ < IMAGE_SIZE; pixelZ++) {
-                int[] worldCoords = pixelToWorldCoords(pixelX, pixelZ);
-                int volatility = planetModel.getVolatilityAt(worldCoords[0], worldCoords[1]);
-
-                Color color = getVolatilityColor(volatility);
-                image.setRGB(pixelX, pixelZ, color.getRGB());
-            }
-        }
+    private static IntUnaryOperator terrainColors(MapSamples samples, PlanetModel planetModel) {
+        double seaLevel = planetModel.getPlanetData().getSeaLevel();
+        double[] range = range(samples.height);
+        Terradyne.LOGGER.info("  Terrain height range: {} to {}",
+                String.format("%.1f", range[0]), String.format("%.1f", range[1]));
+        return index -> getTerrainColor(samples.height[index], seaLevel, range[0], range[1]).getRGB();
+    }
 
-        Path outputPath = exportDir.resolve(planetName + "_volatility_0_0_" + IMAGE_SIZE + ".png");
-        ImageIO.write(image, "PNG", outputPath.toFile());
-        Terradyne.LOGGER.info("  ✓ Volatility map: {} (plate boundaries and geological activity)", outputPath.getFileName());
+    private static IntUnaryOperator temperatureColors(MapSamples samples) {
+        double[] range = range(samples.temperature);
+        Terradyne.LOGGER.info("  Temperature range: {}°C to {}°C",
+                String.format("%.1f", range[0]), String.format("%.1f", range[1]));
+        return index -> getTemperatureColor(samples.temperature[index], range[0], range[1]).getRGB();
     }
 
     /**
-     * NEW: Export biome map showing physics-based biome classification
+     * Biome colors are resolved once per biome - the name matching is too slow to repeat per pixel
      */
-    private static void exportBiomeMap(PlanetModel planetModel, Path exportDir, String planetName) throws IOException {
-        Terradyne.LOGGER.info("Exporting biome map...");
-
-        BufferedImage image = new BufferedImage(IMAGE_SIZE, IMAGE_SIZE, BufferedImage.TYPE_INT_RGB);
-        BiomeClassificationSystem classifier = new BiomeClassificationSystem(planetModel);
+    private static IntUnaryOperator biomeColors(MapSamples samples) {
+        Map<RegistryKey<Biome>, Integer> colors = new HashMap<>();
+        return index -> {
+            RegistryKey<Biome> biomeKey = samples.biomes[index];
+            return biomeKey == null ? Color.MAGENTA.getRGB()
+                    : colors.computeIfAbsent(biomeKey, key -> getBiomeColor(key).getRGB());
+        };
+    }
 
-        // Track biome usage for statistics
+    private static void logBiomeStatistics(MapSamples samples) {
         Map<RegistryKey<Biome>, Integer> biomeCount = new HashMap<>();
-
-        for (int pixelX = 0; pixelX < IMAGE_SIZE; pixelX++) {
-            for (int pixelZ = 0; pixelZ < IMAGE_SIZE; pixelZ++) {
-                int[] worldCoords = pixelToWorldCoords(pixelX, pixelZ);
-
-                try {
-                    // Classify biome using physics system
-                    RegistryKey<Biome> biomeKey = classifier.classifyBiome(worldCoords[0], worldCoords[1]);
-
-                    // Count biome usage
-                    biomeCount.put(biomeKey, biomeCount.getOrDefault(biomeKey, 0) + 1);
-
-                    // Get appropriate color for this biome
-                    Color color = getBiomeColor(biomeKey);
-                    image.setRGB(pixelX, pixelZ, color.getRGB());
-
-                } catch (Exception e) {
-                    // Fallback to debug color on error
-                    image.setRGB(pixelX, pixelZ, Color.MAGENTA.getRGB());
-                }
+        for (RegistryKey<Biome> biomeKey : samples.biomes) {
+            if (biomeKey != null) {
+                biomeCount.merge(biomeKey, 1, Integer::sum);
             }
         }
 
-        Path outputPath = exportDir.resolve(planetName + "_biomes_0_0_" + IMAGE_SIZE + ".png");
-        ImageIO.write(image, "PNG", outputPath.toFile());
-
-        // Log biome statistics
-        Terradyne.LOGGER.info("  ✓ Biome map: {} ({} different biomes found)", outputPath.getFileName(), biomeCount.size());
+        Terradyne.LOGGER.info("  Biome map: {} different biomes found", biomeCount.size());
 
         // Log top 10 most common biomes
         biomeCount.entrySet().stream()
@@ -277,17 +256,30 @@ public class ClimateMapExporter {
                 .limit(10)
                 .forEach(entry -> {
                     String biomeName = entry.getKey().getValue().getPath();
-                    double percentage = (entry.getValue() * 100.0) / (IMAGE_SIZE * IMAGE_SIZE);
-                    Terradyne.LOGGER.info("    {} - {:.1f}%", biomeName, percentage);
+                    double percentage = (entry.getValue() * 100.0) / PIXEL_COUNT;
+                    Terradyne.LOGGER.info("    {} - {}%", biomeName, String.format("%.1f", percentage));
                 });
     }
 
-    // === COLOR MAPPING METHODS ===
+    /**
+     * Min and max of a sampled field
+     */
+    private static double[] range(double[] values) {
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (double value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return new double[]{min, max};
+    }
+
+    // === COLOR MAPPING METHODS (shared with StreamingMapExporter) ===
 
     /**
      * Generate terrain color: Blue (water) → Green (low) → Brown (mid) → White (high)
      */
-    private static Color getTerrainColor(double height, double seaLevel, double minHeight, double maxHeight) {
+    static Color getTerrainColor(double height, double seaLevel, double minHeight, double maxHeight) {
         if (height <= seaLevel) {
             // Water: Blue shades
             double waterDepth = (seaLevel - height) / Math.max(1, seaLevel - minHeight);
@@ -319,7 +311,7 @@ public class ClimateMapExporter {
     /**
      * Generate tectonic color: Black (low) → Red (high)
      */
-    private static Color getTectonicColor(double activity) {
+    static Color getTectonicColor(double activity) {
         activity = Math.max(0, Math.min(1, activity));
         int red = (int) (activity * 255);
         return new Color(red, 0, 0);
@@ -328,7 +320,7 @@ public class ClimateMapExporter {
     /**
      * Generate temperature color: Blue (cold) → Green → Yellow → Red (hot)
      */
-    private static Color getTemperatureColor(double temperature, double minTemp, double maxTemp) {
+    static Color getTemperatureColor(double temperature, double minTemp, double maxTemp) {
         double normalized = (temperature - minTemp) / Math.max(1, maxTemp - minTemp);
         normalized = Math.max(0, Math.min(1, normalized));
 
@@ -354,7 +346,7 @@ public class ClimateMapExporter {
     /**
      * Generate wind speed color: White (calm) → Blue → Purple (strong)
      */
-    private static Color getWindSpeedColor(double windSpeed) {
+    static Color getWindSpeedColor(double windSpeed) {
         windSpeed = Math.max(0, Math.min(1, windSpeed));
 
         if (windSpeed < 0.5) {
@@ -373,7 +365,7 @@ public class ClimateMapExporter {
     /**
      * Generate humidity color: Brown (dry) → Yellow → Green → Blue (humid)
      */
-    private static Color getHumidityColor(double humidity) {
+    static Color getHumidityColor(double humidity) {
         humidity = Math.max(0, Math.min(1, humidity));
 
         if (humidity < 0.33) {
@@ -394,7 +386,7 @@ public class ClimateMapExporter {
     /**
      * Generate volatility color: Black (stable) → Yellow → Red (active boundary)
      */
-    private static Color getVolatilityColor(int volatility) {
+    static Color getVolatilityColor(int volatility) {
         switch (volatility) {
             case 0: return new Color(0, 0, 0);         // Black - stable continental
             case 1: return new Color(64, 64, 64);      // Dark gray
@@ -410,7 +402,7 @@ public class ClimateMapExporter {
      * Generate biome color based on biome type and category
      * Uses distinctive colors for each biome category
      */
-    private static Color getBiomeColor(RegistryKey<Biome> biomeKey) {
+    static Color getBiomeColor(RegistryKey<Biome> biomeKey) {
         String biomeName = biomeKey.getValue().getPath();
 
         // === WATER BIOMES (Blues) ===
@@ -524,24 +516,33 @@ public class ClimateMapExporter {
     // === UTILITY METHODS ===
 
     /**
-     * Convert pixel coordinates to world coordinates (chunk center)
+     * Sample a climate field from the planet's atlas when it is ready, otherwise from the live climate maps
      */
-    private static int[] pixelToWorldCoords(int pixelX, int pixelZ) {
-        // Convert pixel to chunk coordinates (centered around origin)
-        int chunkX = pixelX - CHUNKS_RADIUS;
-        int chunkZ = pixelZ - CHUNKS_RADIUS;
+    private static double sampleClimate(PlanetModel planetModel, ClimateAtlas.Field field, int worldX, int worldZ) {
+        ClimateAtlas atlas = planetModel.getClimateAtlas();
+        if (atlas != null) {
+            return atlas.sample(field, worldX, worldZ);
+        }
 
-        // Convert chunk to world coordinates (chunk center)
-        int worldX = chunkX * 16 + 8;
-        int worldZ = chunkZ * 16 + 8;
+        return switch (field) {
+            case TEMPERATURE -> planetModel.getTemperature(worldX, worldZ);
+            case WIND_SPEED -> planetModel.getNoiseSystem().sampleWindSpeed(worldX, worldZ);
+            case MOISTURE -> planetModel.getMoisture(worldX, worldZ);
+            default -> throw new IllegalArgumentException("No live fallback for atlas field " + field);
+        };
+    }
 
-        return new int[]{worldX, worldZ};
+    /**
+     * Convert a pixel coordinate to the world coordinate of its chunk center (centered around origin)
+     */
+    private static int pixelToWorld(int pixel) {
+        return (pixel - CHUNKS_RADIUS) * 16 + 8;
     }
 
     /**
      * Load planet model from server context
      */
-    private static PlanetModel loadPlanetModel(MinecraftServer server, String planetName) {
+    static PlanetModel loadPlanetModel(MinecraftServer server, String planetName) {
         try {
             // Normalize planet name and create dimension identifier
             String normalizedName = planetName.toLowerCase().replace(" ", "_");
@@ -586,7 +587,7 @@ public class ClimateMapExporter {
     /**
      * Get export directory path
      */
-    private static Path getExportDirectory(MinecraftServer server) {
+    static Path getExportDirectory(MinecraftServer server) {
         Path worldDir = server.getSavePath(net.minecraft.util.WorldSavePath.ROOT);
         return worldDir.resolve("terradyne").resolve("exports");
     }
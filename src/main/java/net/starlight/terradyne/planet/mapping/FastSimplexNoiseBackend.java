@@ -0,0 +1,123 @@
+package net.starlight.terradyne.planet.mapping;
+
+import net.minecraft.util.math.random.Random;
+
+/**
+ * Native 2D simplex noise (three corners per sample instead of the 3D sampler's four)
+ * The permutation table is doubled so corner hashes need no masking, and each entry's gradient is
+ * precomputed alongside it. The slice is folded into the hash as a third lattice coordinate, so
+ * distinct whole-number slices (mod 256) give uncorrelated noise.
+ *
+ * Not value-compatible with VanillaNoiseBackend - switching a planet's backend changes its terrain.
+ */
+final class FastSimplexNoiseBackend implements NoiseBackend {
+
+    private static final double SKEW = 0.5 * (Math.sqrt(3.0) - 1.0);
+    private static final double UNSKEW = (3.0 - Math.sqrt(3.0)) / 6.0;
+    private static final double CORNER_RADIUS = 0.5;
+    private static final double SCALE = 70.0; // Maps the corner sum onto [-1, 1]
+
+    // Vanilla's 12 gradients with their y column standing in for z: 4 diagonals and 8 axis directions
+    private static final double[] DIRECTION_X = {1, -1, 1, -1, 1, -1, 1, -1, 0, 0, 0, 0};
+    private static final double[] DIRECTION_Z = {1, 1, -1, -1, 0, 0, 0, 0, 1, -1, 1, -1};
+
+    private final int[] permutation = new int[512];
+    private final double[] gradientX = new double[512];   // Gradient of the permuted index
+    private final double[] gradientZ = new double[512];
+
+    FastSimplexNoiseBackend(long seed) {
+        Random random = Random.create(seed);
+        int[] shuffled = new int[256];
+        for (int i = 0; i < 256; i++) {
+            shuffled[i] = i;
+        }
+        for (int i = 0; i < 256; i++) {
+            int j = i + random.nextInt(256 - i);
+            int swap = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = swap;
+        }
+
+        for (int i = 0; i < 512; i++) {
+            permutation[i] = shuffled[i & 0xFF];
+            gradientX[i] = DIRECTION_X[permutation[i] % 12];
+            gradientZ[i] = DIRECTION_Z[permutation[i] % 12];
+        }
+    }
+
+    @Override
+    public double sample(double x, double z, double slice) {
+        return sampleHashed(x, z, sliceHash(slice));
+    }
+
+    @Override
+    public void sampleRow(double[] x, double[] z, double slice, double[] out, int count) {
+        int sliceHash = sliceHash(slice);
+        for (int i = 0; i < count; i++) {
+            out[i] = sampleHashed(x[i], z[i], sliceHash);
+        }
+    }
+
+    @Override
+    public double sampleOctaves(double x, double z, double slice, int octaves, double lacunarity, double persistence,
+                                double sliceStep) {
+        double value = 0.0;
+        double frequency = 1.0;
+        double amplitude = 1.0;
+        for (int octave = 0; octave < octaves; octave++) {
+            // One slice hash per octave, then straight into the kernel
+            value += sampleHashed(x * frequency, z * frequency, sliceHash(slice + octave * sliceStep)) * amplitude;
+            frequency *= lacunarity;
+            amplitude *= persistence;
+        }
+        return value;
+    }
+
+    @Override
+    public String getName() {
+        return "fast-2d";
+    }
+
+    private int sliceHash(double slice) {
+        return permutation[(int) Math.floor(slice) & 0xFF];
+    }
+
+    private double sampleHashed(double x, double z, int sliceHash) {
+        // === SKEW INTO THE SIMPLEX GRID ===
+        double skew = (x + z) * SKEW;
+        int cellX = floor(x + skew);
+        int cellZ = floor(z + skew);
+        double unskew = (cellX + cellZ) * UNSKEW;
+        double dx0 = x - (cellX - unskew);
+        double dz0 = z - (cellZ - unskew);
+
+        // Lower or upper triangle of the cell
+        int offsetX = dx0 > dz0 ? 1 : 0;
+        int offsetZ = 1 - offsetX;
+
+        // === CORNER HASHES (indices into the gradient tables, at most 511) ===
+        int hx = cellX & 0xFF;
+        int hz = cellZ & 0xFF;
+        int g0 = hx + permutation[hz + sliceHash];
+        int g1 = hx + offsetX + permutation[hz + offsetZ + sliceHash];
+        int g2 = hx + 1 + permutation[hz + 1 + sliceHash];
+
+        return SCALE * (corner(g0, dx0, dz0)
+                + corner(g1, dx0 - offsetX + UNSKEW, dz0 - offsetZ + UNSKEW)
+                + corner(g2, dx0 - 1.0 + 2.0 * UNSKEW, dz0 - 1.0 + 2.0 * UNSKEW));
+    }
+
+    private double corner(int gradient, double dx, double dz) {
+        double falloff = CORNER_RADIUS - dx * dx - dz * dz;
+        if (falloff < 0.0) {
+            return 0.0;
+        }
+        falloff *= falloff;
+        return falloff * falloff * (gradientX[gradient] * dx + gradientZ[gradient] * dz);
+    }
+
+    private static int floor(double value) {
+        int truncated = (int) value;
+        return value < truncated ? truncated - 1 : truncated;
+    }
+}
@@ -0,0 +1,31 @@
+package net.starlight.terradyne.planet.mapping;
+
+/**
+ * 2D simplex noise source for the noise maps
+ * Every map samples the plane at a fixed "slice" - a whole-number seed offset (0, 7, 20, ...) that
+ * decorrelates layers sharing one planet seed. Values are roughly in [-1, 1].
+ * Obtain one through NoiseBackends.
+ */
+public interface NoiseBackend {
+
+    /**
+     * Noise at (x, z) on a slice
+     */
+    double sample(double x, double z, double slice);
+
+    /**
+     * out[i] = sample(x[i], z[i], slice) for i in [0, count)
+     */
+    void sampleRow(double[] x, double[] z, double slice, double[] out, int count);
+
+    /**
+     * Fractal sum of octaves - octave i samples slice + i * sliceStep at frequency lacunarity^i,
+     * weighted persistence^i
+     * NoiseLayerPipeline does not call this: it expands a layer's octaves into flat terms at compile
+     * time so their seeds and weights can be set per octave.
+     */
+    double sampleOctaves(double x, double z, double slice, int octaves, double lacunarity, double persistence,
+                         double sliceStep);
+
+    String getName();
+}
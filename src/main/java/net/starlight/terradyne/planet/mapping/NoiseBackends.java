@@ -0,0 +1,21 @@
+package net.starlight.terradyne.planet.mapping;
+
+import net.starlight.terradyne.planet.physics.NoiseBackendType;
+
+/**
+ * Creates the noise backend a planet is configured for
+ */
+public final class NoiseBackends {
+
+    private NoiseBackends() {}
+
+    /**
+     * Backend of the given type, seeded - the same type and seed always produce the same noise
+     */
+    public static NoiseBackend create(NoiseBackendType type, long seed) {
+        return switch (type) {
+            case VANILLA -> new VanillaNoiseBackend(seed);
+            case FAST_2D -> new FastSimplexNoiseBackend(seed);
+        };
+    }
+}
@@ -15,6 +15,10 @@ public class NoiseLayerConfig {
     private int octaves;              // Detail level (more octaves = more detail)
     private BlendMode blendMode;      // How layer combines with others
     private boolean enabled;          // Layer activation
+    private int seedOffset;           // Y slice of the master sampler - decorrelates layers
+    private boolean domainWarped;     // Sample at the map's warped coordinates instead of raw world coordinates
+    private Shaping shaping;          // Transform applied to raw noise before amplitude
+    private String channel;           // Output the layer accumulates into (defaults to its own name)
     private final Map<String, Object> layerSpecificParams; // Custom parameters per layer type
 
     /**
@@ -31,6 +35,15 @@ public class NoiseLayerConfig {
         RIDGE          // Absolute value for ridge/valley effects
     }
 
+    /**
+     * Shaping applied to raw noise before amplitude scaling
+     */
+    public enum Shaping {
+        NONE,          // Raw noise (-1 to 1)
+        ABS,           // Absolute value for ridges
+        POSITIVE       // Negative values clamped to 0
+    }
+
     /**
      * Create a noise layer configuration
      */
@@ -41,6 +54,10 @@ public class NoiseLayerConfig {
         this.octaves = 1;                 // Default: single octave
         this.blendMode = BlendMode.ADD;   // Default: simple addition
         this.enabled = true;              // Default: enabled
+        this.seedOffset = 0;              // Default: base slice
+        this.domainWarped = false;        // Default: raw world coordinates
+        this.shaping = Shaping.NONE;      // Default: raw noise
+        this.channel = layerName;         // Default: own output
         this.layerSpecificParams = new HashMap<>();
     }
 
@@ -71,6 +88,26 @@ public class NoiseLayerConfig {
         return this;
     }
 
+    public NoiseLayerConfig setSeedOffset(int seedOffset) {
+        this.seedOffset = seedOffset;
+        return this;
+    }
+
+    public NoiseLayerConfig setDomainWarped(boolean domainWarped) {
+        this.domainWarped = domainWarped;
+        return this;
+    }
+
+    public NoiseLayerConfig setShaping(Shaping shaping) {
+        this.shaping = shaping;
+        return this;
+    }
+
+    public NoiseLayerConfig setChannel(String channel) {
+        this.channel = channel;
+        return this;
+    }
+
     public NoiseLayerConfig setParameter(String key, Object value) {
         layerSpecificParams.put(key, value);
         return this;
@@ -84,6 +121,10 @@ public class NoiseLayerConfig {
     public int getOctaves() { return octaves; }
     public BlendMode getBlendMode() { return blendMode; }
     public boolean isEnabled() { return enabled; }
+    public int getSeedOffset() { return seedOffset; }
+    public boolean isDomainWarped() { return domainWarped; }
+    public Shaping getShaping() { return shaping; }
+    public String getChannel() { return channel; }
 
     /**
      * Get layer-specific parameter with default fallback
@@ -112,8 +153,14 @@ public class NoiseLayerConfig {
         if (!enabled) return baseValue;
         
         // Scale layer value by amplitude
-        layerValue *= amplitude;
-        
+        return blend(blendMode, baseValue, layerValue * amplitude);
+    }
+
+    /**
+     * Combine an amplitude-scaled layer value with a base value
+     * Shared with NoiseLayerPipeline so compiled layers blend exactly like configured ones
+     */
+    public static double blend(BlendMode blendMode, double baseValue, double layerValue) {
         return switch (blendMode) {
             case ADD -> baseValue + layerValue;
             case MULTIPLY -> baseValue * (1.0 + layerValue);
@@ -129,7 +176,7 @@ public class NoiseLayerConfig {
     /**
      * Overlay blending for natural terrain transitions
      */
-    private double blendOverlay(double base, double overlay) {
+    private static double blendOverlay(double base, double overlay) {
         if (overlay >= 0) {
             return base + overlay * 0.7; // Soft addition for positive
         } else {
@@ -140,7 +187,7 @@ public class NoiseLayerConfig {
     /**
      * Soft light blending for smooth gradients
      */
-    private double blendSoftLight(double base, double overlay) {
+    private static double blendSoftLight(double base, double overlay) {
         double normalizedOverlay = (overlay + 1.0) * 0.5; // Normalize to 0-1
         if (normalizedOverlay < 0.5) {
             return base * (1.0 + (2.0 * normalizedOverlay - 1.0) * 0.3);
@@ -150,65 +197,67 @@ public class NoiseLayerConfig {
     }
 
     // === PRESET CONFIGURATIONS ===
+    // Frequencies are relative to the planet's noise scale; these are the layers the noise maps compile
 
     /**
-     * Create configuration for continental-scale terrain
+     * Continental-scale terrain with fractal coastlines - 4 octaves at 1x, 3x, 9x and 27x frequency
      */
-    public static NoiseLayerConfig createContinentalLayer() {
+    public static NoiseLayerConfig createContinentalLayer(double noiseScale) {
         return new NoiseLayerConfig("Continental")
-                .setFrequency(0.0003)
-                .setAmplitude(30.0)
-                .setOctaves(2)
-                .setBlendMode(BlendMode.ADD);
+                .setFrequency(noiseScale * 0.2)
+                .setOctaves(4)
+                .setParameter("lacunarity", 3.0)
+                .setParameter("octave_amplitudes", new double[] {1.0, 0.3, 0.1, 0.03})
+                .setParameter("octave_seed_offsets", new int[] {0, 7, 8, 9})
+                .setDomainWarped(true);
     }
 
     /**
-     * Create configuration for mountain ranges
+     * Ridged mountain ranges
      */
-    public static NoiseLayerConfig createMountainLayer() {
+    public static NoiseLayerConfig createMountainLayer(double noiseScale) {
         return new NoiseLayerConfig("Mountains")
-                .setFrequency(0.002)
-                .setAmplitude(40.0)
-                .setOctaves(3)
-                .setBlendMode(BlendMode.RIDGE);
+                .setFrequency(noiseScale * 1.2)
+                .setShaping(Shaping.ABS)
+                .setSeedOffset(1)
+                .setDomainWarped(true);
     }
 
     /**
-     * Create configuration for valley carving
+     * Valley carving - the terrain map shapes and scales it
      */
-    public static NoiseLayerConfig createValleyLayer() {
+    public static NoiseLayerConfig createValleyLayer(double noiseScale) {
         return new NoiseLayerConfig("Valleys")
-                .setFrequency(0.0015)
-                .setAmplitude(-15.0)
-                .setOctaves(2)
-                .setBlendMode(BlendMode.OVERLAY);
+                .setFrequency(noiseScale * 0.8) // Reduced from 1.5 for larger valleys
+                .setSeedOffset(2)
+                .setDomainWarped(true);
     }
 
     /**
-     * Create configuration for surface detail
+     * Unwarped surface detail - ~80 and ~20 block wavelengths
      */
-    public static NoiseLayerConfig createDetailLayer() {
+    public static NoiseLayerConfig createDetailLayer(double noiseScale) {
         return new NoiseLayerConfig("Detail")
-                .setFrequency(0.008)
-                .setAmplitude(3.0)
+                .setFrequency(noiseScale * 6.0) // Reduced from 8.0 for less noise
+                .setAmplitude(2.0) // Reduced from 3.0
                 .setOctaves(2)
-                .setBlendMode(BlendMode.ADD);
+                .setParameter("lacunarity", 4.0)
+                .setParameter("persistence", 0.25)
+                .setParameter("octave_seed_offsets", new int[] {3, 5});
     }
 
     /**
-     * Create configuration for plate boundaries
+     * Plate boundaries - the tectonic map turns this into sharp ridges
      */
-    public static NoiseLayerConfig createPlateBoundaryLayer() {
+    public static NoiseLayerConfig createPlateBoundaryLayer(double noiseScale) {
         return new NoiseLayerConfig("PlateBoundaries")
-                .setFrequency(0.001)
-                .setAmplitude(1.0)
-                .setOctaves(1)
-                .setBlendMode(BlendMode.HARD_MAX);
+                .setFrequency(noiseScale)
+                .setSeedOffset(10);
     }
 
     @Override
     public String toString() {
-        return String.format("NoiseLayer{%s: freq=%.4f, amp=%.2f, octaves=%d, blend=%s, enabled=%s}",
-                           layerName, frequency, amplitude, octaves, blendMode, enabled);
+        return String.format("NoiseLayer{%s: freq=%.4f, amp=%.2f, octaves=%d, blend=%s, seed=%d, warped=%s, channel=%s, enabled=%s}",
+                           layerName, frequency, amplitude, octaves, blendMode, seedOffset, domainWarped, channel, enabled);
     }
 }
\ No newline at end of file
@@ -0,0 +1,219 @@
+package net.starlight.terradyne.planet.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled form of a noise map's NoiseLayerConfig list
+ * Layers are flattened into parallel arrays (frequency, octave multiplier, amplitude, seed slice, shaping,
+ * blend op) grouped by output channel, with octaves expanded into individual terms at compile time.
+ * Evaluating a channel is one tight, allocation-free loop over its terms; every term of a map
+ * shares the same raw and domain-warped coordinates, which the map computes once per sample.
+ *
+ * Octave expansion uses the "lacunarity" (default 2.0) and "persistence" (default 0.5) layer
+ * parameters; octave i samples seed slice seedOffset + i. The optional "octave_amplitudes" (double[])
+ * and "octave_seed_offsets" (int[]) parameters set each octave's weight and slice explicitly instead.
+ * An octave's coordinate is (x * frequency) * lacunarity^i, in that order, so layers reproduce the
+ * original hand-written samplers bit for bit.
+ *
+ * Rows of points can be evaluated together (evaluateRow): each term is sampled for the whole row
+ * through the backend's row sampler, with results identical to evaluate().
+ */
+public final class NoiseLayerPipeline {
+
+    private final NoiseBackend noise;
+    private final String[] channelNames;
+    private final int[] channelStart;   // Terms of channel c are [channelStart[c], channelStart[c + 1])
+
+    // === COMPILED TERMS ===
+    private final double[] frequency;
+    private final double[] octaveScale;  // lacunarity^octave, applied after the base frequency
+    private final double[] amplitude;
+    private final double[] seedSlice;
+    private final boolean[] warped;
+    private final NoiseLayerConfig.Shaping[] shaping;
+    private final NoiseLayerConfig.BlendMode[] blend;
+
+    // Per-thread scaled coordinates and raw samples for row evaluation
+    private static final ThreadLocal<RowScratch> ROW_SCRATCH = ThreadLocal.withInitial(RowScratch::new);
+
+    private NoiseLayerPipeline(NoiseBackend noise, String[] channelNames, int[] channelStart,
+                               double[] frequency, double[] octaveScale, double[] amplitude, double[] seedSlice,
+                               boolean[] warped,
+                               NoiseLayerConfig.Shaping[] shaping, NoiseLayerConfig.BlendMode[] blend) {
+        this.noise = noise;
+        this.channelNames = channelNames;
+        this.channelStart = channelStart;
+        this.frequency = frequency;
+        this.octaveScale = octaveScale;
+        this.amplitude = amplitude;
+        this.seedSlice = seedSlice;
+        this.warped = warped;
+        this.shaping = shaping;
+        this.blend = blend;
+    }
+
+    /**
+     * Compile a layer list - disabled layers are dropped, channels keep first-appearance order
+     * DOMAIN_WARP layers are not evaluated here; maps compute their warp once and pass warped coordinates
+     */
+    public static NoiseLayerPipeline compile(NoiseBackend noise, List<NoiseLayerConfig> layers) {
+        Map<String, List<NoiseLayerConfig>> byChannel = new LinkedHashMap<>();
+        for (NoiseLayerConfig layer : layers) {
+            if (!layer.isEnabled() || layer.getBlendMode() == NoiseLayerConfig.BlendMode.DOMAIN_WARP) {
+                continue;
+            }
+            byChannel.computeIfAbsent(layer.getChannel(), name -> new ArrayList<>()).add(layer);
+        }
+
+        int termCount = 0;
+        for (List<NoiseLayerConfig> channelLayers : byChannel.values()) {
+            for (NoiseLayerConfig layer : channelLayers) {
+                termCount += layer.getOctaves();
+            }
+        }
+
+        String[] channelNames = byChannel.keySet().toArray(new String[0]);
+        int[] channelStart = new int[channelNames.length + 1];
+        double[] frequency = new double[termCount];
+        double[] octaveScale = new double[termCount];
+        double[] amplitude = new double[termCount];
+        double[] seedSlice = new double[termCount];
+        boolean[] warped = new boolean[termCount];
+        NoiseLayerConfig.Shaping[] shaping = new NoiseLayerConfig.Shaping[termCount];
+        NoiseLayerConfig.BlendMode[] blend = new NoiseLayerConfig.BlendMode[termCount];
+
+        int term = 0;
+        int channel = 0;
+        for (List<NoiseLayerConfig> channelLayers : byChannel.values()) {
+            channelStart[channel++] = term;
+            for (NoiseLayerConfig layer : channelLayers) {
+                double lacunarity = layer.getParameter("lacunarity", 2.0);
+                double persistence = layer.getParameter("persistence", 0.5);
+                double[] octaveAmplitudes = layer.getParameter("octave_amplitudes", new double[0]);
+                int[] octaveSeedOffsets = layer.getParameter("octave_seed_offsets", new int[0]);
+                double octaveMultiplier = 1.0;
+                double octaveAmplitude = layer.getAmplitude();
+
+                for (int octave = 0; octave < layer.getOctaves(); octave++) {
+                    frequency[term] = layer.getFrequency();
+                    octaveScale[term] = octaveMultiplier;
+                    amplitude[term] = octave < octaveAmplitudes.length ? octaveAmplitudes[octave] : octaveAmplitude;
+                    seedSlice[term] = octave < octaveSeedOffsets.length
+                            ? octaveSeedOffsets[octave] : layer.getSeedOffset() + octave;
+                    warped[term] = layer.isDomainWarped();
+                    shaping[term] = layer.getShaping();
+                    blend[term] = layer.getBlendMode();
+                    term++;
+
+                    octaveMultiplier *= lacunarity;
+                    octaveAmplitude *= persistence;
+                }
+            }
+        }
+        channelStart[channel] = term;
+
+        return new NoiseLayerPipeline(noise, channelNames, channelStart,
+                frequency, octaveScale, amplitude, seedSlice, warped, shaping, blend);
+    }
+
+    /**
+     * Look up a channel index once at construction time
+     */
+    public int channelIndex(String channelName) {
+        for (int i = 0; i < channelNames.length; i++) {
+            if (channelNames[i].equals(channelName)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Noise pipeline has no channel '" + channelName + "'");
+    }
+
+    /**
+     * Evaluate a channel starting from 0
+     */
+    public double evaluate(int channel, double x, double z, double warpedX, double warpedZ) {
+        return evaluate(channel, x, z, warpedX, warpedZ, 0.0);
+    }
+
+    /**
+     * Evaluate a channel, blending each term onto an initial value in layer order
+     */
+    public double evaluate(int channel, double x, double z, double warpedX, double warpedZ, double initial) {
+        double value = initial;
+        for (int i = channelStart[channel], end = channelStart[channel + 1]; i < end; i++) {
+            double sampleX = warped[i] ? warpedX : x;
+            double sampleZ = warped[i] ? warpedZ : z;
+            double raw = noise.sample(sampleX * frequency[i] * octaveScale[i], sampleZ * frequency[i] * octaveScale[i],
+                    seedSlice[i]);
+
+            double shaped = switch (shaping[i]) {
+                case NONE -> raw;
+                case ABS -> Math.abs(raw);
+                case POSITIVE -> Math.max(0, raw);
+            };
+
+            value = NoiseLayerConfig.blend(blend[i], value, shaped * amplitude[i]);
+        }
+        return value;
+    }
+
+    /**
+     * Evaluate a channel for a row of points, each starting from 0 - out[i] equals
+     * evaluate(channel, x[i], z[i], warpedX[i], warpedZ[i]) exactly
+     */
+    public void evaluateRow(int channel, double[] x, double[] z, double[] warpedX, double[] warpedZ,
+                            double[] out, int count) {
+        RowScratch scratch = ROW_SCRATCH.get().ensureCapacity(count);
+        Arrays.fill(out, 0, count, 0.0);
+
+        for (int i = channelStart[channel], end = channelStart[channel + 1]; i < end; i++) {
+            double[] rowX = warped[i] ? warpedX : x;
+            double[] rowZ = warped[i] ? warpedZ : z;
+            for (int p = 0; p < count; p++) {
+                scratch.sampleX[p] = rowX[p] * frequency[i] * octaveScale[i];
+                scratch.sampleZ[p] = rowZ[p] * frequency[i] * octaveScale[i];
+            }
+            noise.sampleRow(scratch.sampleX, scratch.sampleZ, seedSlice[i], scratch.raw, count);
+
+            for (int p = 0; p < count; p++) {
+                double raw = scratch.raw[p];
+                double shaped = switch (shaping[i]) {
+                    case NONE -> raw;
+                    case ABS -> Math.abs(raw);
+                    case POSITIVE -> Math.max(0, raw);
+                };
+                out[p] = NoiseLayerConfig.blend(blend[i], out[p], shaped * amplitude[i]);
+            }
+        }
+    }
+
+    /**
+     * Number of compiled noise terms (octaves count individually)
+     */
+    public int getLayerCount() {
+        return frequency.length;
+    }
+
+    public int getChannelCount() {
+        return channelNames.length;
+    }
+
+    private static final class RowScratch {
+        double[] sampleX = new double[0];
+        double[] sampleZ = new double[0];
+        double[] raw = new double[0];
+
+        RowScratch ensureCapacity(int count) {
+            if (raw.length < count) {
+                sampleX = new double[count];
+                sampleZ = new double[count];
+                raw = new double[count];
+            }
+            return this;
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package net.starlight.terradyne.planet.mapping;
 
-import net.minecraft.util.math.noise.SimplexNoiseSampler;
-import net.minecraft.util.math.random.Random;
+import net.minecraft.util.Util;
 import net.starlight.terradyne.planet.physics.PlanetConfig;
 import net.starlight.terradyne.planet.physics.PlanetData;
+import net.starlight.terradyne.planet.physics.TerrainSamplingMode;
 import net.starlight.terradyne.Terradyne;
+import net.starlight.terradyne.planet.config.ExistingPlanetRegistry;
+
+import java.util.List;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Unified noise generation system with 5 specialized maps
@@ -17,8 +23,8 @@ public class PlanetaryNoiseSystem {
     private final PlanetConfig config;
     private final PlanetData planetData;
 
-    // === MASTER NOISE SAMPLER ===
-    private final SimplexNoiseSampler masterNoise;
+    // === MASTER NOISE BACKEND ===
+    private final NoiseBackend masterNoise;
 
     // === SPECIALIZED NOISE MAPS ===
     private final TerrainNoiseMap terrainMap;
@@ -34,6 +40,15 @@ public class PlanetaryNoiseSystem {
 
     private final RegionCompletionTracker cacheTracker;
 
+    // === SHARED HEIGHTFIELD ===
+    private final ChunkHeightfieldCache heightfieldCache;
+
+    // === REGION CLIMATE ===
+    private final RegionClimateBuilder climateBuilder;
+
+    // === PLANET-WIDE ATLAS (optional) ===
+    private final AtomicReference<CompletableFuture<ClimateAtlas>> climateAtlas = new AtomicReference<>();
+
     /**
      * Create planetary noise system from planet model data
      * UPDATED: Now includes volatility manager initialization
@@ -45,19 +60,28 @@ public class PlanetaryNoiseSystem {
 
         Terradyne.LOGGER.info("Initializing Planetary Noise System for {}", config.getPlanetName());
 
-        // Create master noise sampler - all terrain uses this base
-        this.masterNoise = new SimplexNoiseSampler(Random.create(config.getSeed()));
+        // Create master noise backend - all terrain uses this base
+        this.masterNoise = NoiseBackends.create(config.getNoiseBackend(), config.getSeed());
 
         // === PHASE C: CORE TERRAIN MAPS ===
         this.tectonicMap = new TectonicNoiseMap(config, planetData, masterNoise);
         this.volatilityManager = new TectonicVolatilityManager(config, planetData, masterNoise);
         this.terrainMap = new TerrainNoiseMap(config, planetData, masterNoise, tectonicMap, volatilityManager);
+        this.heightfieldCache = new ChunkHeightfieldCache(terrainMap, createLatticeSampler(),
+                ChunkHeightfieldCache.DEFAULT_MAX_CHUNKS);
 
         // === PHASE 5: CLIMATE MAPS (now with caching) ===
-        this.temperatureMap = new TemperatureNoiseMap(config, planetData, masterNoise, terrainMap, cacheTracker);
-        this.windMap = new WindNoiseMap(config, planetData, masterNoise, terrainMap, temperatureMap, cacheTracker);
-        this.moistureMap = new MoistureNoiseMap(config, planetData, masterNoise, terrainMap, windMap, cacheTracker);
-        this.habitabilityMap = new HabitabilityNoiseMap(config, planetData, masterNoise, terrainMap, temperatureMap, windMap, moistureMap, cacheTracker);
+        // Climate terrain lookups read generated chunk heightfields when they exist
+        this.temperatureMap = new TemperatureNoiseMap(config, planetData, masterNoise, heightfieldCache, cacheTracker);
+        this.windMap = new WindNoiseMap(config, planetData, masterNoise, heightfieldCache, temperatureMap, cacheTracker);
+        this.moistureMap = new MoistureNoiseMap(config, planetData, masterNoise);
+        this.habitabilityMap = new HabitabilityNoiseMap(config, planetData, masterNoise);
+
+        // PERFORMANCE FIX: Climate is computed a whole region at a time from shared terrain samples
+        this.climateBuilder = new RegionClimateBuilder(config.getPlanetName(), heightfieldCache,
+                temperatureMap, windMap, moistureMap, habitabilityMap, cacheTracker);
+        moistureMap.setClimateBuilder(climateBuilder);
+        habitabilityMap.setClimateBuilder(climateBuilder);
 
         this.biomeMap = new BiomeNoiseMap(config, planetData,masterNoise);
 
@@ -72,7 +96,23 @@ public class PlanetaryNoiseSystem {
      * This is the main method called by chunk generators
      */
     public double sampleTerrainHeight(int worldX, int worldZ) {
-        return terrainMap.sample(worldX, worldZ);
+        return heightfieldCache.sample(worldX, worldZ);
+    }
+
+    /**
+     * Get the 16×16 terrain height grid for a chunk, indexed (localZ << 4) | localX
+     * Computed once per chunk and shared by every caller - do not modify
+     */
+    public double[] sampleTerrainHeightGrid(int chunkX, int chunkZ) {
+        return heightfieldCache.getGrid(chunkX, chunkZ);
+    }
+
+    /**
+     * Create a memoized climate context for one chunk
+     * PERFORMANCE FIX: Generation stages read each climate field once per chunk, without per-sample lookups
+     */
+    public ChunkClimateContext createChunkClimate(int chunkX, int chunkZ) {
+        return new ChunkClimateContext(chunkX, chunkZ, heightfieldCache, climateBuilder);
     }
 
     /**
@@ -91,7 +131,7 @@ public class PlanetaryNoiseSystem {
      */
     public double sampleWindSpeed(int worldX, int worldZ) {
         if (windMap != null) {
-            return windMap.sampleSpeed(worldX, worldZ);
+            return sampleRegionClimate(RegionClimateTile.WIND_SPEED, worldX, worldZ);
         }
 
         // FALLBACK: Simple atmospheric density-based wind
@@ -148,7 +188,7 @@ public class PlanetaryNoiseSystem {
      */
     public double sampleTemperature(int worldX, int worldZ) {
         if (temperatureMap != null) {
-            return temperatureMap.sample(worldX, worldZ);
+            return sampleRegionClimate(RegionClimateTile.TEMPERATURE, worldX, worldZ);
         }
 
         // FALLBACK: Should not happen now, but kept for safety
@@ -165,7 +205,7 @@ public class PlanetaryNoiseSystem {
      */
     public double sampleMoisture(int worldX, int worldZ) {
         if (moistureMap != null) {
-            return moistureMap.sample(worldX, worldZ);
+            return sampleRegionClimate(RegionClimateTile.MOISTURE, worldX, worldZ);
         }
 
         // FALLBACK: Should not happen now, but kept for safety
@@ -178,7 +218,7 @@ public class PlanetaryNoiseSystem {
      */
     public double sampleHabitability(int worldX, int worldZ) {
         if (habitabilityMap != null) {
-            return habitabilityMap.sample(worldX, worldZ);
+            return sampleRegionClimate(RegionClimateTile.HABITABILITY, worldX, worldZ);
         }
         return planetData.getHabitability(); // Fallback
     }
@@ -203,12 +243,206 @@ public class PlanetaryNoiseSystem {
         return 3.0; // Temperate
     }
 
+    /**
+     * Read one climate field for the chunk containing a column, building its region on first access
+     * Same values as the noise maps' per-chunk path
+     */
+    private double sampleRegionClimate(int field, int worldX, int worldZ) {
+        int chunkX = worldX >> 4;
+        int chunkZ = worldZ >> 4;
+        return climateBuilder.getCompleteTile(chunkX, chunkZ).get(field, RegionClimateTile.index(chunkX, chunkZ));
+    }
+
+    // === CLIMATE ATLAS ===
+
+    /**
+     * Start loading or computing the planet-wide atlas in the background, if the planet has one configured
+     * With a cache directory, a valid cached atlas is memory-mapped instead of rebuilt, and a rebuilt one
+     * is saved for the next start. Only the first call has any effect.
+     */
+    public CompletableFuture<ClimateAtlas> startClimateAtlas(Path cacheDirectory) {
+        CompletableFuture<ClimateAtlas> started = new CompletableFuture<>();
+        if (!climateAtlas.compareAndSet(null, started)) {
+            return climateAtlas.get();
+        }
+
+        int spacing = getClimateAtlasSpacing();
+        if (spacing <= 0) {
+            started.complete(null);
+            return started;
+        }
+
+        CompletableFuture.supplyAsync(() -> loadOrBuildClimateAtlas(cacheDirectory, spacing), Util.getMainWorkerExecutor())
+                .whenComplete((atlas, e) -> {
+                    if (e != null) {
+                        Terradyne.LOGGER.error("Failed to build climate atlas for {}: {}", config.getPlanetName(), e.getMessage(), e);
+                    }
+                    started.complete(atlas);
+                });
+        return started;
+    }
+
+    /**
+     * Configured atlas spacing clamped to a sane range, or 0 if the planet has no atlas
+     */
+    private int getClimateAtlasSpacing() {
+        int spacing = config.getClimateAtlasSpacing();
+        if (spacing <= 0) {
+            return 0;
+        }
+
+        int maxSpacing = Math.max(PlanetConfig.MIN_CLIMATE_ATLAS_SPACING, config.getCircumference() / 4);
+        if (spacing < PlanetConfig.MIN_CLIMATE_ATLAS_SPACING || spacing > maxSpacing) {
+            int clamped = Math.max(PlanetConfig.MIN_CLIMATE_ATLAS_SPACING, Math.min(maxSpacing, spacing));
+            Terradyne.LOGGER.warn("Climate atlas spacing {} out of range [{}-{}] for {}, using {}",
+                    spacing, PlanetConfig.MIN_CLIMATE_ATLAS_SPACING, maxSpacing, config.getPlanetName(), clamped);
+            spacing = clamped;
+        }
+        return spacing;
+    }
+
+    private ClimateAtlas loadOrBuildClimateAtlas(Path cacheDirectory, int spacing) {
+        String configHash = ExistingPlanetRegistry.generateConfigHash(config.getGenerationSignature());
+        Path cacheFile = cacheDirectory != null ? ClimateAtlasStore.atlasFile(cacheDirectory, config.getPlanetName()) : null;
+
+        if (cacheFile != null) {
+            ClimateAtlas cached = ClimateAtlasStore.load(cacheFile, configHash, spacing);
+            if (cached != null) {
+                Terradyne.LOGGER.info("Climate atlas for {} mapped from {}: {}",
+                        config.getPlanetName(), cacheFile, cached.getStatistics());
+                return cached;
+            }
+        }
+
+        long start = System.currentTimeMillis();
+        ClimateAtlas atlas = ClimateAtlas.build(config.getCircumference(), spacing, heightfieldCache,
+                temperatureMap, windMap, moistureMap, habitabilityMap, volatilityManager);
+        Terradyne.LOGGER.info("Climate atlas for {} ready in {}ms: {}",
+                config.getPlanetName(), System.currentTimeMillis() - start, atlas.getStatistics());
+
+        if (cacheFile != null) {
+            try {
+                ClimateAtlasStore.save(cacheFile, atlas, configHash);
+                Terradyne.LOGGER.info("Saved climate atlas for {} to {}", config.getPlanetName(), cacheFile);
+            } catch (Exception e) {
+                Terradyne.LOGGER.warn("Failed to save climate atlas cache {}: {}", cacheFile, e.getMessage());
+            }
+        }
+        return atlas;
+    }
+
+    /**
+     * Get the planet-wide climate atlas, or null if not configured, not started or still computing
+     */
+    public ClimateAtlas getClimateAtlas() {
+        CompletableFuture<ClimateAtlas> future = climateAtlas.get();
+        return future != null ? future.getNow(null) : null;
+    }
+
+    /**
+     * Completes with the atlas once loaded or computed (null if not configured or the build failed)
+     * Starts an uncached build if the server has not started the atlas yet
+     */
+    public CompletableFuture<ClimateAtlas> getClimateAtlasFuture() {
+        CompletableFuture<ClimateAtlas> future = climateAtlas.get();
+        return future != null ? future : startClimateAtlas(null);
+    }
+
+    // === TERRAIN SAMPLING MODE ===
+
+    /**
+     * Create the lattice sampler for INTERPOLATED planets, or null for HIGH_FIDELITY
+     */
+    private TerrainLatticeSampler createLatticeSampler() {
+        if (config.getTerrainSamplingMode() != TerrainSamplingMode.INTERPOLATED) {
+            return null;
+        }
+
+        int spacing = config.getTerrainLatticeSpacing();
+        if (!TerrainLatticeSampler.isSupportedSpacing(spacing)) {
+            Terradyne.LOGGER.warn("Invalid terrain lattice spacing {} for {} - using {}",
+                    spacing, config.getPlanetName(), PlanetConfig.DEFAULT_TERRAIN_LATTICE_SPACING);
+            spacing = PlanetConfig.DEFAULT_TERRAIN_LATTICE_SPACING;
+        }
+        return new TerrainLatticeSampler(terrainMap, spacing);
+    }
+
+    /**
+     * Compare HIGH_FIDELITY and INTERPOLATED terrain sampling over a square of chunks
+     * Bypasses the heightfield cache so both modes are measured cold
+     * @param spacing lattice spacing to evaluate (2, 4, 8 or 16)
+     * @return report lines for logs or chat
+     */
+    public String generateTerrainSamplingReport(int centerChunkX, int centerChunkZ, int radiusChunks, int spacing) {
+        TerrainLatticeSampler lattice = new TerrainLatticeSampler(terrainMap, spacing);
+        double[] exact = new double[256];
+        double[] interpolated = new double[256];
+
+        long exactNanos = 0;
+        long interpolatedNanos = 0;
+        double sumError = 0.0;
+        double sumSquaredError = 0.0;
+        double maxError = 0.0;
+        int maxErrorX = 0;
+        int maxErrorZ = 0;
+        int surfaceMismatches = 0;
+        int columns = 0;
+
+        for (int chunkZ = centerChunkZ - radiusChunks; chunkZ <= centerChunkZ + radiusChunks; chunkZ++) {
+            for (int chunkX = centerChunkX - radiusChunks; chunkX <= centerChunkX + radiusChunks; chunkX++) {
+                long start = System.nanoTime();
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        exact[(z << 4) | x] = terrainMap.sample((chunkX << 4) + x, (chunkZ << 4) + z);
+                    }
+                }
+                long mid = System.nanoTime();
+                lattice.fillChunk(chunkX, chunkZ, interpolated);
+                long end = System.nanoTime();
+
+                exactNanos += mid - start;
+                interpolatedNanos += end - mid;
+
+                for (int i = 0; i < 256; i++) {
+                    double error = Math.abs(interpolated[i] - exact[i]);
+                    sumError += error;
+                    sumSquaredError += error * error;
+                    if (error > maxError) {
+                        maxError = error;
+                        maxErrorX = (chunkX << 4) + (i & 15);
+                        maxErrorZ = (chunkZ << 4) + (i >> 4);
+                    }
+                    // Surface Y is the truncated height in the chunk generator
+                    if ((int) interpolated[i] != (int) exact[i]) {
+                        surfaceMismatches++;
+                    }
+                    columns++;
+                }
+            }
+        }
+
+        int chunks = columns / 256;
+        return String.format("Terrain sampling report for %s (%d chunks around chunk %d, %d)%n" +
+                        "  High fidelity: %.3f ms/chunk (256 samples/chunk)%n" +
+                        "  Interpolated (spacing %d): %.3f ms/chunk (%d samples/chunk), speedup %.2fx%n" +
+                        "  Height error: mean %.3f, RMS %.3f, max %.2f blocks at (%d, %d)%n" +
+                        "  Surface Y differs in %d of %d columns (%.2f%%)",
+                config.getPlanetName(), chunks, centerChunkX, centerChunkZ,
+                exactNanos / 1e6 / chunks,
+                spacing, interpolatedNanos / 1e6 / chunks, lattice.getSamplesPerChunk(),
+                interpolatedNanos > 0 ? (double) exactNanos / interpolatedNanos : 0.0,
+                sumError / columns, Math.sqrt(sumSquaredError / columns), maxError, maxErrorX, maxErrorZ,
+                surfaceMismatches, columns, 100.0 * surfaceMismatches / columns);
+    }
+
     // === NOISE MAP ACCESS ===
 
     public TerrainNoiseMap getTerrainMap() { return terrainMap; }
     public TectonicNoiseMap getTectonicMap() { return tectonicMap; }
     public TectonicVolatilityManager getVolatilityManager() { return volatilityManager; }
-    public SimplexNoiseSampler getMasterNoise() { return masterNoise; }
+    public ChunkHeightfieldCache getHeightfieldCache() { return heightfieldCache; }
+    public String getClimateBuilderStatistics() { return climateBuilder.getStatistics(); }
+    public NoiseBackend getMasterNoise() { return masterNoise; }
 
     // === DIAGNOSTICS ===
 
@@ -248,6 +482,9 @@ public class PlanetaryNoiseSystem {
     private void logNoiseConfiguration() {
         Terradyne.LOGGER.info("Noise Maps Configured:");
         Terradyne.LOGGER.info("  Terrain: {} layers (fractal continental coastlines, smooth volatility-based mountains)", terrainMap.getLayerCount());
+        Terradyne.LOGGER.info("  Terrain sampling: {} (lattice spacing {})",
+                config.getTerrainSamplingMode().getDisplayName(), config.getTerrainLatticeSpacing());
+        Terradyne.LOGGER.info("  Noise backend: {} ({})", config.getNoiseBackend().getDisplayName(), masterNoise.getName());
         Terradyne.LOGGER.info("  Tectonic: {} layers", tectonicMap.getLayerCount());
         Terradyne.LOGGER.info("  Volatility: {} plates, avg size {:.0f} blocks (drives mountain placement with smooth transitions)",
                 volatilityManager.getPlateCount(), volatilityManager.getAveragePlateSize());
@@ -270,9 +507,9 @@ public class PlanetaryNoiseSystem {
 abstract class NoiseMap {
     protected final PlanetConfig config;
     protected final PlanetData planetData;
-    protected final SimplexNoiseSampler masterNoise;
+    protected final NoiseBackend masterNoise;
 
-    public NoiseMap(PlanetConfig config, PlanetData planetData, SimplexNoiseSampler masterNoise) {
+    public NoiseMap(PlanetConfig config, PlanetData planetData, NoiseBackend masterNoise) {
         this.config = config;
         this.planetData = planetData;
         this.masterNoise = masterNoise;
@@ -317,58 +554,139 @@ class TerrainNoiseMap extends NoiseMap {
     private final TectonicNoiseMap tectonicInfluence;
     private final TectonicVolatilityManager volatilityManager;
 
-    public TerrainNoiseMap(PlanetConfig config, PlanetData planetData, SimplexNoiseSampler masterNoise,
+    // === COMPILED LAYER PIPELINE ===
+    private final NoiseLayerPipeline pipeline;
+    private final int continentalChannel;
+    private final int mountainChannel;
+    private final int mountainIntensityChannel;
+    private final int erosionChannel;
+    private final int valleyChannel;
+    private final int detailChannel;
+    private final int[] rowChannels;    // Channel order of RowBuffers.channels (combine's argument order)
+
+    private static final int ROW_CHANNELS = 6;
+    private static final ThreadLocal<RowBuffers> ROW_BUFFERS = ThreadLocal.withInitial(RowBuffers::new);
+
+    // Planet constants hoisted out of the per-sample path
+    private final double continentalAmplitude;
+    private final double mountainScale;
+    private final double atmosphericDensity;
+    private final double valleyDepth;
+    private final double seaLevel;
+
+    public TerrainNoiseMap(PlanetConfig config, PlanetData planetData, NoiseBackend masterNoise,
                            TectonicNoiseMap tectonicMap, TectonicVolatilityManager volatilityManager) {
         super(config, planetData, masterNoise);
         this.tectonicInfluence = tectonicMap;
         this.volatilityManager = volatilityManager;
+
+        this.pipeline = NoiseLayerPipeline.compile(masterNoise, createLayers(config.getNoiseScale()));
+        this.continentalChannel = pipeline.channelIndex("Continental");
+        this.mountainChannel = pipeline.channelIndex("Mountains");
+        this.mountainIntensityChannel = pipeline.channelIndex("MountainIntensity");
+        this.erosionChannel = pipeline.channelIndex("Erosion");
+        this.valleyChannel = pipeline.channelIndex("Valleys");
+        this.detailChannel = pipeline.channelIndex("Detail");
+        this.rowChannels = new int[] {continentalChannel, mountainChannel, mountainIntensityChannel,
+                erosionChannel, valleyChannel, detailChannel};
+
+        this.continentalAmplitude = planetData.getContinentalScale() * 60.0;
+        this.mountainScale = planetData.getMountainScale();
+        this.atmosphericDensity = planetData.getActualAtmosphericDensity();
+        this.valleyDepth = planetData.getErosionScale() * 8.0; // Reduced from 15.0 for gentler valleys
+        this.seaLevel = planetData.getSeaLevel();
+    }
+
+    /**
+     * Terrain layer stack - frequencies are relative to the planet's noise scale
+     */
+    static List<NoiseLayerConfig> createLayers(double noiseScale) {
+        return List.of(
+                // === CONTINENTAL LAYER - fractal coastlines (1x, 3x, 9x, 27x) ===
+                NoiseLayerConfig.createContinentalLayer(noiseScale),
+
+                // === MOUNTAIN LAYER - ridge noise with large-scale intensity ===
+                NoiseLayerConfig.createMountainLayer(noiseScale),
+                new NoiseLayerConfig("MountainIntensity").setFrequency(noiseScale * 0.8)
+                        .setSeedOffset(10).setDomainWarped(true),
+
+                // === EROSION / VALLEY LAYERS ===
+                new NoiseLayerConfig("Erosion").setFrequency(noiseScale * 1.5)
+                        .setSeedOffset(6).setDomainWarped(true),
+                NoiseLayerConfig.createValleyLayer(noiseScale),
+
+                // === SURFACE DETAIL - unwarped (~80 and ~20 block wavelengths) ===
+                NoiseLayerConfig.createDetailLayer(noiseScale)
+        );
     }
 
     @Override
     public double sample(int worldX, int worldZ) {
         // === TECTONIC DOMAIN WARPING - REDUCED for smoother terrain ===
-        double tectonicOffset = tectonicInfluence.sample(worldX, worldZ) * planetData.getMountainScale() * 15.0; // Reduced from 25.0
+        // Computed once and shared by every warped layer
+        double tectonicOffset = tectonicOffset(worldX, worldZ);
         double warpedX = worldX + tectonicOffset * 0.2; // Reduced from 0.3
         double warpedZ = worldZ + tectonicOffset * 0.5; // Reduced from 0.7
 
-        // === CONTINENTAL LAYER - ENHANCED with fractal coastlines ===
-        double continentalFreq = config.getNoiseScale() * 0.2;
+        return combine(
+                pipeline.evaluate(continentalChannel, worldX, worldZ, warpedX, warpedZ),
+                pipeline.evaluate(mountainChannel, worldX, worldZ, warpedX, warpedZ),
+                pipeline.evaluate(mountainIntensityChannel, worldX, worldZ, warpedX, warpedZ),
+                pipeline.evaluate(erosionChannel, worldX, worldZ, warpedX, warpedZ),
+                pipeline.evaluate(valleyChannel, worldX, worldZ, warpedX, warpedZ),
+                pipeline.evaluate(detailChannel, worldX, worldZ, warpedX, warpedZ));
+    }
 
-        // Base continental shape (largest scale)
-        double continental1 = masterNoise.sample(warpedX * continentalFreq, 0, warpedZ * continentalFreq);
+    /**
+     * Sample a row of heights at (startX + i * stepX, worldZ) into out[outOffset + i]
+     * PERFORMANCE FIX: Each noise layer is evaluated for the whole row through the pipeline's batch
+     * kernel instead of point by point - results are identical to sample()
+     */
+    public void sampleRow(int startX, int stepX, int worldZ, int count, double[] out, int outOffset) {
+        RowBuffers rows = ROW_BUFFERS.get().ensureCapacity(count);
+
+        for (int i = 0; i < count; i++) {
+            int worldX = startX + i * stepX;
+            double tectonicOffset = tectonicOffset(worldX, worldZ);
+            rows.x[i] = worldX;
+            rows.z[i] = worldZ;
+            rows.warpedX[i] = worldX + tectonicOffset * 0.2;
+            rows.warpedZ[i] = worldZ + tectonicOffset * 0.5;
+        }
 
-        // Add coastal detail octaves for fractal coastlines
-        double coastal2 = masterNoise.sample(warpedX * continentalFreq * 3, 7, warpedZ * continentalFreq * 3);
-        double coastal3 = masterNoise.sample(warpedX * continentalFreq * 9, 8, warpedZ * continentalFreq * 9);
-        double coastal4 = masterNoise.sample(warpedX * continentalFreq * 27, 9, warpedZ * continentalFreq * 27);
+        for (int c = 0; c < ROW_CHANNELS; c++) {
+            pipeline.evaluateRow(rowChannels[c], rows.x, rows.z, rows.warpedX, rows.warpedZ, rows.channels[c], count);
+        }
 
-        // Combine with decreasing amplitude for fractal detail
-        double continental = continental1 +
-                coastal2 * 0.3 +
-                coastal3 * 0.1 +
-                coastal4 * 0.03;
+        double[][] channels = rows.channels;
+        for (int i = 0; i < count; i++) {
+            out[outOffset + i] = combine(channels[0][i], channels[1][i], channels[2][i],
+                    channels[3][i], channels[4][i], channels[5][i]);
+        }
+    }
 
-        continental *= planetData.getContinentalScale() * 60.0;
+    private double tectonicOffset(int worldX, int worldZ) {
+        return tectonicInfluence.sample(worldX, worldZ) * mountainScale * 15.0; // Reduced from 25.0
+    }
 
-        // === MOUNTAIN LAYER - SIMPLE NOISE-BASED (volatility disabled for diagnosis) ===
-        double mountainFreq = config.getNoiseScale() * 1.2;
-        double mountainNoise = masterNoise.sample(warpedX * mountainFreq, 1, warpedZ * mountainFreq);
-        mountainNoise = Math.abs(mountainNoise); // Ridge noise for mountain ranges
+    /**
+     * Shape the six layer values of one column into a terrain height
+     */
+    private double combine(double continental, double mountainNoise, double mountainIntensityNoise,
+                           double erosionNoise, double valleyNoise, double detail) {
+        // === CONTINENTAL LAYER - ENHANCED with fractal coastlines ===
+        continental *= continentalAmplitude;
 
+        // === MOUNTAIN LAYER - SIMPLE NOISE-BASED (volatility disabled for diagnosis) ===
         // TEMPORARY: Use simple noise-based mountain intensity instead of volatility
-        double mountainIntensityFreq = config.getNoiseScale() * 0.8; // Larger scale for mountain placement
-        double mountainIntensityNoise = masterNoise.sample(warpedX * mountainIntensityFreq, 10, warpedZ * mountainIntensityFreq);
         double mountainIntensity = Math.max(0.0, mountainIntensityNoise * 0.7 + 0.3); // 0.3-1.0 range
 
         // Apply mountain noise with smooth noise-based intensity
-        double mountains = mountainNoise * mountainIntensity * planetData.getMountainScale() * 50.0;
+        double mountains = mountainNoise * mountainIntensity * mountainScale * 50.0;
 
         // === NEW: EROSION LAYER - ATMOSPHERIC FLATTENING ===
-        double erosionFreq = config.getNoiseScale() * 1.5; // Medium-scale erosion patterns
-        double erosionNoise = masterNoise.sample(warpedX * erosionFreq, 6, warpedZ * erosionFreq);
-
         // Linear scaling with atmospheric density
-        double erosionIntensity = planetData.getActualAtmosphericDensity() * Math.abs(erosionNoise);
+        double erosionIntensity = atmosphericDensity * Math.abs(erosionNoise);
 
         // Calculate current terrain height before erosion
         double preErosionHeight = continental + mountains;
@@ -382,38 +700,18 @@ class TerrainNoiseMap extends NoiseMap {
             // Apply up to 75% terrain reduction with smooth blending
             double erosionMultiplier = 1.0 - (smoothErosionStrength * 0.75);
             preErosionHeight *= erosionMultiplier;
-
-            // Log debug info occasionally (every 1000th sample to avoid spam)
-            if (worldX % 1000 == 0 && worldZ % 1000 == 0) {
-                // Debug logging for erosion effects
-            }
         }
 
         // === VALLEY LAYER - REDUCED frequency for fewer, larger valleys ===
-        double valleyFreq = config.getNoiseScale() * 0.8; // Reduced from 1.5 for larger valleys
-        double valleyNoise = masterNoise.sample(warpedX * valleyFreq, 2, warpedZ * valleyFreq);
-
         // Calculate valley center strength (0.0 = valley wall, 1.0 = valley center)
         double valleyStrength = Math.abs(valleyNoise);
         double valleyCenter = Math.max(0, (valleyStrength - 0.3) / 0.7); // 0-1 scale
 
         // Traditional valley carving for walls - REDUCED amplitude
         double valleys = valleyStrength * -1.0; // Negative for carving
-        valleys *= planetData.getErosionScale() * 8.0; // Reduced from 15.0 for gentler valleys
-
-        // === REDUCED SURFACE DETAIL for smoother coastlines ===
-        double baseDetailFreq = config.getNoiseScale() * 6.0; // Reduced from 8.0 for less noise
-
-        // Octave 1: Medium surface features (~80 block wavelength) - REDUCED amplitude
-        double detail1 = masterNoise.sample(worldX * baseDetailFreq, 3, worldZ * baseDetailFreq) * 2.0; // Reduced from 3.0
-
-        // Octave 3: Finer detail (~20 block wavelength) - REDUCED amplitude
-        double detail3 = masterNoise.sample(worldX * baseDetailFreq * 4, 5, worldZ * baseDetailFreq * 4) * 0.5; // Reduced from 0.75
-
-        double detail = detail1 + detail3;
+        valleys *= valleyDepth;
 
         // === DOMAIN WARPING + OVERLAY BLENDING ===
-        double baseHeight = planetData.getSeaLevel();
         double terrainHeight = preErosionHeight; // Use post-erosion height
 
         // Apply valleys with soft blending
@@ -435,7 +733,7 @@ class TerrainNoiseMap extends NoiseMap {
             terrainHeight = lerp(terrainHeight, targetFloorHeight, flatteningStrength);
         }
 
-        return baseHeight + terrainHeight;
+        return seaLevel + terrainHeight;
     }
 
     /**
@@ -455,7 +753,7 @@ class TerrainNoiseMap extends NoiseMap {
     }
 
     @Override
-    public int getLayerCount() { return 9; } // Continental(4 octaves), Mountain(smooth volatility-based), Erosion(atmospheric), Valley+SmoothFlattening, Detail1(reduced), Detail3(reduced)
+    public int getLayerCount() { return pipeline.getLayerCount(); } // Continental(4 octaves), Mountain, MountainIntensity, Erosion, Valley, Detail(2 octaves)
 
     /**
      * Overlay blending for smooth terrain transitions
@@ -467,6 +765,28 @@ class TerrainNoiseMap extends NoiseMap {
             return base * (1.0 + overlay * 0.1); // Multiplicative for negative
         }
     }
+
+    /**
+     * Per-thread coordinate and layer buffers for sampleRow
+     */
+    private static final class RowBuffers {
+        double[] x = new double[0];
+        double[] z = new double[0];
+        double[] warpedX = new double[0];
+        double[] warpedZ = new double[0];
+        double[][] channels = new double[ROW_CHANNELS][0];
+
+        RowBuffers ensureCapacity(int count) {
+            if (x.length < count) {
+                x = new double[count];
+                z = new double[count];
+                warpedX = new double[count];
+                warpedZ = new double[count];
+                channels = new double[ROW_CHANNELS][count];
+            }
+            return this;
+        }
+    }
 }
 
 /**
@@ -477,40 +797,61 @@ class TerrainNoiseMap extends NoiseMap {
  */
 class TectonicNoiseMap extends NoiseMap {
 
-    public TectonicNoiseMap(PlanetConfig config, PlanetData planetData, SimplexNoiseSampler masterNoise) {
+    // === COMPILED LAYER PIPELINE ===
+    private final NoiseLayerPipeline pipeline;
+    private final int plateChannel;
+    private final int activityChannel;
+    private final double tectonicActivity;
+
+    public TectonicNoiseMap(PlanetConfig config, PlanetData planetData, NoiseBackend masterNoise) {
         super(config, planetData, masterNoise);
+        this.tectonicActivity = planetData.getActualTectonicActivity();
+
+        this.pipeline = NoiseLayerPipeline.compile(masterNoise, createLayers(config.getNoiseScale(),
+                planetData.getVolcanismLevel(), tectonicActivity));
+        this.plateChannel = pipeline.channelIndex("PlateBoundaries");
+        this.activityChannel = pipeline.channelIndex("Activity");
+    }
+
+    /**
+     * Tectonic layer stack - volcanism and seismic zones hard-max over the plate boundaries
+     */
+    static List<NoiseLayerConfig> createLayers(double noiseScale, double volcanismLevel, double tectonicActivity) {
+        return List.of(
+                // === PLATE BOUNDARY LAYER ===
+                NoiseLayerConfig.createPlateBoundaryLayer(noiseScale),
+
+                // === VOLCANISM LAYER ===
+                new NoiseLayerConfig("Volcanism").setChannel("Activity").setFrequency(noiseScale * 3.0)
+                        .setShaping(NoiseLayerConfig.Shaping.POSITIVE).setAmplitude(volcanismLevel)
+                        .setBlendMode(NoiseLayerConfig.BlendMode.HARD_MAX).setSeedOffset(11),
+
+                // === SEISMIC ZONES LAYER ===
+                new NoiseLayerConfig("Seismic").setChannel("Activity").setFrequency(noiseScale * 0.8)
+                        .setShaping(NoiseLayerConfig.Shaping.ABS).setAmplitude(tectonicActivity)
+                        .setBlendMode(NoiseLayerConfig.BlendMode.HARD_MAX).setSeedOffset(12)
+        );
     }
 
     @Override
     public double sample(int worldX, int worldZ) {
         // === PLATE BOUNDARY LAYER ===
-        double plateFreq = config.getNoiseScale();
-        double plates = masterNoise.sample(worldX * plateFreq, 10, worldZ * plateFreq);
+        double plates = pipeline.evaluate(plateChannel, worldX, worldZ, worldX, worldZ);
 
         // Create sharp plate boundaries using ridge noise
         double boundaries = Math.abs(plates);
         boundaries = 1.0 - boundaries; // Invert so boundaries are high
         boundaries = Math.max(0, boundaries - 0.7) / 0.3; // Sharp cutoff
 
-        // === VOLCANISM LAYER ===
-        double volcanismFreq = config.getNoiseScale() * 3.0;
-        double volcanism = masterNoise.sample(worldX * volcanismFreq, 11, worldZ * volcanismFreq);
-        volcanism = Math.max(0, volcanism) * planetData.getVolcanismLevel();
-
-        // === SEISMIC ZONES LAYER ===
-        double seismicFreq = config.getNoiseScale() * 0.8;
-        double seismic = masterNoise.sample(worldX * seismicFreq, 12, worldZ * seismicFreq);
-        seismic = Math.abs(seismic) * planetData.getActualTectonicActivity();
-
-        // === HARD BOUNDARY BLENDING ===
-        double tectonicActivity = Math.max(boundaries, Math.max(volcanism, seismic));
+        // === HARD BOUNDARY BLENDING - volcanism and seismic zones max over the boundaries ===
+        double activity = pipeline.evaluate(activityChannel, worldX, worldZ, worldX, worldZ, boundaries);
 
         // Scale by planet's overall tectonic activity
-        return tectonicActivity * planetData.getActualTectonicActivity();
+        return activity * tectonicActivity;
     }
 
     @Override
-    public int getLayerCount() { return 3; }
+    public int getLayerCount() { return pipeline.getLayerCount(); }
 }
 
 // Add these classes to the bottom of PlanetaryNoiseSystem.java file
@@ -523,13 +864,13 @@ class TectonicNoiseMap extends NoiseMap {
  */
 class TemperatureNoiseMap extends NoiseMap {
 
-    private final TerrainNoiseMap terrainMap;
+    private final ChunkHeightfieldCache terrainHeights;
     private final RegionCompletionTracker cacheTracker;
 
-    public TemperatureNoiseMap(PlanetConfig config, PlanetData planetData, SimplexNoiseSampler masterNoise,
-                               TerrainNoiseMap terrainMap, RegionCompletionTracker cacheTracker) {
+    public TemperatureNoiseMap(PlanetConfig config, PlanetData planetData, NoiseBackend masterNoise,
+                               ChunkHeightfieldCache terrainHeights, RegionCompletionTracker cacheTracker) {
         super(config, planetData, masterNoise);
-        this.terrainMap = terrainMap;
+        this.terrainHeights = terrainHeights;
         this.cacheTracker = cacheTracker;
     }
 
@@ -542,10 +883,11 @@ class TemperatureNoiseMap extends NoiseMap {
         // Get region key
         RegionCompletionTracker.RegionKey regionKey = RegionCompletionTracker.RegionKey.fromChunkCoords(config.getPlanetName(), chunkX, chunkZ);
 
-        // Check cache first
-        Double cached = cacheTracker.getCachedTemperature(regionKey, chunkX, chunkZ);
-        if (cached != null) {
-            return cached;
+        // Check cache first - one tile fetch, then array reads
+        RegionClimateTile tile = cacheTracker.getOrCreateClimateTile(regionKey);
+        int tileIndex = RegionClimateTile.index(chunkX, chunkZ);
+        if (tile.has(RegionClimateTile.TEMPERATURE, tileIndex)) {
+            return tile.get(RegionClimateTile.TEMPERATURE, tileIndex);
         }
 
         // Not cached - compute at chunk center for consistency
@@ -555,15 +897,23 @@ class TemperatureNoiseMap extends NoiseMap {
         double temperature = computeTemperatureAt(chunkCenterX, chunkCenterZ);
 
         // Cache the result
-        cacheTracker.setCachedTemperature(regionKey, chunkX, chunkZ, temperature);
+        tile.set(RegionClimateTile.TEMPERATURE, tileIndex, temperature);
 
-        return temperature;
+        // Return the stored precision so cold and warm lookups agree
+        return tile.get(RegionClimateTile.TEMPERATURE, tileIndex);
     }
 
     /**
      * Actual temperature computation (moved to separate method for clarity)
      */
     private double computeTemperatureAt(int worldX, int worldZ) {
+        return computeTemperature(worldX, worldZ, terrainHeights.sample(worldX, worldZ));
+    }
+
+    /**
+     * Temperature from a pre-sampled terrain height - shared with RegionClimateBuilder
+     */
+    double computeTemperature(int worldX, int worldZ, double terrainHeight) {
         // === BASE TEMPERATURE ===
         double baseTemp = planetData.getAverageSurfaceTemp();
 
@@ -573,14 +923,13 @@ class TemperatureNoiseMap extends NoiseMap {
         double latitudeEffect = -latitude * 40.0;
 
         // === ELEVATION COOLING ===
-        double terrainHeight = terrainMap.sample(worldX, worldZ);
         double seaLevel = planetData.getSeaLevel();
         double elevationAboveSeaLevel = Math.max(0, terrainHeight - seaLevel);
         double elevationEffect = -(elevationAboveSeaLevel / 100.0) * 20.0;
 
         // === LOCAL TEMPERATURE VARIATION ===
         double tempNoiseFreq = config.getNoiseScale() * 1.2;
-        double temperatureNoise = masterNoise.sample(worldX * tempNoiseFreq, 20, worldZ * tempNoiseFreq);
+        double temperatureNoise = masterNoise.sample(worldX * tempNoiseFreq, worldZ * tempNoiseFreq, 20);
         double temperatureVariation = temperatureNoise * 5.0;
 
         return baseTemp + latitudeEffect + elevationEffect + temperatureVariation;
@@ -600,17 +949,17 @@ class TemperatureNoiseMap extends NoiseMap {
  */
 class WindNoiseMap extends NoiseMap {
 
-    private final TerrainNoiseMap terrainMap;
+    private final ChunkHeightfieldCache terrainHeights;
     private final TemperatureNoiseMap temperatureMap;
     private final RegionCompletionTracker cacheTracker;
 
     // Sampling distance for calculating gradients (in blocks)
-    private static final int GRADIENT_SAMPLE_DISTANCE = 64;
+    static final int GRADIENT_SAMPLE_DISTANCE = 64;
 
-    public WindNoiseMap(PlanetConfig config, PlanetData planetData, SimplexNoiseSampler masterNoise,
-                        TerrainNoiseMap terrainMap, TemperatureNoiseMap temperatureMap, RegionCompletionTracker cacheTracker) {
+    public WindNoiseMap(PlanetConfig config, PlanetData planetData, NoiseBackend masterNoise,
+                        ChunkHeightfieldCache terrainHeights, TemperatureNoiseMap temperatureMap, RegionCompletionTracker cacheTracker) {
         super(config, planetData, masterNoise);
-        this.terrainMap = terrainMap;
+        this.terrainHeights = terrainHeights;
         this.temperatureMap = temperatureMap;
         this.cacheTracker = cacheTracker;
     }
@@ -631,10 +980,11 @@ class WindNoiseMap extends NoiseMap {
         // Get region key
         RegionCompletionTracker.RegionKey regionKey = RegionCompletionTracker.RegionKey.fromChunkCoords(config.getPlanetName(), chunkX, chunkZ);
 
-        // Check cache first
-        Double cached = cacheTracker.getCachedWindSpeed(regionKey, chunkX, chunkZ);
-        if (cached != null) {
-            return cached;
+        // Check cache first - one tile fetch, then array reads
+        RegionClimateTile tile = cacheTracker.getOrCreateClimateTile(regionKey);
+        int tileIndex = RegionClimateTile.index(chunkX, chunkZ);
+        if (tile.has(RegionClimateTile.WIND_SPEED, tileIndex)) {
+            return tile.get(RegionClimateTile.WIND_SPEED, tileIndex);
         }
 
         // Not cached - compute at chunk center
@@ -644,29 +994,41 @@ class WindNoiseMap extends NoiseMap {
         double windSpeed = computeWindSpeedAt(chunkCenterX, chunkCenterZ);
 
         // Cache the result
-        cacheTracker.setCachedWindSpeed(regionKey, chunkX, chunkZ, windSpeed);
+        tile.set(RegionClimateTile.WIND_SPEED, tileIndex, windSpeed);
 
-        return windSpeed;
+        // Return the stored precision so cold and warm lookups agree
+        return tile.get(RegionClimateTile.WIND_SPEED, tileIndex);
     }
 
     /**
      * Actual wind speed computation (separated for caching)
      */
     private double computeWindSpeedAt(int worldX, int worldZ) {
+        double[] elevationGradient = calculateElevationGradient(worldX, worldZ);
+        double[] temperatureGradient = calculateTemperatureGradient(worldX, worldZ);
+        return computeWindSpeed(worldX, worldZ, elevationGradient[0], elevationGradient[1],
+                temperatureGradient[0], temperatureGradient[1]);
+    }
+
+    /**
+     * Wind speed from pre-computed gradients - shared with RegionClimateBuilder
+     */
+    double computeWindSpeed(int worldX, int worldZ, double elevationGradientX, double elevationGradientZ,
+                            double temperatureGradientX, double temperatureGradientZ) {
         // === BASE WIND FROM ATMOSPHERIC DENSITY ===
         double baseWind = planetData.getActualAtmosphericDensity() * 0.3;
 
         // === ELEVATION GRADIENT WIND ===
-        double elevationGradientStrength = calculateElevationGradientStrength(worldX, worldZ);
+        double elevationGradientStrength = Math.sqrt(elevationGradientX * elevationGradientX + elevationGradientZ * elevationGradientZ);
         double elevationWind = elevationGradientStrength * 0.4;
 
         // === TEMPERATURE GRADIENT WIND ===
-        double temperatureGradientStrength = calculateTemperatureGradientStrength(worldX, worldZ);
+        double temperatureGradientStrength = Math.sqrt(temperatureGradientX * temperatureGradientX + temperatureGradientZ * temperatureGradientZ);
         double temperatureWind = temperatureGradientStrength * 0.2;
 
         // === LOCAL WIND VARIATION ===
         double windNoiseFreq = config.getNoiseScale() * 2.0;
-        double windNoise = masterNoise.sample(worldX * windNoiseFreq, 30, worldZ * windNoiseFreq);
+        double windNoise = masterNoise.sample(worldX * windNoiseFreq, worldZ * windNoiseFreq, 30);
         double windVariation = windNoise * 0.15;
 
         double totalWindSpeed = baseWind + elevationWind + temperatureWind + windVariation;
@@ -699,41 +1061,37 @@ class WindNoiseMap extends NoiseMap {
         return new double[]{direction[0] * speed, direction[1] * speed};
     }
 
-    // Keep existing gradient calculation methods unchanged...
-    private double calculateElevationGradientStrength(int worldX, int worldZ) {
-        double[] gradient = calculateElevationGradient(worldX, worldZ);
-        return Math.sqrt(gradient[0] * gradient[0] + gradient[1] * gradient[1]);
+    /**
+     * Elevation gradient component from samples GRADIENT_SAMPLE_DISTANCE ahead of and behind a point
+     */
+    static double elevationGradient(double ahead, double behind) {
+        return (ahead - behind) / (2.0 * GRADIENT_SAMPLE_DISTANCE);
     }
 
-    private double[] calculateElevationGradient(int worldX, int worldZ) {
-        double centerHeight = terrainMap.sample(worldX, worldZ);
-        double eastHeight = terrainMap.sample(worldX + GRADIENT_SAMPLE_DISTANCE, worldZ);
-        double westHeight = terrainMap.sample(worldX - GRADIENT_SAMPLE_DISTANCE, worldZ);
-        double northHeight = terrainMap.sample(worldX, worldZ - GRADIENT_SAMPLE_DISTANCE);
-        double southHeight = terrainMap.sample(worldX, worldZ + GRADIENT_SAMPLE_DISTANCE);
-
-        double gradientX = (eastHeight - westHeight) / (2.0 * GRADIENT_SAMPLE_DISTANCE);
-        double gradientZ = (southHeight - northHeight) / (2.0 * GRADIENT_SAMPLE_DISTANCE);
-
-        return new double[]{gradientX, gradientZ};
+    /**
+     * Temperature gradient component - wind flows from warm toward cold
+     */
+    static double temperatureGradient(double ahead, double behind) {
+        double gradient = (ahead - behind) / (2.0 * GRADIENT_SAMPLE_DISTANCE);
+        return -gradient * 0.1;
     }
 
-    private double calculateTemperatureGradientStrength(int worldX, int worldZ) {
-        double[] gradient = calculateTemperatureGradient(worldX, worldZ);
-        return Math.sqrt(gradient[0] * gradient[0] + gradient[1] * gradient[1]);
+    private double[] calculateElevationGradient(int worldX, int worldZ) {
+        double eastHeight = terrainHeights.sample(worldX + GRADIENT_SAMPLE_DISTANCE, worldZ);
+        double westHeight = terrainHeights.sample(worldX - GRADIENT_SAMPLE_DISTANCE, worldZ);
+        double northHeight = terrainHeights.sample(worldX, worldZ - GRADIENT_SAMPLE_DISTANCE);
+        double southHeight = terrainHeights.sample(worldX, worldZ + GRADIENT_SAMPLE_DISTANCE);
+
+        return new double[]{elevationGradient(eastHeight, westHeight), elevationGradient(southHeight, northHeight)};
     }
 
     private double[] calculateTemperatureGradient(int worldX, int worldZ) {
-        double centerTemp = temperatureMap.sample(worldX, worldZ); // Uses cached temperature!
         double eastTemp = temperatureMap.sample(worldX + GRADIENT_SAMPLE_DISTANCE, worldZ);
         double westTemp = temperatureMap.sample(worldX - GRADIENT_SAMPLE_DISTANCE, worldZ);
         double northTemp = temperatureMap.sample(worldX, worldZ - GRADIENT_SAMPLE_DISTANCE);
         double southTemp = temperatureMap.sample(worldX, worldZ + GRADIENT_SAMPLE_DISTANCE);
 
-        double gradientX = (eastTemp - westTemp) / (2.0 * GRADIENT_SAMPLE_DISTANCE);
-        double gradientZ = (southTemp - northTemp) / (2.0 * GRADIENT_SAMPLE_DISTANCE);
-
-        return new double[]{-gradientX * 0.1, -gradientZ * 0.1};
+        return new double[]{temperatureGradient(eastTemp, westTemp), temperatureGradient(southTemp, northTemp)};
     }
 
     @Override
@@ -746,69 +1104,57 @@ class WindNoiseMap extends NoiseMap {
  * MOISTURE NOISE MAP - Wind-transported humidity WITH SIMPLIFIED CACHING
  * Layers: Base + Wind Transport + Distance from Water + Local Variation
  * Physics: Wind carries moisture from water sources, blocked naturally by mountains
- * Performance: Chunk-level caching + simplified water distance calculation for huge speedup
+ * Performance: Water distance only exists as a region-wide distance transform, so moisture is only
+ * read from complete region tiles - there is no per-chunk path that could disagree with it
  */
 class MoistureNoiseMap extends NoiseMap {
 
-    private final TerrainNoiseMap terrainMap;
-    private final WindNoiseMap windMap;
-    private final RegionCompletionTracker cacheTracker;
+    private RegionClimateBuilder climateBuilder; // Set once built - the builder needs this map first
 
     // REDUCED transport distance for better performance
     private static final int MOISTURE_TRANSPORT_DISTANCE = 64; // Reduced from 128
-    private static final int WATER_DISTANCE_SAMPLE = 128; // Reduced from 256
+    static final int WATER_DISTANCE_SAMPLE = 128; // Reduced from 256
+    private static final double COASTAL_MARGIN = 5.0; // Terrain this close above sea level counts as water
 
-    public MoistureNoiseMap(PlanetConfig config, PlanetData planetData, SimplexNoiseSampler masterNoise,
-                            TerrainNoiseMap terrainMap, WindNoiseMap windMap, RegionCompletionTracker cacheTracker) {
+    public MoistureNoiseMap(PlanetConfig config, PlanetData planetData, NoiseBackend masterNoise) {
         super(config, planetData, masterNoise);
-        this.terrainMap = terrainMap;
-        this.windMap = windMap;
-        this.cacheTracker = cacheTracker;
+    }
+
+    void setClimateBuilder(RegionClimateBuilder climateBuilder) {
+        this.climateBuilder = climateBuilder;
     }
 
     @Override
     public double sample(int worldX, int worldZ) {
-        // Convert to chunk coordinates
         int chunkX = worldX >> 4;
         int chunkZ = worldZ >> 4;
+        return climateBuilder.getCompleteTile(chunkX, chunkZ).get(RegionClimateTile.MOISTURE, RegionClimateTile.index(chunkX, chunkZ));
+    }
 
-        // Get region key
-        RegionCompletionTracker.RegionKey regionKey = RegionCompletionTracker.RegionKey.fromChunkCoords(config.getPlanetName(), chunkX, chunkZ);
-
-        // Check cache first
-        Double cached = cacheTracker.getCachedMoisture(regionKey, chunkX, chunkZ);
-        if (cached != null) {
-            return cached;
-        }
-
-        // Not cached - compute at chunk center
-        int chunkCenterX = (chunkX << 4) + 8;
-        int chunkCenterZ = (chunkZ << 4) + 8;
-
-        double moisture = computeMoistureAt(chunkCenterX, chunkCenterZ);
-
-        // Cache the result
-        cacheTracker.setCachedMoisture(regionKey, chunkX, chunkZ, moisture);
-
-        return moisture;
+    /**
+     * Whether terrain at this height counts as water for the distance field
+     */
+    boolean isWater(double terrainHeight) {
+        return terrainHeight <= planetData.getSeaLevel() + COASTAL_MARGIN;
     }
 
     /**
-     * Actual moisture computation with performance optimizations
+     * Moisture from a wind speed and a distance to water in blocks - shared with RegionClimateBuilder
+     * and ClimateAtlas, which read the distance from a WaterDistanceField
      */
-    private double computeMoistureAt(int worldX, int worldZ) {
+    double computeMoisture(int worldX, int worldZ, double windSpeed, double waterDistance) {
         // === BASE HUMIDITY ===
         double baseHumidity = planetData.getActualWaterContent() * 0.7;
 
         // === SIMPLIFIED WIND TRANSPORT (reduced recursion) ===
-        double windTransportHumidity = calculateSimplifiedWindTransport(worldX, worldZ);
+        double windTransportHumidity = calculateSimplifiedWindTransport(windSpeed);
 
-        // === SIMPLIFIED WATER DISTANCE (4 samples instead of 64) ===
-        double distanceFromWaterEffect = calculateSimplifiedWaterDistance(worldX, worldZ);
+        // === WATER DISTANCE ===
+        double distanceFromWaterEffect = calculateWaterDistanceEffect(waterDistance);
 
         // === LOCAL HUMIDITY VARIATION ===
         double humidityNoiseFreq = config.getNoiseScale() * 1.5;
-        double humidityNoise = masterNoise.sample(worldX * humidityNoiseFreq, 40, worldZ * humidityNoiseFreq);
+        double humidityNoise = masterNoise.sample(worldX * humidityNoiseFreq, worldZ * humidityNoiseFreq, 40);
         double humidityVariation = humidityNoise * 0.1;
 
         double totalHumidity = baseHumidity + windTransportHumidity + distanceFromWaterEffect + humidityVariation;
@@ -818,9 +1164,7 @@ class MoistureNoiseMap extends NoiseMap {
     /**
      * SIMPLIFIED wind transport - less recursive, better performance
      */
-    private double calculateSimplifiedWindTransport(int worldX, int worldZ) {
-        double windSpeed = windMap.sampleSpeed(worldX, worldZ); // Uses cached wind speed!
-
+    private double calculateSimplifiedWindTransport(double windSpeed) {
         if (windSpeed < 0.1) {
             return 0.0;
         }
@@ -831,39 +1175,14 @@ class MoistureNoiseMap extends NoiseMap {
     }
 
     /**
-     * SIMPLIFIED water distance - 4 cardinal samples instead of 8x8 grid
+     * Humidity bonus near water, fading to nothing at WATER_DISTANCE_SAMPLE; dry beyond it
      */
-    private double calculateSimplifiedWaterDistance(int worldX, int worldZ) {
-        double seaLevel = planetData.getSeaLevel();
-        double minDistanceToWater = Double.MAX_VALUE;
-
-        // PERFORMANCE FIX: Only sample 4 cardinal directions instead of 8x8 grid
-        int[] sampleDistances = {WATER_DISTANCE_SAMPLE/4, WATER_DISTANCE_SAMPLE/2, WATER_DISTANCE_SAMPLE};
-
-        for (int distance : sampleDistances) {
-            // Check 4 cardinal directions
-            int[][] directions = {{distance, 0}, {-distance, 0}, {0, distance}, {0, -distance}};
-
-            for (int[] dir : directions) {
-                double sampleHeight = terrainMap.sample(worldX + dir[0], worldZ + dir[1]);
-
-                if (sampleHeight <= seaLevel + 5) {
-                    double actualDistance = Math.sqrt(dir[0] * dir[0] + dir[1] * dir[1]);
-                    minDistanceToWater = Math.min(minDistanceToWater, actualDistance);
-                }
-            }
-
-            // Early exit if we found nearby water
-            if (minDistanceToWater < WATER_DISTANCE_SAMPLE / 2) {
-                break;
-            }
-        }
-
-        if (minDistanceToWater == Double.MAX_VALUE) {
-            return -0.2; // No water found
+    private double calculateWaterDistanceEffect(double waterDistance) {
+        if (waterDistance > WATER_DISTANCE_SAMPLE) {
+            return -0.2; // No water in range
         }
 
-        double normalizedDistance = minDistanceToWater / WATER_DISTANCE_SAMPLE;
+        double normalizedDistance = waterDistance / WATER_DISTANCE_SAMPLE;
         double waterEffect = (1.0 - normalizedDistance) * 0.3;
         return Math.max(-0.2, waterEffect);
     }
@@ -878,15 +1197,11 @@ class MoistureNoiseMap extends NoiseMap {
  * HABITABILITY NOISE MAP - Livability assessment WITH CACHING
  * Layers: Base + Temperature Factor + Environmental Factors + Wind Factor + Local Variation
  * Physics: Optimal at 10-30°C, sea level, moderate humidity, calm winds
- * Performance: Chunk-level caching leverages cached temperature/wind/moisture for massive speedup
+ * Performance: Computed with the other climate fields by RegionClimateBuilder and read from region tiles
  */
 class HabitabilityNoiseMap extends NoiseMap {
 
-    private final TerrainNoiseMap terrainMap;
-    private final TemperatureNoiseMap temperatureMap;
-    private final WindNoiseMap windMap;
-    private final MoistureNoiseMap moistureMap;
-    private final RegionCompletionTracker cacheTracker;
+    private RegionClimateBuilder climateBuilder; // Set once built - the builder needs this map first
 
     // Factor weights
     private static final double TEMPERATURE_WEIGHT = 0.35;
@@ -895,55 +1210,32 @@ class HabitabilityNoiseMap extends NoiseMap {
     private static final double WIND_WEIGHT = 0.10;
     private static final double VARIATION_WEIGHT = 0.10;
 
-    public HabitabilityNoiseMap(PlanetConfig config, PlanetData planetData, SimplexNoiseSampler masterNoise,
-                                TerrainNoiseMap terrainMap, TemperatureNoiseMap temperatureMap,
-                                WindNoiseMap windMap, MoistureNoiseMap moistureMap, RegionCompletionTracker cacheTracker) {
+    public HabitabilityNoiseMap(PlanetConfig config, PlanetData planetData, NoiseBackend masterNoise) {
         super(config, planetData, masterNoise);
-        this.terrainMap = terrainMap;
-        this.temperatureMap = temperatureMap;
-        this.windMap = windMap;
-        this.moistureMap = moistureMap;
-        this.cacheTracker = cacheTracker;
+    }
+
+    void setClimateBuilder(RegionClimateBuilder climateBuilder) {
+        this.climateBuilder = climateBuilder;
     }
 
     @Override
     public double sample(int worldX, int worldZ) {
-        // Convert to chunk coordinates
         int chunkX = worldX >> 4;
         int chunkZ = worldZ >> 4;
-
-        // Get region key
-        RegionCompletionTracker.RegionKey regionKey = RegionCompletionTracker.RegionKey.fromChunkCoords(config.getPlanetName(), chunkX, chunkZ);
-
-        // Check cache first
-        Double cached = cacheTracker.getCachedHabitability(regionKey, chunkX, chunkZ);
-        if (cached != null) {
-            return cached;
-        }
-
-        // Not cached - compute at chunk center
-        int chunkCenterX = (chunkX << 4) + 8;
-        int chunkCenterZ = (chunkZ << 4) + 8;
-
-        double habitability = computeHabitabilityAt(chunkCenterX, chunkCenterZ);
-
-        // Cache the result
-        cacheTracker.setCachedHabitability(regionKey, chunkX, chunkZ, habitability);
-
-        return habitability;
+        return climateBuilder.getCompleteTile(chunkX, chunkZ).get(RegionClimateTile.HABITABILITY, RegionClimateTile.index(chunkX, chunkZ));
     }
 
     /**
-     * Actual habitability computation - leverages cached inputs for speed!
+     * Habitability from pre-sampled inputs - shared with RegionClimateBuilder
      */
-    private double computeHabitabilityAt(int worldX, int worldZ) {
+    double computeHabitability(int worldX, int worldZ, double temperature, double terrainHeight,
+                               double humidity, double windSpeed) {
         double baseHabitability = planetData.getHabitability();
 
-        // All of these are now cached and fast!
-        double temperatureFactor = calculateTemperatureFactor(worldX, worldZ);
-        double elevationFactor = calculateElevationFactor(worldX, worldZ);
-        double humidityFactor = calculateHumidityFactor(worldX, worldZ);
-        double windFactor = calculateWindFactor(worldX, worldZ);
+        double temperatureFactor = calculateTemperatureFactor(temperature);
+        double elevationFactor = calculateElevationFactor(terrainHeight);
+        double humidityFactor = calculateHumidityFactor(humidity);
+        double windFactor = calculateWindFactor(windSpeed);
         double localVariation = calculateLocalVariation(worldX, worldZ);
 
         double factorSum = (temperatureFactor * TEMPERATURE_WEIGHT) +
@@ -957,9 +1249,7 @@ class HabitabilityNoiseMap extends NoiseMap {
     }
 
     // Keep existing factor calculation methods - they now use cached inputs!
-    private double calculateTemperatureFactor(int worldX, int worldZ) {
-        double temperature = temperatureMap.sample(worldX, worldZ); // CACHED!
-
+    private double calculateTemperatureFactor(double temperature) {
         if (temperature >= 10.0 && temperature <= 30.0) {
             return 1.0;
         } else if (temperature >= 0.0 && temperature <= 40.0) {
@@ -985,8 +1275,7 @@ class HabitabilityNoiseMap extends NoiseMap {
         }
     }
 
-    private double calculateElevationFactor(int worldX, int worldZ) {
-        double terrainHeight = terrainMap.sample(worldX, worldZ);
+    private double calculateElevationFactor(double terrainHeight) {
         double seaLevel = planetData.getSeaLevel();
         double elevationDifference = Math.abs(terrainHeight - seaLevel);
 
@@ -999,14 +1288,11 @@ class HabitabilityNoiseMap extends NoiseMap {
         }
     }
 
-    private double calculateHumidityFactor(int worldX, int worldZ) {
-        double humidity = moistureMap.sample(worldX, worldZ); // CACHED!
+    private double calculateHumidityFactor(double humidity) {
         return Math.max(0.0, Math.min(1.2, humidity * 1.2));
     }
 
-    private double calculateWindFactor(int worldX, int worldZ) {
-        double windSpeed = windMap.sampleSpeed(worldX, worldZ); // CACHED!
-
+    private double calculateWindFactor(double windSpeed) {
         if (windSpeed < 0.6) {
             return 1.0;
         } else if (windSpeed < 0.7) {
@@ -1021,7 +1307,7 @@ class HabitabilityNoiseMap extends NoiseMap {
 
     private double calculateLocalVariation(int worldX, int worldZ) {
         double habitabilityNoiseFreq = config.getNoiseScale() * 2.5;
-        double habitabilityNoise = masterNoise.sample(worldX * habitabilityNoiseFreq, 50, worldZ * habitabilityNoiseFreq);
+        double habitabilityNoise = masterNoise.sample(worldX * habitabilityNoiseFreq, worldZ * habitabilityNoiseFreq, 50);
         return 1.0 + (habitabilityNoise * 0.5);
     }
 
@@ -1037,7 +1323,7 @@ class HabitabilityNoiseMap extends NoiseMap {
  */
 class BiomeNoiseMap extends NoiseMap {
 
-    public BiomeNoiseMap(PlanetConfig config, PlanetData planetData, SimplexNoiseSampler masterNoise) {
+    public BiomeNoiseMap(PlanetConfig config, PlanetData planetData, NoiseBackend masterNoise) {
         super(config, planetData, masterNoise);
     }
 
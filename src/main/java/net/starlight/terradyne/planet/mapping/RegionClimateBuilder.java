@@ -0,0 +1,172 @@
+package net.starlight.terradyne.planet.mapping;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Region-at-once climate computation for a 32×32 chunk region
+ * Every climate input is a sample at a chunk center, or 2/4/8 chunks away from one. So a region needs one
+ * grid of chunk-center terrain heights with an 8-chunk margin (48×48 samples, ~2.25 per chunk) instead of
+ * ~24 independent terrain samples per chunk. Temperature, wind (finite differences over the temperature
+ * and terrain grids), water distance, moisture and habitability are then derived from the grids in
+ * dependent passes, each split by rows across the builder's ForkJoin pool (see forEachRow).
+ *
+ * Water distance is a chamfer distance transform of the grid's land/sea mask (WaterDistanceField); the
+ * margin covers the full WATER_DISTANCE_SAMPLE range, so every water cell in range is on the grid.
+ * Temperature and wind use the same compute methods on the same inputs as their per-chunk paths, with
+ * every intermediate field rounded to the tile's float precision before reuse. Moisture and habitability
+ * have no per-chunk path - they only exist in complete tiles.
+ */
+final class RegionClimateBuilder {
+
+    private static final int REGION_SIZE = RegionClimateTile.REGION_SIZE;
+
+    // Margins in chunks - farthest water distance probe and wind gradient probe from a chunk center
+    private static final int MARGIN = MoistureNoiseMap.WATER_DISTANCE_SAMPLE >> 4;
+    private static final int TEMPERATURE_MARGIN = WindNoiseMap.GRADIENT_SAMPLE_DISTANCE >> 4;
+    private static final int SIDE = REGION_SIZE + 2 * MARGIN;
+
+    private final String planetName;
+    private final ChunkHeightfieldCache terrainHeights;
+    private final TemperatureNoiseMap temperatureMap;
+    private final WindNoiseMap windMap;
+    private final MoistureNoiseMap moistureMap;
+    private final HabitabilityNoiseMap habitabilityMap;
+    private final RegionCompletionTracker cacheTracker;
+
+    private final LongAdder regionsBuilt = new LongAdder();
+    private final LongAdder buildNanos = new LongAdder();
+
+    RegionClimateBuilder(String planetName, ChunkHeightfieldCache terrainHeights,
+                         TemperatureNoiseMap temperatureMap, WindNoiseMap windMap,
+                         MoistureNoiseMap moistureMap, HabitabilityNoiseMap habitabilityMap,
+                         RegionCompletionTracker cacheTracker) {
+        this.planetName = planetName;
+        this.terrainHeights = terrainHeights;
+        this.temperatureMap = temperatureMap;
+        this.windMap = windMap;
+        this.moistureMap = moistureMap;
+        this.habitabilityMap = habitabilityMap;
+        this.cacheTracker = cacheTracker;
+    }
+
+    /**
+     * Get the climate tile containing a chunk, building the whole region first if needed
+     * Concurrent callers for the same region wait for a single build
+     */
+    RegionClimateTile getCompleteTile(int chunkX, int chunkZ) {
+        RegionCompletionTracker.RegionKey regionKey =
+                RegionCompletionTracker.RegionKey.fromChunkCoords(planetName, chunkX, chunkZ);
+        RegionClimateTile tile = cacheTracker.getOrCreateClimateTile(regionKey);
+
+        if (!tile.isComplete()) {
+            synchronized (tile) {
+                if (!tile.isComplete()) {
+                    long start = System.nanoTime();
+                    build(tile, regionKey.regionX * REGION_SIZE, regionKey.regionZ * REGION_SIZE);
+                    tile.markComplete();
+                    buildNanos.add(System.nanoTime() - start);
+                    regionsBuilt.increment();
+                }
+            }
+        }
+        return tile;
+    }
+
+    /**
+     * Fill every field of a region tile
+     */
+    private void build(RegionClimateTile tile, int regionChunkX, int regionChunkZ) {
+        // Grid cell (col, row) is the center of chunk (gridChunkX + col, gridChunkZ + row)
+        int gridChunkX = regionChunkX - MARGIN;
+        int gridChunkZ = regionChunkZ - MARGIN;
+
+        double[] terrain = new double[SIDE * SIDE];
+        float[] temperature = new float[SIDE * SIDE];
+        float[] windSpeed = new float[SIDE * SIDE];
+        float[] moisture = new float[SIDE * SIDE];
+
+        // === PASS 1: TERRAIN HEIGHTS (region + water distance margin) ===
+        // Whole rows through the batch noise path - regions are built ahead of their chunks' grids
+        forEachRow(0, SIDE, row ->
+                terrainHeights.sampleRowUncached(center(gridChunkX), 16, center(gridChunkZ + row), SIDE, terrain, row * SIDE));
+
+        // === PASS 2: TEMPERATURE (region + wind gradient margin) ===
+        forEachRow(MARGIN - TEMPERATURE_MARGIN, MARGIN + REGION_SIZE + TEMPERATURE_MARGIN, row -> {
+            for (int col = MARGIN - TEMPERATURE_MARGIN; col < MARGIN + REGION_SIZE + TEMPERATURE_MARGIN; col++) {
+                int i = row * SIDE + col;
+                temperature[i] = (float) temperatureMap.computeTemperature(
+                        center(gridChunkX + col), center(gridChunkZ + row), terrain[i]);
+            }
+        });
+
+        // === PASS 3: WIND SPEED (central differences over terrain and temperature) ===
+        int dx = TEMPERATURE_MARGIN;
+        int dz = TEMPERATURE_MARGIN * SIDE;
+        forEachRow(MARGIN, MARGIN + REGION_SIZE, row -> {
+            for (int col = MARGIN; col < MARGIN + REGION_SIZE; col++) {
+                int i = row * SIDE + col;
+                windSpeed[i] = (float) windMap.computeWindSpeed(center(gridChunkX + col), center(gridChunkZ + row),
+                        WindNoiseMap.elevationGradient(terrain[i + dx], terrain[i - dx]),
+                        WindNoiseMap.elevationGradient(terrain[i + dz], terrain[i - dz]),
+                        WindNoiseMap.temperatureGradient(temperature[i + dx], temperature[i - dx]),
+                        WindNoiseMap.temperatureGradient(temperature[i + dz], temperature[i - dz]));
+            }
+        });
+
+        // === PASS 4: MOISTURE (distance to water from a transform of the terrain grid) ===
+        boolean[] water = new boolean[SIDE * SIDE];
+        for (int i = 0; i < water.length; i++) {
+            water[i] = moistureMap.isWater(terrain[i]);
+        }
+        float[] waterDistance = WaterDistanceField.compute(water, SIDE, SIDE, 16.0f);
+        forEachRow(MARGIN, MARGIN + REGION_SIZE, row -> {
+            for (int col = MARGIN; col < MARGIN + REGION_SIZE; col++) {
+                int i = row * SIDE + col;
+                moisture[i] = (float) moistureMap.computeMoisture(center(gridChunkX + col), center(gridChunkZ + row),
+                        windSpeed[i], waterDistance[i]);
+            }
+        });
+
+        // === PASS 5: HABITABILITY, then publish every field ===
+        forEachRow(MARGIN, MARGIN + REGION_SIZE, row -> {
+            for (int col = MARGIN; col < MARGIN + REGION_SIZE; col++) {
+                int i = row * SIDE + col;
+                int chunkX = gridChunkX + col;
+                int chunkZ = gridChunkZ + row;
+                double habitability = habitabilityMap.computeHabitability(center(chunkX), center(chunkZ),
+                        temperature[i], terrain[i], moisture[i], windSpeed[i]);
+
+                int tileIndex = RegionClimateTile.index(chunkX, chunkZ);
+                tile.set(RegionClimateTile.TEMPERATURE, tileIndex, temperature[i]);
+                tile.set(RegionClimateTile.WIND_SPEED, tileIndex, windSpeed[i]);
+                tile.set(RegionClimateTile.MOISTURE, tileIndex, moisture[i]);
+                tile.set(RegionClimateTile.HABITABILITY, tileIndex, habitability);
+            }
+        });
+    }
+
+    /**
+     * World coordinate of a chunk's center column (the climate sample point)
+     */
+    private static int center(int chunkCoord) {
+        return (chunkCoord << 4) + 8;
+    }
+
+    /**
+     * Run a pass's rows in parallel on the pool of the thread that triggered the build
+     * A parallel stream started on a ForkJoin worker forks into that worker's own pool, so regions built
+     * from chunk generation use the server's worldgen pool and regions built by a climate export stay on
+     * the export's bounded pool. Only callers outside any ForkJoin pool fall back to the common pool.
+     */
+    private static void forEachRow(int fromRow, int toRow, IntConsumer rowTask) {
+        IntStream.range(fromRow, toRow).parallel().forEach(rowTask);
+    }
+
+    public String getStatistics() {
+        long regions = regionsBuilt.sum();
+        return String.format("ClimateBuilder{regions=%d, avgBuild=%.1fms}",
+                regions, regions == 0 ? 0.0 : buildNanos.sum() / 1_000_000.0 / regions);
+    }
+}
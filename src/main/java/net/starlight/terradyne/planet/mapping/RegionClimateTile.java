@@ -0,0 +1,104 @@
+package net.starlight.terradyne.planet.mapping;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Dense climate cache for one 32×32 chunk region
+ * Struct-of-arrays layout: one float[1024] per climate field, indexed by local chunk (x, z),
+ * with a presence bitset per field so lookups never allocate or box
+ */
+public final class RegionClimateTile {
+
+    public static final int REGION_SIZE = 32; // Chunks per region side
+    public static final int CHUNK_COUNT = REGION_SIZE * REGION_SIZE;
+
+    // === FIELDS ===
+    public static final int TEMPERATURE = 0;
+    public static final int WIND_SPEED = 1;
+    public static final int MOISTURE = 2;
+    public static final int HABITABILITY = 3;
+    public static final int FIELD_COUNT = 4;
+
+    private static final int WORDS_PER_FIELD = CHUNK_COUNT / Long.SIZE;
+
+    // Approximate heap footprint: value arrays + presence words + object headers
+    public static final long ESTIMATED_BYTES = (long) FIELD_COUNT * CHUNK_COUNT * Float.BYTES
+            + (long) FIELD_COUNT * WORDS_PER_FIELD * Long.BYTES + 128;
+
+    private final float[][] values = new float[FIELD_COUNT][CHUNK_COUNT];
+
+    // Presence bits are published after the value is written, so a set bit always guards a visible value
+    private final AtomicLongArray presence = new AtomicLongArray(FIELD_COUNT * WORDS_PER_FIELD);
+
+    // CLOCK reference bit - set on access, cleared by the eviction sweep
+    volatile boolean referenced = true;
+
+    // Set once RegionClimateBuilder has filled every field for every chunk
+    private volatile boolean complete;
+
+    /**
+     * Local index of a chunk within its region (any chunk coordinate is accepted)
+     */
+    public static int index(int chunkX, int chunkZ) {
+        return ((chunkZ & (REGION_SIZE - 1)) << 5) | (chunkX & (REGION_SIZE - 1));
+    }
+
+    /**
+     * Check whether a field has been cached for a chunk
+     */
+    public boolean has(int field, int index) {
+        long word = presence.get(field * WORDS_PER_FIELD + (index >>> 6));
+        return (word & (1L << index)) != 0;
+    }
+
+    /**
+     * Get a cached value - only meaningful when has() returned true
+     */
+    public float get(int field, int index) {
+        return values[field][index];
+    }
+
+    /**
+     * Store a value and mark it present
+     */
+    public void set(int field, int index, double value) {
+        values[field][index] = (float) value;
+        presence.accumulateAndGet(field * WORDS_PER_FIELD + (index >>> 6), 1L << index, (a, b) -> a | b);
+    }
+
+    /**
+     * Check whether every field has been filled for the whole region
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * Mark the whole region filled - call after all values have been set
+     */
+    void markComplete() {
+        complete = true;
+    }
+
+    /**
+     * Count cached entries for one field
+     */
+    public int countPresent(int field) {
+        int count = 0;
+        for (int i = 0; i < WORDS_PER_FIELD; i++) {
+            count += Long.bitCount(presence.get(field * WORDS_PER_FIELD + i));
+        }
+        return count;
+    }
+
+    /**
+     * Count cached entries across all fields
+     */
+    public int countPresent() {
+        int count = 0;
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            count += countPresent(field);
+        }
+        return count;
+    }
+}
@@ -2,13 +2,19 @@ package net.starlight.terradyne.planet.mapping;
 
 import net.starlight.terradyne.Terradyne;
 
+import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Tracks which regions have been fully generated and can be removed from cache
  * UPDATED: Now includes volatility caching for tectonic plate boundaries
  * Manages lifecycle of regional noise cache based on chunk generation completion
+ * Climate tiles are bounded by a byte budget with CLOCK eviction, and regions with no loaded
+ * chunks that are far from every player are dropped by the periodic player-distance sweep
  */
 public class RegionCompletionTracker {
 
@@ -72,10 +78,31 @@ public class RegionCompletionTracker {
     // NEW: Track volatility data per chunk within regions
     private final ConcurrentHashMap<RegionKey, ConcurrentHashMap<ChunkKey, Integer>> regionVolatilityData = new ConcurrentHashMap<>();
 
-    private final ConcurrentHashMap<RegionKey, ConcurrentHashMap<ChunkKey, Double>> regionTemperatureCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<RegionKey, ConcurrentHashMap<ChunkKey, Double>> regionWindSpeedCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<RegionKey, ConcurrentHashMap<ChunkKey, Double>> regionMoistureCache = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<RegionKey, ConcurrentHashMap<ChunkKey, Double>> regionHabitabilityCache = new ConcurrentHashMap<>();
+    // Dense per-region climate caches (temperature, wind, moisture, habitability)
+    private final ConcurrentHashMap<RegionKey, RegionClimateTile> regionClimateTiles = new ConcurrentHashMap<>();
+
+    // === EVICTION ===
+    public static final long DEFAULT_CLIMATE_BUDGET_BYTES = 32L * 1024 * 1024;
+
+    private final int maxClimateTiles;
+    private final ArrayDeque<RegionKey> clockRing = new ArrayDeque<>(); // Guarded by itself
+    private final ConcurrentHashMap<RegionKey, AtomicInteger> loadedChunkCounts = new ConcurrentHashMap<>();
+    private final LongAdder climateEvictions = new LongAdder();
+
+    /**
+     * Create a tracker with the default climate cache budget
+     */
+    public RegionCompletionTracker() {
+        this(DEFAULT_CLIMATE_BUDGET_BYTES);
+    }
+
+    /**
+     * Create a tracker whose climate tiles stay within the given byte budget
+     */
+    public RegionCompletionTracker(long climateBudgetBytes) {
+        this.maxClimateTiles = (int) Math.max(16, Math.min(Integer.MAX_VALUE,
+                climateBudgetBytes / RegionClimateTile.ESTIMATED_BYTES));
+    }
 
 
     /**
@@ -120,67 +147,142 @@ public class RegionCompletionTracker {
 
 
     /**
-     * NEW: Set cached temperature for a chunk within a region
+     * Get the climate tile for a region, or null if nothing has been cached there yet
      */
-    public void setCachedTemperature(RegionKey regionKey, int chunkX, int chunkZ, double temperature) {
-        ConcurrentHashMap<ChunkKey, Double> temperatureMap = regionTemperatureCache.computeIfAbsent(regionKey, k -> new ConcurrentHashMap<>());
-        temperatureMap.put(new ChunkKey(chunkX, chunkZ), temperature);
+    public RegionClimateTile getClimateTile(RegionKey regionKey) {
+        RegionClimateTile tile = regionClimateTiles.get(regionKey);
+        if (tile != null && !tile.referenced) {
+            tile.referenced = true;
+        }
+        return tile;
     }
 
     /**
-     * NEW: Get cached temperature for a chunk within a region
+     * Get the climate tile for a region, creating an empty one if needed
+     * Fetch once per chunk and read fields through RegionClimateTile.index(chunkX, chunkZ)
      */
-    public Double getCachedTemperature(RegionKey regionKey, int chunkX, int chunkZ) {
-        ConcurrentHashMap<ChunkKey, Double> temperatureMap = regionTemperatureCache.get(regionKey);
-        return temperatureMap != null ? temperatureMap.get(new ChunkKey(chunkX, chunkZ)) : null;
+    public RegionClimateTile getOrCreateClimateTile(RegionKey regionKey) {
+        RegionClimateTile tile = getClimateTile(regionKey);
+        if (tile != null) {
+            return tile;
+        }
+
+        RegionClimateTile created = new RegionClimateTile();
+        tile = regionClimateTiles.putIfAbsent(regionKey, created);
+        if (tile != null) {
+            return tile; // Another thread won the race
+        }
+
+        synchronized (clockRing) {
+            clockRing.addLast(regionKey);
+        }
+        enforceClimateBudget();
+        return created;
     }
 
+    // === EVICTION ===
+
     /**
-     * NEW: Set cached wind speed for a chunk within a region
+     * CLOCK sweep: referenced tiles get a second chance, unreferenced ones are dropped
+     * until the tile count fits the budget again
      */
-    public void setCachedWindSpeed(RegionKey regionKey, int chunkX, int chunkZ, double windSpeed) {
-        ConcurrentHashMap<ChunkKey, Double> windSpeedMap = regionWindSpeedCache.computeIfAbsent(regionKey, k -> new ConcurrentHashMap<>());
-        windSpeedMap.put(new ChunkKey(chunkX, chunkZ), windSpeed);
+    private void enforceClimateBudget() {
+        if (regionClimateTiles.size() <= maxClimateTiles) {
+            return;
+        }
+
+        synchronized (clockRing) {
+            int remainingSteps = clockRing.size() * 2;
+            while (regionClimateTiles.size() > maxClimateTiles && remainingSteps-- > 0) {
+                RegionKey candidate = clockRing.pollFirst();
+                if (candidate == null) {
+                    break;
+                }
+
+                RegionClimateTile tile = regionClimateTiles.get(candidate);
+                if (tile == null) {
+                    continue; // Already removed elsewhere
+                }
+
+                if (tile.referenced) {
+                    tile.referenced = false;
+                    clockRing.addLast(candidate);
+                } else if (regionClimateTiles.remove(candidate, tile)) {
+                    climateEvictions.increment();
+                }
+            }
+        }
     }
 
     /**
-     * NEW: Get cached wind speed for a chunk within a region
+     * Remove a region's climate tile immediately
      */
-    public Double getCachedWindSpeed(RegionKey regionKey, int chunkX, int chunkZ) {
-        ConcurrentHashMap<ChunkKey, Double> windSpeedMap = regionWindSpeedCache.get(regionKey);
-        return windSpeedMap != null ? windSpeedMap.get(new ChunkKey(chunkX, chunkZ)) : null;
+    private void evictClimateTile(RegionKey regionKey) {
+        if (regionClimateTiles.remove(regionKey) != null) {
+            climateEvictions.increment();
+            synchronized (clockRing) {
+                clockRing.remove(regionKey);
+            }
+        }
     }
 
     /**
-     * NEW: Set cached moisture for a chunk within a region
+     * Chunk-load signal: the region is in use again
      */
-    public void setCachedMoisture(RegionKey regionKey, int chunkX, int chunkZ, double moisture) {
-        ConcurrentHashMap<ChunkKey, Double> moistureMap = regionMoistureCache.computeIfAbsent(regionKey, k -> new ConcurrentHashMap<>());
-        moistureMap.put(new ChunkKey(chunkX, chunkZ), moisture);
+    public void onChunkLoaded(RegionKey regionKey) {
+        loadedChunkCounts.computeIfAbsent(regionKey, k -> new AtomicInteger()).incrementAndGet();
     }
 
     /**
-     * NEW: Get cached moisture for a chunk within a region
+     * Chunk-unload signal: once a region has no loaded chunks its tile becomes the first eviction candidate
      */
-    public Double getCachedMoisture(RegionKey regionKey, int chunkX, int chunkZ) {
-        ConcurrentHashMap<ChunkKey, Double> moistureMap = regionMoistureCache.get(regionKey);
-        return moistureMap != null ? moistureMap.get(new ChunkKey(chunkX, chunkZ)) : null;
+    public void onChunkUnloaded(RegionKey regionKey) {
+        AtomicInteger count = loadedChunkCounts.get(regionKey);
+        if (count != null && count.decrementAndGet() <= 0) {
+            loadedChunkCounts.remove(regionKey, count);
+
+            RegionClimateTile tile = regionClimateTiles.get(regionKey);
+            if (tile != null) {
+                tile.referenced = false;
+            }
+        }
     }
 
     /**
-     * NEW: Set cached habitability for a chunk within a region
+     * Player-distance signal: drop tiles of regions with no loaded chunks that are further than
+     * keepRadius regions (Chebyshev) from every player region
+     * @return number of tiles evicted
      */
-    public void setCachedHabitability(RegionKey regionKey, int chunkX, int chunkZ, double habitability) {
-        ConcurrentHashMap<ChunkKey, Double> habitabilityMap = regionHabitabilityCache.computeIfAbsent(regionKey, k -> new ConcurrentHashMap<>());
-        habitabilityMap.put(new ChunkKey(chunkX, chunkZ), habitability);
+    public int evictRegionsAwayFrom(Collection<RegionKey> playerRegions, int keepRadius) {
+        int evicted = 0;
+        for (RegionKey regionKey : regionClimateTiles.keySet()) {
+            AtomicInteger loaded = loadedChunkCounts.get(regionKey);
+            if (loaded != null && loaded.get() > 0) {
+                continue;
+            }
+            if (!isNearAny(regionKey, playerRegions, keepRadius)) {
+                evictClimateTile(regionKey);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private static boolean isNearAny(RegionKey regionKey, Collection<RegionKey> playerRegions, int radius) {
+        for (RegionKey player : playerRegions) {
+            if (Math.abs(player.regionX - regionKey.regionX) <= radius &&
+                    Math.abs(player.regionZ - regionKey.regionZ) <= radius) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * NEW: Get cached habitability for a chunk within a region
+     * Estimated heap held by climate tiles
      */
-    public Double getCachedHabitability(RegionKey regionKey, int chunkX, int chunkZ) {
-        ConcurrentHashMap<ChunkKey, Double> habitabilityMap = regionHabitabilityCache.get(regionKey);
-        return habitabilityMap != null ? habitabilityMap.get(new ChunkKey(chunkX, chunkZ)) : null;
+    public long getClimateCacheBytes() {
+        return regionClimateTiles.size() * RegionClimateTile.ESTIMATED_BYTES;
     }
 
     // UPDATE the markRegionCompleted() method to clean up noise caches:
@@ -191,10 +293,7 @@ public class RegionCompletionTracker {
         regionVolatilityData.remove(regionKey);
 
         // NEW: Clean up noise caches too
-        regionTemperatureCache.remove(regionKey);
-        regionWindSpeedCache.remove(regionKey);
-        regionMoistureCache.remove(regionKey);
-        regionHabitabilityCache.remove(regionKey);
+        evictClimateTile(regionKey);
 
         Terradyne.LOGGER.info("Region {} marked as completed and removed from tracking (including noise caches)", regionKey);
     }
@@ -207,35 +306,41 @@ public class RegionCompletionTracker {
         regionVolatilityData.entrySet().removeIf(entry -> entry.getKey().planetName.equals(planetName));
 
         // NEW: Clean up noise caches too
-        regionTemperatureCache.entrySet().removeIf(entry -> entry.getKey().planetName.equals(planetName));
-        regionWindSpeedCache.entrySet().removeIf(entry -> entry.getKey().planetName.equals(planetName));
-        regionMoistureCache.entrySet().removeIf(entry -> entry.getKey().planetName.equals(planetName));
-        regionHabitabilityCache.entrySet().removeIf(entry -> entry.getKey().planetName.equals(planetName));
+        regionClimateTiles.entrySet().removeIf(entry -> entry.getKey().planetName.equals(planetName));
+        loadedChunkCounts.entrySet().removeIf(entry -> entry.getKey().planetName.equals(planetName));
+        synchronized (clockRing) {
+            clockRing.removeIf(key -> key.planetName.equals(planetName));
+        }
 
         Terradyne.LOGGER.info("Cleared all region tracking data and noise caches for planet: {}", planetName);
     }
 
     // UPDATE the getStatistics() method to include noise cache counts:
     public String getStatistics() {
-        return String.format("RegionTracker{completed=%d, active=%d, tracking=%d, volatility=%d, temp=%d, wind=%d, moisture=%d, habitat=%d}",
+        return String.format("RegionTracker{completed=%d, active=%d, tracking=%d, volatility=%d, climateTiles=%d/%d (%d KB, evicted=%d), temp=%d, wind=%d, moisture=%d, habitat=%d}",
                 completedRegions.size(),
                 activeRegions.size(),
                 regionChunkStatus.size(),
                 regionVolatilityData.size(),
-                regionTemperatureCache.size(),
-                regionWindSpeedCache.size(),
-                regionMoistureCache.size(),
-                regionHabitabilityCache.size());
+                regionClimateTiles.size(),
+                maxClimateTiles,
+                getClimateCacheBytes() / 1024,
+                climateEvictions.sum(),
+                countClimateEntries(RegionClimateTile.TEMPERATURE),
+                countClimateEntries(RegionClimateTile.WIND_SPEED),
+                countClimateEntries(RegionClimateTile.MOISTURE),
+                countClimateEntries(RegionClimateTile.HABITABILITY));
+    }
+
+    private int countClimateEntries(int field) {
+        return regionClimateTiles.values().stream().mapToInt(tile -> tile.countPresent(field)).sum();
     }
 
     /**
      * NEW: Get total cached noise entries for debugging
      */
     public int getTotalNoiseCacheEntries() {
-        return regionTemperatureCache.values().stream().mapToInt(map -> map.size()).sum() +
-                regionWindSpeedCache.values().stream().mapToInt(map -> map.size()).sum() +
-                regionMoistureCache.values().stream().mapToInt(map -> map.size()).sum() +
-                regionHabitabilityCache.values().stream().mapToInt(map -> map.size()).sum();
+        return regionClimateTiles.values().stream().mapToInt(RegionClimateTile::countPresent).sum();
     }
 
     /**
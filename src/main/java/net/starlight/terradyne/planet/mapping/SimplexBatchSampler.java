@@ -0,0 +1,21 @@
+package net.starlight.terradyne.planet.mapping;
+
+/**
+ * Batched SimplexNoiseSampler.sample(x, y, z) over a row of points sharing one y (the seed slice)
+ * Implementations must return exactly what the scalar sampler returns for every point.
+ * Obtain one through SimplexBatchSamplers.
+ */
+public interface SimplexBatchSampler {
+
+    /**
+     * out[i] = noise.sample(x[i], y, z[i]) for i in [0, count)
+     */
+    void sample(double[] x, double y, double[] z, double[] out, int count);
+
+    /**
+     * Points evaluated per instruction (1 for the scalar path)
+     */
+    int getLaneCount();
+
+    String getName();
+}
@@ -0,0 +1,130 @@
+package net.starlight.terradyne.planet.mapping;
+
+import net.minecraft.util.math.noise.SimplexNoiseSampler;
+import net.starlight.terradyne.Terradyne;
+import net.starlight.terradyne.mixin.SimplexNoiseSamplerAccessor;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Picks the batch simplex kernel for a noise sampler
+ * Rows are evaluated point by point unless -Dterradyne.simd=true, in which case the SIMD kernel
+ * (src/vector, jdk.incubator.vector) is used if the JVM was started with --add-modules jdk.incubator.vector
+ * and it passes a self-check against the scalar sampler. SIMD is opt-in until NoiseKernelBenchmark shows
+ * it ahead of the scalar sampler on the hosts we ship for.
+ *
+ * The self-check demands bit-identical results rather than a tolerance - heights feed (int) surface
+ * levels, and chunks must generate the same on hosts with and without SIMD.
+ */
+public final class SimplexBatchSamplers {
+
+    private static final String VECTOR_KERNEL = "net.starlight.terradyne.planet.mapping.VectorSimplexBatchSampler";
+    private static final boolean SIMD_ENABLED = Boolean.getBoolean("terradyne.simd");
+
+    private static final int SELF_CHECK_ROWS = 256;
+    private static final int SELF_CHECK_MAX_ROW = 48;
+
+    private static final AtomicBoolean selectionLogged = new AtomicBoolean();
+
+    private SimplexBatchSamplers() {}
+
+    /**
+     * Kernel for a sampler - SIMD when enabled and available, else scalar
+     */
+    public static SimplexBatchSampler create(SimplexNoiseSampler noise) {
+        SimplexBatchSampler vector = SIMD_ENABLED ? vector(noise) : null;
+        SimplexBatchSampler selected = vector != null ? vector : scalar(noise);
+
+        if (selectionLogged.compareAndSet(false, true)) {
+            Terradyne.LOGGER.info("Simplex batch kernel: {} ({} lanes){}", selected.getName(), selected.getLaneCount(),
+                    SIMD_ENABLED ? "" : " - enable SIMD with -Dterradyne.simd=true");
+        }
+        return selected;
+    }
+
+    /**
+     * Point-by-point kernel - exactly the vanilla sampler
+     */
+    public static SimplexBatchSampler scalar(SimplexNoiseSampler noise) {
+        return new ScalarSimplexBatchSampler(noise);
+    }
+
+    /**
+     * SIMD kernel at the platform's preferred vector width, or null if the Vector API is not
+     * available or the kernel disagrees with the scalar sampler
+     */
+    public static SimplexBatchSampler vector(SimplexNoiseSampler noise) {
+        SimplexBatchSampler kernel;
+        try {
+            int[] permutation = ((SimplexNoiseSamplerAccessor) noise).getPermutation();
+            kernel = (SimplexBatchSampler) Class.forName(VECTOR_KERNEL)
+                    .getConstructor(int[].class)
+                    .newInstance((Object) permutation);
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            Terradyne.LOGGER.debug("Vector API simplex kernel unavailable: {}", e.toString());
+            return null;
+        }
+
+        if (!selfCheck(kernel, noise)) {
+            return null;
+        }
+        return kernel;
+    }
+
+    /**
+     * Compare a kernel against the scalar sampler over random rows of every length up to 48
+     * (covers full vectors and scalar tails), at terrain and climate coordinate scales
+     */
+    private static boolean selfCheck(SimplexBatchSampler kernel, SimplexNoiseSampler noise) {
+        Random random = new Random(0x5EEDL);
+        double[] x = new double[SELF_CHECK_MAX_ROW];
+        double[] z = new double[SELF_CHECK_MAX_ROW];
+        double[] out = new double[SELF_CHECK_MAX_ROW];
+
+        for (int row = 0; row < SELF_CHECK_ROWS; row++) {
+            int count = 1 + row % SELF_CHECK_MAX_ROW;
+            double scale = (row & 1) == 0 ? 0.05 : 50.0;
+            double y = random.nextInt(64);
+            for (int i = 0; i < count; i++) {
+                x[i] = (random.nextDouble() - 0.5) * 2000.0 * scale;
+                z[i] = (random.nextDouble() - 0.5) * 2000.0 * scale;
+            }
+
+            kernel.sample(x, y, z, out, count);
+            for (int i = 0; i < count; i++) {
+                double expected = noise.sample(x[i], y, z[i]);
+                if (Double.doubleToRawLongBits(out[i]) != Double.doubleToRawLongBits(expected)) {
+                    Terradyne.LOGGER.warn("Simplex kernel {} failed self-check at ({}, {}, {}): {} != {} - using scalar noise",
+                            kernel.getName(), x[i], y, z[i], out[i], expected);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Scalar fallback - one vanilla sample per point
+     */
+    private static final class ScalarSimplexBatchSampler implements SimplexBatchSampler {
+        private final SimplexNoiseSampler noise;
+
+        ScalarSimplexBatchSampler(SimplexNoiseSampler noise) {
+            this.noise = noise;
+        }
+
+        @Override
+        public void sample(double[] x, double y, double[] z, double[] out, int count) {
+            for (int i = 0; i < count; i++) {
+                out[i] = noise.sample(x[i], y, z[i]);
+            }
+        }
+
+        @Override
+        public int getLaneCount() { return 1; }
+
+        @Override
+        public String getName() { return "scalar"; }
+    }
+}
@@ -0,0 +1,321 @@
+package net.starlight.terradyne.planet.mapping;
+
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.world.biome.Biome;
+import net.starlight.terradyne.Terradyne;
+import net.starlight.terradyne.planet.biome.BiomeClassificationSystem;
+import net.starlight.terradyne.planet.physics.PlanetModel;
+
+import java.awt.*;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Whole-planet map export at any resolution, streamed to disk with bounded memory
+ * The planet square is cut into strips of rows that are rendered in parallel and written in order
+ * through an incremental PNG encoder (or as raw little-endian float32 values). At most a fixed number of
+ * strips is in flight, and each holds about STRIP_PIXEL_BUDGET pixels, so memory does not depend on the
+ * image size - a 40000×40000 export needs the same few tens of MB as an 8192×8192 one.
+ *
+ * Color ranges for terrain and temperature come from a coarse preview pass, since the full image
+ * is never held at once.
+ */
+public final class StreamingMapExporter {
+
+    private static final int STRIP_PIXEL_BUDGET = 1 << 20; // ~4 MB of ARGB per strip
+    private static final int PREVIEW_SIZE = 128;
+    private static final int RAW_WRITE_BUFFER = 1 << 16;
+
+    /**
+     * Exportable map layers
+     */
+    public enum Layer {
+        TERRAIN("terrain"),
+        TECTONIC("tectonic"),
+        TEMPERATURE("temperature"),
+        WINDSPEED("windspeed"),
+        HUMIDITY("humidity"),
+        VOLATILITY("volatility"),
+        BIOMES("biomes");
+
+        private final String fileName;
+
+        Layer(String fileName) {
+            this.fileName = fileName;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        /**
+         * Whether the layer has a numeric value that can be exported raw
+         */
+        public boolean isScalar() {
+            return this != BIOMES;
+        }
+
+        /**
+         * Look up a layer by its file name, or null
+         */
+        public static Layer byName(String name) {
+            for (Layer layer : values()) {
+                if (layer.fileName.equalsIgnoreCase(name)) {
+                    return layer;
+                }
+            }
+            return null;
+        }
+    }
+
+    private StreamingMapExporter() {}
+
+    /**
+     * Export one layer covering the whole planet
+     * @param blocksPerPixel world blocks per pixel side (1 = full resolution)
+     * @param raw write float32 values instead of a PNG (scalar layers only)
+     * @param maxStripsInFlight strips rendered ahead of the writer - bounds memory
+     * @return the written file
+     * @throws CancellationException (possibly wrapped in a CompletionException) if progress reports cancellation
+     */
+    static Path export(PlanetModel planetModel, Path exportDir, String planetName, Layer layer, int blocksPerPixel,
+                       boolean raw, Executor executor, int maxStripsInFlight,
+                       ClimateMapExporter.ExportProgress progress) throws IOException {
+        if (raw && !layer.isScalar()) {
+            throw new IllegalArgumentException("The " + layer.getFileName() + " map has no raw form");
+        }
+
+        int circumference = planetModel.getConfig().getCircumference();
+        int size = Math.max(1, (circumference + blocksPerPixel - 1) / blocksPerPixel);
+        // Whole chunk rows per strip, so no chunk is split between two workers
+        int pixelsPerChunk = Math.max(1, 16 / blocksPerPixel);
+        int stripRows = Math.max(pixelsPerChunk,
+                Math.min(size, STRIP_PIXEL_BUDGET / size) / pixelsPerChunk * pixelsPerChunk);
+
+        Files.createDirectories(exportDir);
+        Path output = exportDir.resolve(String.format("%s_%s_%dx%d_%dbpp.%s",
+                planetName, layer.getFileName(), size, size, blocksPerPixel, raw ? "f32" : "png"));
+
+        Terradyne.LOGGER.info("=== STREAMING {} MAP FOR {}: {}×{} at {} blocks/pixel -> {} ===",
+                layer.getFileName().toUpperCase(), planetName.toUpperCase(), size, size, blocksPerPixel, output.getFileName());
+
+        StripRenderer renderer = new StripRenderer(planetModel, layer, -circumference / 2, blocksPerPixel, size);
+        if (!raw) {
+            // On the export pool like every other sample, since it can build climate tiles
+            CompletableFuture.runAsync(renderer::estimateRange, executor).join();
+        }
+
+        long startNanos = System.nanoTime();
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(output), RAW_WRITE_BUFFER)) {
+            StreamingPngWriter png = raw ? null : new StreamingPngWriter(stream, size, size);
+            ByteBuffer rawBuffer = raw ? ByteBuffer.allocate(RAW_WRITE_BUFFER).order(ByteOrder.LITTLE_ENDIAN) : null;
+
+            // === RENDER AHEAD, WRITE IN ORDER ===
+            ArrayDeque<CompletableFuture<Strip>> pending = new ArrayDeque<>();
+            int nextRow = 0;
+            int rowsWritten = 0;
+            while (rowsWritten < size) {
+                while (nextRow < size && pending.size() < maxStripsInFlight) {
+                    int fromRow = nextRow;
+                    int rows = renderer.alignToChunk(fromRow + stripRows) - fromRow;
+                    pending.add(CompletableFuture.supplyAsync(() -> renderer.render(fromRow, rows, raw, progress), executor));
+                    nextRow += rows;
+                }
+
+                Strip strip = pending.poll().join();
+                if (raw) {
+                    writeRaw(stream, rawBuffer, strip.values, strip.rows * size);
+                } else {
+                    png.writeRows(strip.pixels, strip.rows);
+                }
+                rowsWritten += strip.rows;
+                progress.onRowsSampled(rowsWritten, size);
+            }
+
+            if (png != null) {
+                png.close();
+            }
+        } catch (RuntimeException | IOException e) {
+            Files.deleteIfExists(output); // Never leave a truncated map behind
+            throw e;
+        }
+
+        Terradyne.LOGGER.info("✅ Streamed {} map to {} in {} s", layer.getFileName(), output,
+                (System.nanoTime() - startNanos) / 1_000_000_000L);
+        return output;
+    }
+
+    private static void writeRaw(OutputStream stream, ByteBuffer buffer, float[] values, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            if (!buffer.hasRemaining()) {
+                stream.write(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+            buffer.putFloat(values[i]);
+        }
+        stream.write(buffer.array(), 0, buffer.position());
+        buffer.clear();
+    }
+
+    /**
+     * One rendered strip - ARGB pixels or raw values
+     */
+    private record Strip(int rows, int[] pixels, float[] values) {}
+
+    /**
+     * Samples and colors strips of rows - shared by every worker, so it holds no per-strip state
+     * Terrain rows are sampled straight from the noise, never through the planet's heightfield cache:
+     * a single row can cross thousands of chunks, which would evict the grids live generation needs.
+     */
+    private static final class StripRenderer {
+        private final PlanetModel planetModel;
+        private final ChunkHeightfieldCache terrainHeights;
+        private final Layer layer;
+        private final BiomeClassificationSystem classifier;
+        private final int originBlock;
+        private final int blocksPerPixel;
+        private final int size;
+        private final double seaLevel;
+        private double rangeMin = 0.0;
+        private double rangeMax = 255.0;
+
+        StripRenderer(PlanetModel planetModel, Layer layer, int originBlock, int blocksPerPixel, int size) {
+            this.planetModel = planetModel;
+            this.terrainHeights = planetModel.getNoiseSystem().getHeightfieldCache();
+            this.layer = layer;
+            this.classifier = layer == Layer.BIOMES ? new BiomeClassificationSystem(planetModel) : null;
+            this.originBlock = originBlock;
+            this.blocksPerPixel = blocksPerPixel;
+            this.size = size;
+            this.seaLevel = planetModel.getPlanetData().getSeaLevel();
+        }
+
+        /**
+         * Color range from a coarse grid over the planet - only terrain and temperature need one
+         * Called before any strip is submitted, so workers see the final range
+         */
+        void estimateRange() {
+            if (layer != Layer.TERRAIN && layer != Layer.TEMPERATURE) {
+                return;
+            }
+            int step = Math.max(1, size * blocksPerPixel / PREVIEW_SIZE);
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+            for (int z = 0; z < PREVIEW_SIZE; z++) {
+                for (int x = 0; x < PREVIEW_SIZE; x++) {
+                    int worldX = originBlock + x * step + step / 2;
+                    int worldZ = originBlock + z * step + step / 2;
+                    double value = layer == Layer.TERRAIN
+                            ? planetModel.getTerrainHeight(worldX, worldZ)
+                            : planetModel.createChunkClimate(worldX >> 4, worldZ >> 4).getTemperature();
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+            rangeMin = min;
+            rangeMax = max;
+        }
+
+        Strip render(int fromRow, int rows, boolean raw, ClimateMapExporter.ExportProgress progress) {
+            int[] pixels = raw ? null : new int[rows * size];
+            float[] values = raw ? new float[rows * size] : null;
+            Map<RegistryKey<Biome>, Integer> biomeColors = layer == Layer.BIOMES ? new HashMap<>() : null;
+            double[] heights = layer == Layer.TERRAIN ? new double[size] : null;
+            boolean needsClimate = layer == Layer.TEMPERATURE || layer == Layer.WINDSPEED || layer == Layer.HUMIDITY;
+
+            for (int row = 0; row < rows; row++) {
+                if (progress.isCancelled()) {
+                    throw new CancellationException("Map export cancelled");
+                }
+
+                int worldZ = pixelToWorld(fromRow + row);
+                if (heights != null) {
+                    // Same values as the generation grids, one batch per row
+                    terrainHeights.sampleRowUncached(pixelToWorld(0), blocksPerPixel, worldZ, size, heights, 0);
+                }
+
+                ChunkClimateContext climate = null;
+                for (int x = 0; x < size; x++) {
+                    int worldX = pixelToWorld(x);
+                    int index = row * size + x;
+
+                    // One climate context per chunk along the row
+                    if (needsClimate && (climate == null || climate.getChunkX() != worldX >> 4)) {
+                        climate = planetModel.createChunkClimate(worldX >> 4, worldZ >> 4);
+                    }
+
+                    if (layer == Layer.BIOMES) {
+                        pixels[index] = biomeColor(worldX, worldZ, biomeColors);
+                        continue;
+                    }
+
+                    double value = switch (layer) {
+                        case TERRAIN -> heights[x];
+                        case TECTONIC -> planetModel.getTectonicActivity(worldX, worldZ);
+                        case TEMPERATURE -> climate.getTemperature();
+                        case WINDSPEED -> climate.getWindSpeed();
+                        case HUMIDITY -> climate.getMoisture();
+                        case VOLATILITY -> planetModel.getVolatilityAt(worldX, worldZ);
+                        default -> throw new IllegalStateException("Unexpected layer " + layer);
+                    };
+
+                    if (raw) {
+                        values[index] = (float) value;
+                    } else {
+                        pixels[index] = color(value).getRGB();
+                    }
+                }
+            }
+            return new Strip(rows, pixels, values);
+        }
+
+        private Color color(double value) {
+            return switch (layer) {
+                case TERRAIN -> ClimateMapExporter.getTerrainColor(value, seaLevel, rangeMin, rangeMax);
+                case TECTONIC -> ClimateMapExporter.getTectonicColor(value);
+                case TEMPERATURE -> ClimateMapExporter.getTemperatureColor(value, rangeMin, rangeMax);
+                case WINDSPEED -> ClimateMapExporter.getWindSpeedColor(value);
+                case HUMIDITY -> ClimateMapExporter.getHumidityColor(value);
+                case VOLATILITY -> ClimateMapExporter.getVolatilityColor((int) value);
+                default -> throw new IllegalStateException("Unexpected layer " + layer);
+            };
+        }
+
+        private int biomeColor(int worldX, int worldZ, Map<RegistryKey<Biome>, Integer> colors) {
+            try {
+                RegistryKey<Biome> biomeKey = classifier.classifyBiome(worldX, worldZ);
+                return colors.computeIfAbsent(biomeKey, key -> ClimateMapExporter.getBiomeColor(key).getRGB());
+            } catch (Exception e) {
+                return Color.MAGENTA.getRGB();
+            }
+        }
+
+        /**
+         * First pixel row at or after the given one that starts a new chunk row (or the image end)
+         */
+        int alignToChunk(int row) {
+            while (row > 0 && row < size && pixelToWorld(row) >> 4 == pixelToWorld(row - 1) >> 4) {
+                row++;
+            }
+            return Math.min(row, size);
+        }
+
+        /**
+         * World coordinate of a pixel's center
+         */
+        private int pixelToWorld(int pixel) {
+            return originBlock + pixel * blocksPerPixel + blocksPerPixel / 2;
+        }
+    }
+}
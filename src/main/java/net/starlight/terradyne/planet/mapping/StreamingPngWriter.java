@@ -0,0 +1,151 @@
+package net.starlight.terradyne.planet.mapping;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Incremental 8-bit RGB PNG encoder - rows are compressed and written as they arrive
+ * Only one row of filter state and one IDAT chunk buffer are held, so memory does not depend on
+ * image size. Rows use the Sub filter, which suits smooth map gradients and costs one subtraction per byte.
+ */
+final class StreamingPngWriter implements AutoCloseable {
+
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+    private static final int IDAT_CHUNK_SIZE = 1 << 16;
+    private static final int BYTES_PER_PIXEL = 3;
+    private static final byte FILTER_SUB = 1;
+
+    private final DataOutputStream out;
+    private final int width;
+    private final int height;
+    private final byte[] rowBytes;
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final DeflaterOutputStream imageData;
+    private int rowsWritten;
+
+    StreamingPngWriter(OutputStream out, int width, int height) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.width = width;
+        this.height = height;
+        this.rowBytes = new byte[1 + width * BYTES_PER_PIXEL];
+        this.imageData = new DeflaterOutputStream(new IdatStream(), deflater, IDAT_CHUNK_SIZE);
+
+        this.out.write(SIGNATURE);
+        byte[] header = new byte[13];
+        writeInt(header, 0, width);
+        writeInt(header, 4, height);
+        header[8] = 8;  // Bit depth
+        header[9] = 2;  // Color type: truecolor RGB
+        // Compression, filter and interlace methods stay 0
+        writeChunk("IHDR", header, header.length);
+    }
+
+    /**
+     * Append rows of packed 0xRRGGBB pixels
+     * @param pixels row-major, at least rows × width entries
+     */
+    void writeRows(int[] pixels, int rows) throws IOException {
+        if (rowsWritten + rows > height) {
+            throw new IllegalStateException("PNG already has all " + height + " rows");
+        }
+
+        for (int row = 0; row < rows; row++) {
+            rowBytes[0] = FILTER_SUB;
+            int previousRgb = 0;
+            int offset = row * width;
+            for (int x = 0, i = 1; x < width; x++, i += BYTES_PER_PIXEL) {
+                int rgb = pixels[offset + x];
+                rowBytes[i] = (byte) ((rgb >> 16) - (previousRgb >> 16));
+                rowBytes[i + 1] = (byte) ((rgb >> 8) - (previousRgb >> 8));
+                rowBytes[i + 2] = (byte) (rgb - previousRgb);
+                previousRgb = rgb;
+            }
+            imageData.write(rowBytes);
+        }
+        rowsWritten += rows;
+    }
+
+    /**
+     * Finish the image data and write the end chunk - every row must have been written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (rowsWritten != height) {
+                throw new IOException("PNG incomplete: " + rowsWritten + " of " + height + " rows written");
+            }
+            imageData.close(); // Flushes the last IDAT chunk
+            writeChunk("IEND", new byte[0], 0);
+            out.flush();
+        } finally {
+            deflater.end();
+            out.close();
+        }
+    }
+
+    private void writeChunk(String type, byte[] data, int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+
+        out.writeInt(length);
+        out.write(typeBytes);
+        out.write(data, 0, length);
+        out.writeInt((int) crc.getValue());
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Collects compressed bytes into fixed-size IDAT chunks
+     */
+    private final class IdatStream extends OutputStream {
+        private final byte[] buffer = new byte[IDAT_CHUNK_SIZE];
+        private int size;
+
+        @Override
+        public void write(int b) throws IOException {
+            buffer[size++] = (byte) b;
+            if (size == buffer.length) {
+                flushChunk();
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            while (length > 0) {
+                int count = Math.min(length, buffer.length - size);
+                System.arraycopy(bytes, offset, buffer, size, count);
+                size += count;
+                offset += count;
+                length -= count;
+                if (size == buffer.length) {
+                    flushChunk();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flushChunk();
+        }
+
+        private void flushChunk() throws IOException {
+            if (size > 0) {
+                writeChunk("IDAT", buffer, size);
+                size = 0;
+            }
+        }
+    }
+}
@@ -1,13 +1,9 @@
 package net.starlight.terradyne.planet.mapping;
 
-import net.minecraft.util.math.noise.SimplexNoiseSampler;
-import net.minecraft.util.math.random.Random;
 import net.starlight.terradyne.Terradyne;
 import net.starlight.terradyne.planet.physics.PlanetConfig;
 import net.starlight.terradyne.planet.physics.PlanetData;
 
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * Manages tectonic plate boundaries using ridge noise for natural fault patterns
  * REWRITTEN: Uses ridge noise instead of Voronoi for uniform thin boundaries
@@ -16,30 +12,51 @@ public class TectonicVolatilityManager {
 
     private final PlanetConfig config;
     private final PlanetData planetData;
-    private final SimplexNoiseSampler primaryFaultNoise;   // Major plate boundaries
-    private final SimplexNoiseSampler secondaryFaultNoise; // Smaller fractures
-    private final SimplexNoiseSampler variationNoise;      // Boundary variation
+    private final NoiseBackend primaryFaultNoise;   // Major plate boundaries
+    private final NoiseBackend secondaryFaultNoise; // Smaller fractures
+    private final NoiseBackend variationNoise;      // Boundary variation
 
     // Fault system parameters
     private final double primaryFaultScale;
     private final double secondaryFaultScale;
     private final double volatilityThickness;
 
-    // Volatility cache for performance
-    private final ConcurrentHashMap<Long, Integer> volatilityCache = new ConcurrentHashMap<>();
+    // === VOLATILITY CACHE ===
+    public static final int QUART_RESOLUTION = 2;  // 4×4 block cells - matches biome quart sampling exactly
+    public static final int CHUNK_RESOLUTION = 4;  // 16×16 block cells - sampled at chunk centers
+    public static final int DEFAULT_CACHE_ENTRIES = 1 << 16;
+
+    private final VolatilityCache volatilityCache;
+    private final int cacheResolutionShift;
+    private final int cellSampleOffset;
 
     /**
      * Create tectonic volatility manager using ridge noise fault systems
      */
-    public TectonicVolatilityManager(PlanetConfig config, PlanetData planetData, SimplexNoiseSampler masterNoise) {
+    public TectonicVolatilityManager(PlanetConfig config, PlanetData planetData, NoiseBackend masterNoise) {
+        this(config, planetData, masterNoise, QUART_RESOLUTION, DEFAULT_CACHE_ENTRIES);
+    }
+
+    /**
+     * Create tectonic volatility manager with an explicit cache resolution (log2 of the cell size in blocks)
+     */
+    public TectonicVolatilityManager(PlanetConfig config, PlanetData planetData, NoiseBackend masterNoise,
+                                     int cacheResolutionShift, int cacheEntries) {
         this.config = config;
         this.planetData = planetData;
 
-        // Create separate noise samplers for different fault scales
+        // Volatility is evaluated at one representative point per cell: the corner for quart cells
+        // (what biome sampling asks for), the center for chunk-sized and larger cells
+        this.cacheResolutionShift = cacheResolutionShift;
+        int cellSize = 1 << cacheResolutionShift;
+        this.cellSampleOffset = cellSize >= 16 ? cellSize / 2 : 0;
+        this.volatilityCache = new VolatilityCache(cacheEntries);
+
+        // Create separate noise backends for different fault scales
         long baseSeed = config.getSeed();
-        this.primaryFaultNoise = new SimplexNoiseSampler(Random.create(baseSeed + 11111));
-        this.secondaryFaultNoise = new SimplexNoiseSampler(Random.create(baseSeed + 22222));
-        this.variationNoise = new SimplexNoiseSampler(Random.create(baseSeed + 33333));
+        this.primaryFaultNoise = NoiseBackends.create(config.getNoiseBackend(), baseSeed + 11111);
+        this.secondaryFaultNoise = NoiseBackends.create(config.getNoiseBackend(), baseSeed + 22222);
+        this.variationNoise = NoiseBackends.create(config.getNoiseBackend(), baseSeed + 33333);
 
         // Calculate fault scales based on planet physics
         this.primaryFaultScale = calculatePrimaryFaultScale();
@@ -102,42 +119,52 @@ public class TectonicVolatilityManager {
 
     /**
      * Get volatility level at world coordinates with ridge-based calculation
+     * Cached per resolution cell, so every position in a cell shares one value
      */
     public int getVolatilityAt(int worldX, int worldZ) {
-        // Create cache key (pack coordinates into long)
-        long cacheKey = ((long) worldX << 32) | (worldZ & 0xFFFFFFFFL);
+        int cellX = worldX >> cacheResolutionShift;
+        int cellZ = worldZ >> cacheResolutionShift;
+
+        // Create cache key (pack cell coordinates into long)
+        long cacheKey = ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
 
         // Check cache first
-        Integer cached = volatilityCache.get(cacheKey);
-        if (cached != null) {
+        int cached = volatilityCache.get(cacheKey);
+        if (cached >= 0) {
             return cached;
         }
 
-        // Calculate volatility using ridge noise
-        int volatility = calculateRidgeBasedVolatility(worldX, worldZ);
+        // Calculate volatility using ridge noise at the cell's representative point
+        int volatility = calculateRidgeBasedVolatility(
+                (cellX << cacheResolutionShift) + cellSampleOffset,
+                (cellZ << cacheResolutionShift) + cellSampleOffset);
 
-        // Cache result (limit cache size to prevent memory issues)
-        if (volatilityCache.size() < 10000) {
-            volatilityCache.put(cacheKey, volatility);
-        }
+        volatilityCache.put(cacheKey, volatility);
 
         return volatility;
     }
 
+    /**
+     * Calculate volatility without touching the cache (bulk/atlas sampling)
+     */
+    public int computeVolatilityUncached(int worldX, int worldZ) {
+        return calculateRidgeBasedVolatility(worldX, worldZ);
+    }
+
     /**
      * Calculate volatility using ridge noise fault systems
      */
     private int calculateRidgeBasedVolatility(int worldX, int worldZ) {
         // Sample ridge noise at two scales (primary and secondary faults)
-        double primaryRidge = Math.abs(primaryFaultNoise.sample(worldX * primaryFaultScale, 0, worldZ * primaryFaultScale));
-        double secondaryRidge = Math.abs(secondaryFaultNoise.sample(worldX * secondaryFaultScale, 100, worldZ * secondaryFaultScale));
+        double primaryRidge = Math.abs(primaryFaultNoise.sample(worldX * primaryFaultScale, worldZ * primaryFaultScale, 0));
+        double secondaryRidge = Math.abs(secondaryFaultNoise.sample(worldX * secondaryFaultScale, worldZ * secondaryFaultScale, 100));
 
         // Find distance to nearest fault line (primary or secondary)
         double nearestFaultDistance = Math.min(primaryRidge, secondaryRidge * 0.6); // Secondary faults are weaker
 
         // Add natural variation to boundaries
         double variationScale = volatilityThickness * 0.5;
-        double boundaryVariation = variationNoise.sample(worldX / variationScale, 200, worldZ / variationScale) * 0.15;
+        double boundaryVariation = variationNoise.sample(worldX / variationScale, worldZ / variationScale, 200) * 0.15;
         double adjustedDistance = nearestFaultDistance + boundaryVariation;
 
         // Convert distance to volatility levels with smooth transitions
@@ -190,8 +217,12 @@ public class TectonicVolatilityManager {
      * Get statistics for debugging
      */
     public String getStatistics() {
-        return String.format("RidgeVolatility{primaryScale=%.6f, secondaryScale=%.6f, thickness=%.0f blocks, cached=%d}",
-                primaryFaultScale, secondaryFaultScale, volatilityThickness, volatilityCache.size());
+        return String.format("RidgeVolatility{primaryScale=%.6f, secondaryScale=%.6f, thickness=%.0f blocks, " +
+                        "cache=%d/%d @%d-block cells, hitRate=%.1f%% (%d hits, %d misses, %d evictions)}",
+                primaryFaultScale, secondaryFaultScale, volatilityThickness,
+                volatilityCache.size(), volatilityCache.capacity(), 1 << cacheResolutionShift,
+                volatilityCache.getHitRate() * 100.0, volatilityCache.getHits(),
+                volatilityCache.getMisses(), volatilityCache.getEvictions());
     }
 
     /**
@@ -211,6 +242,13 @@ public class TectonicVolatilityManager {
         return 1.0 / (primaryFaultScale * 1.5);
     }
 
+    /**
+     * Get cache hit rate (0-1) since startup
+     */
+    public double getCacheHitRate() {
+        return volatilityCache.getHitRate();
+    }
+
     /**
      * Get volatility thickness for debugging
      */
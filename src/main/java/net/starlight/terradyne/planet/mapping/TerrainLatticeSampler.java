@@ -0,0 +1,120 @@
+package net.starlight.terradyne.planet.mapping;
+
+/**
+ * Coarse-lattice terrain sampler for INTERPOLATED terrain sampling
+ * Evaluates the full terrain noise stack only on a world-aligned lattice (every 'spacing' blocks)
+ * and reconstructs columns with separable Catmull-Rom (bicubic) interpolation.
+ * Lattice points reproduce the exact height; a chunk needs (16/spacing + 3)² samples instead of 256.
+ *
+ * Chunk fills and single-column samples share the same interpolation code, so a column
+ * gets bit-identical heights whether it came from a cached grid or a point lookup.
+ */
+public final class TerrainLatticeSampler {
+
+    public static final int[] SUPPORTED_SPACINGS = {2, 4, 8, 16};
+
+    private final TerrainNoiseMap terrainMap;
+    private final int spacing;
+    private final int shift;
+
+    TerrainLatticeSampler(TerrainNoiseMap terrainMap, int spacing) {
+        if (!isSupportedSpacing(spacing)) {
+            throw new IllegalArgumentException("Lattice spacing must be 2, 4, 8 or 16, got " + spacing);
+        }
+        this.terrainMap = terrainMap;
+        this.spacing = spacing;
+        this.shift = Integer.numberOfTrailingZeros(spacing);
+    }
+
+    /**
+     * Check whether a spacing divides a chunk evenly into power-of-two cells
+     */
+    public static boolean isSupportedSpacing(int spacing) {
+        for (int supported : SUPPORTED_SPACINGS) {
+            if (supported == spacing) return true;
+        }
+        return false;
+    }
+
+    public int getSpacing() { return spacing; }
+
+    /**
+     * Noise evaluations needed per chunk
+     */
+    public int getSamplesPerChunk() {
+        int side = (16 >> shift) + 3;
+        return side * side;
+    }
+
+    /**
+     * Fill a 16×16 chunk grid, indexed (localZ << 4) | localX
+     */
+    void fillChunk(int chunkX, int chunkZ, double[] out) {
+        int startX = chunkX << 4;
+        int startZ = chunkZ << 4;
+
+        // Lattice covers one cell of margin on each side for the cubic kernel
+        int firstCellX = (startX >> shift) - 1;
+        int firstCellZ = (startZ >> shift) - 1;
+        int side = (16 >> shift) + 3;
+
+        double[] lattice = new double[side * side];
+        for (int j = 0; j < side; j++) {
+            terrainMap.sampleRow(firstCellX << shift, 1 << shift, (firstCellZ + j) << shift, side, lattice, j * side);
+        }
+
+        for (int z = 0; z < 16; z++) {
+            int worldZ = startZ + z;
+            for (int x = 0; x < 16; x++) {
+                int worldX = startX + x;
+                int baseI = (worldX >> shift) - 1 - firstCellX;
+                int baseJ = (worldZ >> shift) - 1 - firstCellZ;
+                out[(z << 4) | x] = interpolate(lattice, side, baseI, baseJ, fraction(worldX), fraction(worldZ));
+            }
+        }
+    }
+
+    /**
+     * Sample one column from its 4×4 lattice neighbourhood
+     */
+    double sample(int worldX, int worldZ) {
+        int firstCellX = (worldX >> shift) - 1;
+        int firstCellZ = (worldZ >> shift) - 1;
+
+        double[] lattice = new double[16];
+        for (int j = 0; j < 4; j++) {
+            terrainMap.sampleRow(firstCellX << shift, 1 << shift, (firstCellZ + j) << shift, 4, lattice, j * 4);
+        }
+
+        return interpolate(lattice, 4, 0, 0, fraction(worldX), fraction(worldZ));
+    }
+
+    private double fraction(int worldCoord) {
+        return (double) (worldCoord & (spacing - 1)) / spacing;
+    }
+
+    /**
+     * Bicubic interpolation over the 4×4 block starting at (baseI, baseJ) - rows along X first, then Z
+     */
+    private static double interpolate(double[] lattice, int stride, int baseI, int baseJ, double tx, double tz) {
+        int row0 = baseJ * stride + baseI;
+        int row1 = row0 + stride;
+        int row2 = row1 + stride;
+        int row3 = row2 + stride;
+
+        double r0 = catmullRom(lattice[row0], lattice[row0 + 1], lattice[row0 + 2], lattice[row0 + 3], tx);
+        double r1 = catmullRom(lattice[row1], lattice[row1 + 1], lattice[row1 + 2], lattice[row1 + 3], tx);
+        double r2 = catmullRom(lattice[row2], lattice[row2 + 1], lattice[row2 + 2], lattice[row2 + 3], tx);
+        double r3 = catmullRom(lattice[row3], lattice[row3 + 1], lattice[row3 + 2], lattice[row3 + 3], tx);
+        return catmullRom(r0, r1, r2, r3, tz);
+    }
+
+    /**
+     * Catmull-Rom spline between p1 (t=0) and p2 (t=1)
+     */
+    private static double catmullRom(double p0, double p1, double p2, double p3, double t) {
+        return p1 + 0.5 * t * (p2 - p0
+                + t * (2.0 * p0 - 5.0 * p1 + 4.0 * p2 - p3
+                + t * (3.0 * (p1 - p2) + p3 - p0)));
+    }
+}
@@ -0,0 +1,49 @@
+package net.starlight.terradyne.planet.mapping;
+
+import net.minecraft.util.math.noise.SimplexNoiseSampler;
+import net.minecraft.util.math.random.Random;
+
+/**
+ * Minecraft's SimplexNoiseSampler - 3D noise with the slice as y
+ * The original generator; existing worlds depend on it producing exactly these values.
+ * Rows go through the batch kernel chosen by SimplexBatchSamplers.
+ */
+final class VanillaNoiseBackend implements NoiseBackend {
+
+    private final SimplexNoiseSampler noise;
+    private final SimplexBatchSampler batchNoise;
+
+    VanillaNoiseBackend(long seed) {
+        this.noise = new SimplexNoiseSampler(Random.create(seed));
+        this.batchNoise = SimplexBatchSamplers.create(noise);
+    }
+
+    @Override
+    public double sample(double x, double z, double slice) {
+        return noise.sample(x, slice, z);
+    }
+
+    @Override
+    public void sampleRow(double[] x, double[] z, double slice, double[] out, int count) {
+        batchNoise.sample(x, slice, z, out, count);
+    }
+
+    @Override
+    public double sampleOctaves(double x, double z, double slice, int octaves, double lacunarity, double persistence,
+                                double sliceStep) {
+        double value = 0.0;
+        double frequency = 1.0;
+        double amplitude = 1.0;
+        for (int octave = 0; octave < octaves; octave++) {
+            value += noise.sample(x * frequency, slice + octave * sliceStep, z * frequency) * amplitude;
+            frequency *= lacunarity;
+            amplitude *= persistence;
+        }
+        return value;
+    }
+
+    @Override
+    public String getName() {
+        return "vanilla/" + batchNoise.getName();
+    }
+}
@@ -0,0 +1,226 @@
+package net.starlight.terradyne.planet.mapping;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded long→byte cache for volatility levels
+ * Lock-striped, open-addressed (linear probing) tables with CLOCK eviction per stripe,
+ * so the cache never stops accepting new keys once it is full
+ */
+final class VolatilityCache {
+
+    private static final long EMPTY = Long.MIN_VALUE; // Unreachable packed coordinate
+    private static final int STRIPE_COUNT = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Create a cache holding at most maxEntries values
+     */
+    VolatilityCache(int maxEntries) {
+        int perStripe = Math.max(16, maxEntries / STRIPE_COUNT);
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * Look up a key
+     * @return cached value, or -1 if absent
+     */
+    int get(long key) {
+        long hash = mix(key);
+        int value = stripeFor(hash).get(key, (int) hash);
+        if (value >= 0) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Insert or overwrite a key, evicting a cold entry if the stripe is full
+     */
+    void put(long key, int value) {
+        long hash = mix(key);
+        if (stripeFor(hash).put(key, (int) hash, (byte) value)) {
+            evictions.increment();
+        }
+    }
+
+    void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    int capacity() {
+        return stripes[0].maxSize * STRIPE_COUNT;
+    }
+
+    long getHits() { return hits.sum(); }
+    long getMisses() { return misses.sum(); }
+    long getEvictions() { return evictions.sum(); }
+
+    double getHitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    private Stripe stripeFor(long hash) {
+        return stripes[(int) (hash >>> 60)];
+    }
+
+    /**
+     * SplitMix64 finalizer - spreads packed coordinates across stripes and slots
+     */
+    private static long mix(long key) {
+        long z = key + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * One lock stripe: linear-probing table at most half full, CLOCK hand over the slots
+     */
+    private static final class Stripe {
+        private final long[] keys;
+        private final byte[] values;
+        private final boolean[] referenced;
+        private final int mask;
+        private final int maxSize;
+        private int size;
+        private int hand;
+
+        Stripe(int maxSize) {
+            int tableSize = Integer.highestOneBit(Math.max(2, maxSize) * 2 - 1) << 1;
+            this.keys = new long[tableSize];
+            this.values = new byte[tableSize];
+            this.referenced = new boolean[tableSize];
+            this.mask = tableSize - 1;
+            this.maxSize = maxSize;
+            Arrays.fill(keys, EMPTY);
+        }
+
+        synchronized int get(long key, int hash) {
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                long k = keys[slot];
+                if (k == key) {
+                    referenced[slot] = true;
+                    return values[slot];
+                }
+                if (k == EMPTY) {
+                    return -1;
+                }
+            }
+        }
+
+        /**
+         * @return true if an entry had to be evicted to make room
+         */
+        synchronized boolean put(long key, int hash, byte value) {
+            int slot = findSlot(key, hash);
+            if (keys[slot] == key) {
+                values[slot] = value;
+                referenced[slot] = true;
+                return false;
+            }
+
+            boolean evicted = false;
+            if (size >= maxSize) {
+                evictOne();
+                evicted = true;
+                slot = findSlot(key, hash); // Backward shifting may have moved the probe chain
+            }
+
+            keys[slot] = key;
+            values[slot] = value;
+            referenced[slot] = false; // New entries must be hit once before they earn a second chance
+            size++;
+            return evicted;
+        }
+
+        private int findSlot(long key, int hash) {
+            int slot = hash & mask;
+            while (keys[slot] != EMPTY && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * Advance the CLOCK hand to the first unreferenced entry and remove it
+         */
+        private void evictOne() {
+            while (true) {
+                int slot = hand;
+                hand = (hand + 1) & mask;
+                if (keys[slot] == EMPTY) {
+                    continue;
+                }
+                if (referenced[slot]) {
+                    referenced[slot] = false;
+                    continue;
+                }
+                removeAt(slot);
+                return;
+            }
+        }
+
+        /**
+         * Linear-probing deletion with backward shift, so no tombstones are needed
+         */
+        private void removeAt(int slot) {
+            int hole = slot;
+            int next = slot;
+            while (true) {
+                next = (next + 1) & mask;
+                long k = keys[next];
+                if (k == EMPTY) {
+                    break;
+                }
+                int home = (int) mix(k) & mask;
+                // Move the entry into the hole unless its home lies cyclically in (hole, next]
+                boolean homeBetween = hole <= next
+                        ? (home > hole && home <= next)
+                        : (home > hole || home <= next);
+                if (!homeBetween) {
+                    keys[hole] = k;
+                    values[hole] = values[next];
+                    referenced[hole] = referenced[next];
+                    hole = next;
+                }
+            }
+            keys[hole] = EMPTY;
+            referenced[hole] = false;
+            size--;
+        }
+
+        synchronized void clear() {
+            Arrays.fill(keys, EMPTY);
+            Arrays.fill(referenced, false);
+            size = 0;
+            hand = 0;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package net.starlight.terradyne.planet.mapping;
+
+import java.util.Arrays;
+
+/**
+ * Distance-to-water over a grid of terrain samples
+ * Two-pass chamfer distance transform of the land/sea mask (orthogonal step 1, diagonal step √2):
+ * a forward pass pulls distances from the upper-left neighbours, a backward pass from the lower-right.
+ * Euclidean distance is overestimated by at most ~8%, with no directional gaps between probes.
+ */
+final class WaterDistanceField {
+
+    private static final float DIAGONAL = (float) Math.sqrt(2.0);
+
+    private WaterDistanceField() {}
+
+    /**
+     * Distance in blocks from every cell to the nearest water cell, or +infinity if the grid has no water
+     *
+     * @param water    land/sea mask, row-major width * height
+     * @param cellSize blocks between neighbouring cells
+     */
+    static float[] compute(boolean[] water, int width, int height, float cellSize) {
+        float[] distance = new float[width * height];
+        Arrays.fill(distance, Float.POSITIVE_INFINITY);
+        for (int i = 0; i < distance.length; i++) {
+            if (water[i]) {
+                distance[i] = 0.0f;
+            }
+        }
+
+        // === FORWARD PASS (left, up-left, up, up-right) ===
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                int i = row * width + col;
+                float d = distance[i];
+                if (col > 0) d = Math.min(d, distance[i - 1] + 1.0f);
+                if (row > 0) {
+                    int up = i - width;
+                    d = Math.min(d, distance[up] + 1.0f);
+                    if (col > 0) d = Math.min(d, distance[up - 1] + DIAGONAL);
+                    if (col < width - 1) d = Math.min(d, distance[up + 1] + DIAGONAL);
+                }
+                distance[i] = d;
+            }
+        }
+
+        // === BACKWARD PASS (right, down-right, down, down-left) ===
+        for (int row = height - 1; row >= 0; row--) {
+            for (int col = width - 1; col >= 0; col--) {
+                int i = row * width + col;
+                float d = distance[i];
+                if (col < width - 1) d = Math.min(d, distance[i + 1] + 1.0f);
+                if (row < height - 1) {
+                    int down = i + width;
+                    d = Math.min(d, distance[down] + 1.0f);
+                    if (col < width - 1) d = Math.min(d, distance[down + 1] + DIAGONAL);
+                    if (col > 0) d = Math.min(d, distance[down - 1] + DIAGONAL);
+                }
+                distance[i] = d;
+            }
+        }
+
+        for (int i = 0; i < distance.length; i++) {
+            distance[i] *= cellSize;
+        }
+        return distance;
+    }
+}
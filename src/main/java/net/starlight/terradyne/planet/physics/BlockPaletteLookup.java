@@ -0,0 +1,120 @@
+package net.starlight.terradyne.planet.physics;
+
+import net.minecraft.block.Block;
+import net.starlight.terradyne.Terradyne;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Quantized lookup table for BlockPalette.getBlockForConditions
+ * Elevation, erosion and habitability are each split into 64 bins of 1/60 width, so every
+ * palette threshold (0.3, 0.5, 0.6, 0.7) falls exactly on a bin edge. Block selection becomes one
+ * byte read indexing the palette's handful of distinct blocks.
+ *
+ * Bin k covers (k/60, (k+1)/60]; values at or below 0 use bin 0 and values past 63/60 use bin 63.
+ * Only a value within one ulp of a threshold can land in the neighbouring bin.
+ * Every cell is verified against the palette at both ends of its range when the table is built -
+ * if a palette ever gains non-threshold logic, verification fails and the palette is used directly.
+ */
+public final class BlockPaletteLookup {
+
+    private static final int BINS = 64;
+    private static final double BINS_PER_UNIT = 60.0;
+
+    private final BlockPaletteManager.BlockPalette palette;
+    private final Block[] blocks;
+    private final byte[] table;     // Indexed (elevationBin * BINS + erosionBin) * BINS + habitabilityBin
+
+    private BlockPaletteLookup(BlockPaletteManager.BlockPalette palette, Block[] blocks, byte[] table) {
+        this.palette = palette;
+        this.blocks = blocks;
+        this.table = table;
+    }
+
+    /**
+     * Build and verify the table for a palette
+     */
+    public static BlockPaletteLookup build(BlockPaletteManager.BlockPalette palette) {
+        List<Block> distinct = new ArrayList<>();
+        byte[] table = new byte[BINS * BINS * BINS];
+
+        for (int e = 0; e < BINS; e++) {
+            for (int r = 0; r < BINS; r++) {
+                for (int h = 0; h < BINS; h++) {
+                    Block block = palette.getBlockForConditions(binCenter(e), binCenter(r), binCenter(h));
+                    int id = distinct.indexOf(block);
+                    if (id < 0) {
+                        id = distinct.size();
+                        distinct.add(block);
+                    }
+                    table[(e * BINS + r) * BINS + h] = (byte) id;
+                }
+            }
+        }
+
+        BlockPaletteLookup lookup = new BlockPaletteLookup(palette, distinct.toArray(new Block[0]), table);
+        if (!lookup.verify()) {
+            Terradyne.LOGGER.warn("Block palette lookup table disagrees with {} - using direct palette selection", palette);
+            return new BlockPaletteLookup(palette, null, null);
+        }
+        return lookup;
+    }
+
+    /**
+     * Get the palette block for given conditions - same result as BlockPalette.getBlockForConditions
+     */
+    public Block getBlockForConditions(double elevation, double erosion, double habitability) {
+        if (table == null) {
+            return palette.getBlockForConditions(elevation, erosion, habitability);
+        }
+        return blocks[table[(bin(elevation) * BINS + bin(erosion)) * BINS + bin(habitability)]];
+    }
+
+    /**
+     * Number of distinct blocks the palette can produce
+     */
+    public int getDistinctBlockCount() {
+        return blocks != null ? blocks.length : 0;
+    }
+
+    private static int bin(double value) {
+        int bin = (int) Math.ceil(value * BINS_PER_UNIT) - 1;
+        return Math.max(0, Math.min(BINS - 1, bin));
+    }
+
+    private static double binCenter(int bin) {
+        return (bin + 0.5) / BINS_PER_UNIT;
+    }
+
+    /**
+     * Exhaustive check: every cell matches the palette at the lowest and highest value it covers
+     * Palette selection is a set of threshold tests, so agreeing at both ends of every axis means
+     * agreeing everywhere in the cell
+     */
+    private boolean verify() {
+        for (int e = 0; e < BINS; e++) {
+            for (int r = 0; r < BINS; r++) {
+                for (int h = 0; h < BINS; h++) {
+                    Block expected = blocks[table[(e * BINS + r) * BINS + h]];
+                    for (int corner = 0; corner < 8; corner++) {
+                        double elevation = binEdge(e, (corner & 1) != 0);
+                        double erosion = binEdge(r, (corner & 2) != 0);
+                        double habitability = binEdge(h, (corner & 4) != 0);
+                        if (palette.getBlockForConditions(elevation, erosion, habitability) != expected) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lowest (exclusive edge nudged inward) or highest value of a bin
+     */
+    private static double binEdge(int bin, boolean upper) {
+        return upper ? (bin + 1) / BINS_PER_UNIT : Math.nextUp(bin / BINS_PER_UNIT);
+    }
+}
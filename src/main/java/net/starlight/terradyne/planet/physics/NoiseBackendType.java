@@ -0,0 +1,20 @@
+package net.starlight.terradyne.planet.physics;
+
+/**
+ * Which simplex implementation a planet's noise maps sample
+ */
+public enum NoiseBackendType {
+    VANILLA("Vanilla", "Minecraft's 3D simplex sampler with seed offsets as y slices - matches existing worlds"),
+    FAST_2D("Fast 2D", "Native 2D simplex with precomputed tables - faster, but generates different terrain");
+
+    private final String displayName;
+    private final String description;
+
+    NoiseBackendType(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public String getDescription() { return description; }
+}
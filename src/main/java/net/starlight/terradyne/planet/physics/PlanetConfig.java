@@ -1,8 +1,12 @@
 package net.starlight.terradyne.planet.physics;
 
 import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
+import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 
+import java.util.Arrays;
+
 /**
  * Ultra-simple user input parameters for physics-based generation
  * No validation - all constraint enforcement handled by PhysicsCalculator
@@ -23,10 +27,49 @@ public class PlanetConfig {
             Codec.DOUBLE.fieldOf("crustal_thickness").forGetter(PlanetConfig::getCrustalThickness),
             Codec.DOUBLE.fieldOf("atmospheric_density").forGetter(PlanetConfig::getAtmosphericDensity),
             Codec.DOUBLE.fieldOf("rotation_period").forGetter(PlanetConfig::getRotationPeriod),
-            Codec.DOUBLE.fieldOf("noise_scale").forGetter(PlanetConfig::getNoiseScale)
+            Codec.DOUBLE.fieldOf("noise_scale").forGetter(PlanetConfig::getNoiseScale),
+            RuntimeTuning.MAP_CODEC.forGetter(RuntimeTuning::of)
         ).apply(instance, PlanetConfig::fromCodec)
     );
-    
+
+    /**
+     * Optional runtime tuning fields
+     * Inlined into the same JSON object - kept in their own map codec to stay within the record codec's field limit
+     */
+    private record RuntimeTuning(int regionCacheBudgetMb, TerrainSamplingMode terrainSampling, int terrainLatticeSpacing,
+                                 int climateAtlasSpacing, NoiseBackendType noiseBackend) {
+
+        static final MapCodec<RuntimeTuning> MAP_CODEC = RecordCodecBuilder.mapCodec(instance ->
+            instance.group(
+                Codec.INT.optionalFieldOf("region_cache_budget_mb", DEFAULT_REGION_CACHE_BUDGET_MB).forGetter(RuntimeTuning::regionCacheBudgetMb),
+                enumCodec(TerrainSamplingMode.class, "terrain_sampling").optionalFieldOf("terrain_sampling", TerrainSamplingMode.HIGH_FIDELITY).forGetter(RuntimeTuning::terrainSampling),
+                Codec.INT.optionalFieldOf("terrain_lattice_spacing", DEFAULT_TERRAIN_LATTICE_SPACING).forGetter(RuntimeTuning::terrainLatticeSpacing),
+                Codec.INT.optionalFieldOf("climate_atlas_spacing", 0).forGetter(RuntimeTuning::climateAtlasSpacing),
+                enumCodec(NoiseBackendType.class, "noise_backend").optionalFieldOf("noise_backend", NoiseBackendType.VANILLA).forGetter(RuntimeTuning::noiseBackend)
+            ).apply(instance, RuntimeTuning::new)
+        );
+
+        static RuntimeTuning of(PlanetConfig config) {
+            return new RuntimeTuning(config.regionCacheBudgetMb, config.terrainSamplingMode,
+                    config.terrainLatticeSpacing, config.climateAtlasSpacing, config.noiseBackend);
+        }
+    }
+
+    /**
+     * Enum by constant name - an unknown name is a decode error naming the field, not an exception
+     */
+    private static <E extends Enum<E>> Codec<E> enumCodec(Class<E> type, String fieldName) {
+        return Codec.STRING.comapFlatMap(name -> {
+            for (E constant : type.getEnumConstants()) {
+                if (constant.name().equals(name)) {
+                    return DataResult.success(constant);
+                }
+            }
+            return DataResult.error(() -> "Unknown " + fieldName + " '" + name + "', expected one of "
+                    + Arrays.toString(type.getEnumConstants()));
+        }, Enum::name);
+    }
+
     /**
      * Codec constructor - reconstructs PlanetConfig from JSON
      */
@@ -35,7 +78,7 @@ public class PlanetConfig {
                                           String atmosphereComposition, double tectonicActivity,
                                           double waterContent, double crustalThickness,
                                           double atmosphericDensity, double rotationPeriod,
-                                          double noiseScale) {
+                                          double noiseScale, RuntimeTuning tuning) {
         PlanetConfig config = new PlanetConfig(planetName, seed);
         config.circumference = circumference;
         config.distanceFromStar = distanceFromStar;
@@ -47,6 +90,11 @@ public class PlanetConfig {
         config.atmosphericDensity = atmosphericDensity;
         config.rotationPeriod = rotationPeriod;
         config.noiseScale = noiseScale;
+        config.regionCacheBudgetMb = tuning.regionCacheBudgetMb();
+        config.terrainSamplingMode = tuning.terrainSampling();
+        config.terrainLatticeSpacing = tuning.terrainLatticeSpacing();
+        config.climateAtlasSpacing = tuning.climateAtlasSpacing();
+        config.noiseBackend = tuning.noiseBackend();
         return config;
     }
     
@@ -68,6 +116,19 @@ public class PlanetConfig {
     // === GENERATION PARAMETERS ===
     private double noiseScale;              // Noise scale for tectonic plate size
 
+    // === RUNTIME TUNING (optional in JSON) ===
+    public static final int DEFAULT_REGION_CACHE_BUDGET_MB = 32;
+    private int regionCacheBudgetMb;        // Memory budget for cached region climate tiles
+
+    public static final int DEFAULT_TERRAIN_LATTICE_SPACING = 4;
+    private TerrainSamplingMode terrainSamplingMode; // Per-column noise or coarse lattice + interpolation
+    private int terrainLatticeSpacing;      // Blocks between lattice samples (2, 4, 8 or 16)
+
+    public static final int MIN_CLIMATE_ATLAS_SPACING = 16;
+    private int climateAtlasSpacing;        // Blocks between planet-wide climate atlas samples (0 = no atlas)
+
+    private NoiseBackendType noiseBackend;  // Simplex implementation (changes terrain - VANILLA for existing worlds)
+
     /**
      * Create a new planet configuration with Earth-like defaults
      */
@@ -86,6 +147,11 @@ public class PlanetConfig {
         this.atmosphericDensity = 1.0; // Earth-like
         this.rotationPeriod = 1.0;     // 24-hour day
         this.noiseScale = 0.002;       // Medium-sized plates
+        this.regionCacheBudgetMb = DEFAULT_REGION_CACHE_BUDGET_MB;
+        this.terrainSamplingMode = TerrainSamplingMode.HIGH_FIDELITY;
+        this.terrainLatticeSpacing = DEFAULT_TERRAIN_LATTICE_SPACING;
+        this.climateAtlasSpacing = 0;
+        this.noiseBackend = NoiseBackendType.VANILLA;
     }
 
     // === SIMPLE SETTERS (no validation) ===
@@ -140,6 +206,31 @@ public class PlanetConfig {
         return this;
     }
 
+    public PlanetConfig setRegionCacheBudgetMb(int regionCacheBudgetMb) {
+        this.regionCacheBudgetMb = regionCacheBudgetMb;
+        return this;
+    }
+
+    public PlanetConfig setTerrainSamplingMode(TerrainSamplingMode terrainSamplingMode) {
+        this.terrainSamplingMode = terrainSamplingMode;
+        return this;
+    }
+
+    public PlanetConfig setTerrainLatticeSpacing(int terrainLatticeSpacing) {
+        this.terrainLatticeSpacing = terrainLatticeSpacing;
+        return this;
+    }
+
+    public PlanetConfig setClimateAtlasSpacing(int climateAtlasSpacing) {
+        this.climateAtlasSpacing = climateAtlasSpacing;
+        return this;
+    }
+
+    public PlanetConfig setNoiseBackend(NoiseBackendType noiseBackend) {
+        this.noiseBackend = noiseBackend;
+        return this;
+    }
+
     // === GETTERS ===
 
     public String getPlanetName() { return planetName; }
@@ -154,6 +245,22 @@ public class PlanetConfig {
     public double getAtmosphericDensity() { return atmosphericDensity; }
     public double getRotationPeriod() { return rotationPeriod; }
     public double getNoiseScale() { return noiseScale; }
+    public int getRegionCacheBudgetMb() { return regionCacheBudgetMb; }
+    public TerrainSamplingMode getTerrainSamplingMode() { return terrainSamplingMode; }
+    public int getTerrainLatticeSpacing() { return terrainLatticeSpacing; }
+    public int getClimateAtlasSpacing() { return climateAtlasSpacing; }
+    public NoiseBackendType getNoiseBackend() { return noiseBackend; }
+
+    /**
+     * Every setting that changes generated terrain or climate, for cache keys
+     * (toString is a short display form and misses most of them)
+     */
+    public String getGenerationSignature() {
+        return String.format("%s|%d|%d|%d|%s|%s|%s|%s|%s|%s|%s|%s|%s|%d|%d|%s",
+                planetName, seed, circumference, distanceFromStar, crustComposition, atmosphereComposition,
+                tectonicActivity, waterContent, crustalThickness, atmosphericDensity, rotationPeriod, noiseScale,
+                terrainSamplingMode, terrainLatticeSpacing, climateAtlasSpacing, noiseBackend);
+    }
 
     @Override
     public String toString() {
@@ -1,8 +1,11 @@
 package net.starlight.terradyne.planet.physics;
 
 import net.starlight.terradyne.Terradyne;
+import net.starlight.terradyne.planet.mapping.ChunkClimateContext;
+import net.starlight.terradyne.planet.mapping.ClimateAtlas;
 import net.starlight.terradyne.planet.mapping.RegionCompletionTracker;
 import net.starlight.terradyne.planet.mapping.PlanetaryNoiseSystem;
+import net.starlight.terradyne.planet.terrain.PositionalRandom;
 import net.starlight.terradyne.planet.terrain.TerrainHeightMapper;
 import net.starlight.terradyne.planet.mapping.TectonicVolatilityManager;
 
@@ -16,9 +19,11 @@ public class PlanetModel {
     private final PlanetConfig config;
     private final PlanetData planetData;
     private final BlockPaletteManager.BlockPalette blockPalette;
+    private final BlockPaletteLookup blockLookup;
 
     // === PHASE C: NOISE SYSTEM ===
     private final PlanetaryNoiseSystem noiseSystem;
+    private final PositionalRandom positionalRandom;
     private final TerrainHeightMapper heightMapper;
 
     // === PHASE 2: VOLATILITY SYSTEM ===
@@ -52,12 +57,14 @@ public class PlanetModel {
             throw new RuntimeException("No block palette found for crust composition: " +
                     config.getCrustComposition());
         }
+        this.blockLookup = BlockPaletteLookup.build(blockPalette);
 
-        this.cacheTracker = new RegionCompletionTracker();
+        this.cacheTracker = new RegionCompletionTracker(config.getRegionCacheBudgetMb() * 1024L * 1024L);
 
         // === PHASE C: NOISE SYSTEM INITIALIZATION ===
         Terradyne.LOGGER.info("Initializing noise system...");
         this.noiseSystem = new PlanetaryNoiseSystem(config, planetData, cacheTracker);
+        this.positionalRandom = new PositionalRandom(config.getSeed());
         this.heightMapper = new TerrainHeightMapper(this, noiseSystem);
 
         // === PHASE 2: VOLATILITY SYSTEM INITIALIZATION ===
@@ -91,6 +98,13 @@ public class PlanetModel {
         return blockPalette;
     }
 
+    /**
+     * Get quantized block selection table for this planet's palette
+     */
+    public BlockPaletteLookup getBlockLookup() {
+        return blockLookup;
+    }
+
     /**
      * Get planetary noise system for advanced terrain queries
      */
@@ -105,6 +119,13 @@ public class PlanetModel {
         return heightMapper;
     }
 
+    /**
+     * Get deterministic positional RNG - use instead of Math.random() anywhere in worldgen
+     */
+    public PositionalRandom getPositionalRandom() {
+        return positionalRandom;
+    }
+
     /**
      * NEW: Get tectonic volatility manager for geological activity
      */
@@ -122,6 +143,21 @@ public class PlanetModel {
         return noiseSystem.sampleTerrainHeight(worldX, worldZ);
     }
 
+    /**
+     * Get the shared 16×16 terrain height grid for a chunk, indexed (localZ << 4) | localX
+     * PERFORMANCE FIX: Generation, getHeight, column samples and biomes all reuse one grid per chunk
+     */
+    public double[] getTerrainHeightGrid(int chunkX, int chunkZ) {
+        return noiseSystem.sampleTerrainHeightGrid(chunkX, chunkZ);
+    }
+
+    /**
+     * Create a memoized climate context for one chunk - pass it through a generation stage
+     */
+    public ChunkClimateContext createChunkClimate(int chunkX, int chunkZ) {
+        return noiseSystem.createChunkClimate(chunkX, chunkZ);
+    }
+
     /**
      * Get appropriate block state for terrain at given coordinates and Y level
      * Uses height mapper with environmental conditions
@@ -139,6 +175,37 @@ public class PlanetModel {
         return heightMapper.getTerrainBlockState(worldX, worldZ, minecraftY, temperature, moisture);
     }
 
+    /**
+     * Create a per-column terrain context using cached climate data (PERFORMANCE OPTIMIZED)
+     * Samples height and tectonic activity once for the whole column
+     */
+    public TerrainHeightMapper.ColumnContext createColumnContext(int worldX, int worldZ,
+                                                               double temperature, double moisture) {
+        return heightMapper.createColumnContext(worldX, worldZ, temperature, moisture);
+    }
+
+    /**
+     * Create a per-column terrain context from a chunk's memoized climate
+     */
+    public TerrainHeightMapper.ColumnContext createColumnContext(ChunkClimateContext climate, int worldX, int worldZ) {
+        return heightMapper.createColumnContext(climate, worldX, worldZ);
+    }
+
+    /**
+     * Create a per-column terrain context from a height grid value and cached climate data
+     */
+    public TerrainHeightMapper.ColumnContext createColumnContext(int worldX, int worldZ, double terrainHeight,
+                                                               double temperature, double moisture) {
+        return heightMapper.createColumnContext(worldX, worldZ, terrainHeight, temperature, moisture);
+    }
+
+    /**
+     * Get appropriate block state for a Y level within a prepared terrain column
+     */
+    public net.minecraft.block.BlockState getTerrainBlockState(TerrainHeightMapper.ColumnContext column, int minecraftY) {
+        return heightMapper.getTerrainBlockState(column, minecraftY);
+    }
+
     /**
      * Get the world seed for unique terrain generation
      * This is challenging in codec context, so we use multiple fallback approaches
@@ -179,7 +246,22 @@ public class PlanetModel {
      * Uses block palette based on elevation, erosion, and habitability
      */
     public net.minecraft.block.Block getTerrainBlock(double elevation, double erosion, double habitability) {
-        return blockPalette.getBlockForConditions(elevation, erosion, habitability);
+        return blockLookup.getBlockForConditions(elevation, erosion, habitability);
+    }
+
+    /**
+     * Get the planet-wide coarse climate atlas, or null if not configured or still computing
+     * Use for maps and searches - chunk generation reads the exact per-chunk climate
+     */
+    public ClimateAtlas getClimateAtlas() {
+        return noiseSystem.getClimateAtlas();
+    }
+
+    /**
+     * Start loading (from the world's atlas cache) or computing the climate atlas in the background
+     */
+    public void startClimateAtlas(java.nio.file.Path cacheDirectory) {
+        noiseSystem.startClimateAtlas(cacheDirectory);
     }
 
     /**
@@ -282,6 +364,12 @@ public class PlanetModel {
         sb.append("Block Palette: ").append(blockPalette).append("\n");
         sb.append("Noise System: ").append(noiseSystem.getSystemStatus()).append("\n");
         sb.append("Volatility: ").append(volatilityManager.getStatistics()).append("\n");
+        sb.append("Heightfield: ").append(noiseSystem.getHeightfieldCache().getStatistics()).append("\n");
+        sb.append("Climate: ").append(noiseSystem.getClimateBuilderStatistics()).append("\n");
+        ClimateAtlas atlas = noiseSystem.getClimateAtlas();
+        if (atlas != null) {
+            sb.append("Atlas: ").append(atlas.getStatistics()).append("\n");
+        }
         sb.append("Valid: ").append(isValid()).append("\n");
 
         // Future systems will add their info here
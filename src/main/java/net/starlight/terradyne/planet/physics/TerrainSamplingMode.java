@@ -0,0 +1,20 @@
+package net.starlight.terradyne.planet.physics;
+
+/**
+ * How terrain height is sampled for each column during generation
+ */
+public enum TerrainSamplingMode {
+    HIGH_FIDELITY("High Fidelity", "Full noise stack evaluated for every column"),
+    INTERPOLATED("Interpolated", "Full noise stack on a coarse lattice, columns reconstructed with bicubic interpolation");
+
+    private final String displayName;
+    private final String description;
+
+    TerrainSamplingMode(String displayName, String description) {
+        this.displayName = displayName;
+        this.description = description;
+    }
+
+    public String getDisplayName() { return displayName; }
+    public String getDescription() { return description; }
+}
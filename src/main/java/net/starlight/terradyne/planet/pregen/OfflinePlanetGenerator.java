@@ -0,0 +1,292 @@
+package net.starlight.terradyne.planet.pregen;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mojang.serialization.JsonOps;
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.HeightLimitView;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.minecraft.world.chunk.UpgradeData;
+import net.minecraft.world.storage.RegionFile;
+import net.minecraft.world.tick.SimpleTickScheduler;
+import net.starlight.terradyne.Terradyne;
+import net.starlight.terradyne.planet.biome.BiomeClassificationSystem;
+import net.starlight.terradyne.planet.biome.PhysicsBasedBiomeSource;
+import net.starlight.terradyne.planet.physics.PlanetConfig;
+import net.starlight.terradyne.planet.physics.PlanetModel;
+import net.starlight.terradyne.planet.terrain.UniversalChunkGenerator;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless planet generator - writes terrain straight into a world's region files, no server needed
+ * Usage: OfflinePlanetGenerator <dimension.json> <world directory> [radius blocks | full] [threads]
+ * (or ./gradlew generatePlanet -PplanetArgs="...").
+ *
+ * Each work unit is one 32×32-chunk region, which is both an .mca file and a climate tile: its worker
+ * owns the file outright (no locking) and keeps the tile's caches hot. Chunks are saved at NOISE status
+ * with their biomes, so the server loads them as already generated and only runs the later stages
+ * (features, light) when they are first visited. Chunks already present in a region file are skipped,
+ * so an interrupted run can simply be started again.
+ *
+ * The planet config is decoded with PlanetConfig.CODEC from the dimension JSON's generator.planet_config -
+ * the same source the server's UniversalChunkGenerator uses - so seed, noise backend and sampling mode match
+ * server-generated neighbours. If the world overrides that dimension in one of its datapacks, the run is
+ * refused unless both configs have the same generation signature. Stop the server before writing into its world.
+ */
+public final class OfflinePlanetGenerator {
+
+    private static final int REGION_SHIFT = 5;
+    private static final int REGION_SIZE = 1 << REGION_SHIFT;
+    private static final long REPORT_INTERVAL_SECONDS = 10;
+
+    private final PlanetModel planetModel;
+    private final UniversalChunkGenerator generator;
+    private final BiomeClassificationSystem biomeClassifier;
+    private final HeightLimitView worldHeight;
+    private final Path regionDirectory;
+    private final int radiusChunks;
+
+    private final AtomicLong generatedChunks = new AtomicLong();
+    private final AtomicLong skippedChunks = new AtomicLong();
+
+    private OfflinePlanetGenerator(PlanetModel planetModel, Path regionDirectory, int radiusChunks) {
+        this.planetModel = planetModel;
+        String planetName = planetModel.getConfig().getPlanetName().toLowerCase().replace(" ", "_");
+        this.generator = new UniversalChunkGenerator(planetModel, new PhysicsBasedBiomeSource(planetModel),
+                new Identifier(Terradyne.MOD_ID, planetName));
+        this.biomeClassifier = new BiomeClassificationSystem(planetModel);
+        this.worldHeight = HeightLimitView.create(generator.getMinimumY(), generator.getWorldHeight());
+        this.regionDirectory = regionDirectory;
+        this.radiusChunks = radiusChunks;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: OfflinePlanetGenerator <dimension.json> <world directory> [radius blocks | full] [threads]");
+            System.exit(1);
+        }
+
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+
+        Path dimensionFile = Path.of(args[0]);
+        Path worldDirectory = Path.of(args[1]);
+        String dimensionName = dimensionFile.getFileName().toString().replaceFirst("\\.json$", "");
+
+        PlanetConfig config = loadDimensionConfig(dimensionFile);
+        Path override = findWorldDimensionOverride(worldDirectory, dimensionName);
+        if (override != null && !override.toAbsolutePath().equals(dimensionFile.toAbsolutePath())) {
+            PlanetConfig worldConfig = loadDimensionConfig(override);
+            if (!worldConfig.getGenerationSignature().equals(config.getGenerationSignature())) {
+                System.err.println("The world overrides " + dimensionName + " in " + override + " with a different planet config:");
+                System.err.println("  given: " + config.getGenerationSignature());
+                System.err.println("  world: " + worldConfig.getGenerationSignature());
+                System.err.println("Generate from the world's dimension JSON instead - mismatched chunks would leave seams");
+                System.exit(1);
+            }
+        }
+
+        int radiusBlocks = args.length > 2 && !args[2].equalsIgnoreCase("full")
+                ? Integer.parseInt(args[2]) : config.getCircumference() / 2;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        // The dimension id (and so its folder) is the dimension file's name
+        Path regionDirectory = worldDirectory.resolve("dimensions").resolve(Terradyne.MOD_ID)
+                .resolve(dimensionName).resolve("region");
+
+        OfflinePlanetGenerator offline = new OfflinePlanetGenerator(new PlanetModel(config), regionDirectory,
+                Math.max(0, (radiusBlocks + 15) >> 4));
+        offline.run(threads);
+    }
+
+    /**
+     * Decode generator.planet_config from a dimension JSON, exactly as the server's chunk generator codec does
+     */
+    private static PlanetConfig loadDimensionConfig(Path dimensionFile) throws IOException {
+        JsonObject dimension = JsonParser.parseString(Files.readString(dimensionFile)).getAsJsonObject();
+        JsonObject generator = dimension.getAsJsonObject("generator");
+        if (generator == null || !generator.has("planet_config")) {
+            throw new IllegalArgumentException(dimensionFile + " has no generator.planet_config - not a Terradyne planet dimension");
+        }
+        return PlanetConfig.CODEC.parse(JsonOps.INSTANCE, generator.get("planet_config"))
+                .getOrThrow(false, error -> {});
+    }
+
+    /**
+     * The world's own datapack definition of a Terradyne dimension (folder or zip pack), or null
+     */
+    private static Path findWorldDimensionOverride(Path worldDirectory, String dimensionName) throws IOException {
+        Path datapacks = worldDirectory.resolve("datapacks");
+        if (!Files.isDirectory(datapacks)) {
+            return null;
+        }
+
+        String entry = "data/" + Terradyne.MOD_ID + "/dimension/" + dimensionName + ".json";
+        try (DirectoryStream<Path> packs = Files.newDirectoryStream(datapacks)) {
+            for (Path pack : packs) {
+                Path root = pack;
+                if (!Files.isDirectory(pack)) {
+                    if (!pack.getFileName().toString().endsWith(".zip")) {
+                        continue;
+                    }
+                    root = FileSystems.newFileSystem(pack).getPath("/"); // Kept open - read again by the caller
+                }
+                Path candidate = root.resolve(entry);
+                if (Files.isRegularFile(candidate)) {
+                    return candidate;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Generate every region overlapping the square, one region per task
+     */
+    private void run(int threads) throws IOException, InterruptedException {
+        Files.createDirectories(regionDirectory);
+        List<int[]> regions = createRegionOrder();
+        long side = 2L * radiusChunks + 1;
+        long totalChunks = side * side;
+
+        Terradyne.LOGGER.info("=== OFFLINE GENERATION: {} ===", planetModel.getConfig().getPlanetName());
+        Terradyne.LOGGER.info("{}×{} chunks in {} regions on {} threads -> {}", side, side, regions.size(), threads, regionDirectory);
+
+        long startNanos = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Terradyne-Offline-Worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        List<Future<?>> futures = new ArrayList<>(regions.size());
+        for (int[] region : regions) {
+            futures.add(executor.submit(() -> {
+                generateRegion(region[0], region[1]);
+                return null;
+            }));
+        }
+        executor.shutdown();
+
+        while (!executor.awaitTermination(REPORT_INTERVAL_SECONDS, TimeUnit.SECONDS)) {
+            report(totalChunks, startNanos);
+        }
+
+        int failedRegions = 0;
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (Exception e) {
+                failedRegions++;
+                Terradyne.LOGGER.error("Region generation failed", e.getCause() != null ? e.getCause() : e);
+            }
+        }
+
+        report(totalChunks, startNanos);
+        if (failedRegions > 0) {
+            Terradyne.LOGGER.error("❌ {} regions failed - run again to retry their missing chunks", failedRegions);
+        } else {
+            Terradyne.LOGGER.info("✅ Offline generation complete");
+        }
+    }
+
+    /**
+     * Regions overlapping the square, nearest ring first so a partial run still covers the spawn area
+     */
+    private List<int[]> createRegionOrder() {
+        int minRegion = -radiusChunks >> REGION_SHIFT;
+        int maxRegion = radiusChunks >> REGION_SHIFT;
+
+        List<int[]> regions = new ArrayList<>();
+        for (int regionZ = minRegion; regionZ <= maxRegion; regionZ++) {
+            for (int regionX = minRegion; regionX <= maxRegion; regionX++) {
+                regions.add(new int[]{regionX, regionZ});
+            }
+        }
+        regions.sort(Comparator.comparingInt(region -> Math.max(Math.abs(region[0]), Math.abs(region[1]))));
+        return regions;
+    }
+
+    /**
+     * Generate and write one region's chunks, row by row so neighbouring chunks share warm caches
+     */
+    @SuppressWarnings("unchecked")
+    private void generateRegion(int regionX, int regionZ) throws IOException {
+        int minChunkX = Math.max(regionX << REGION_SHIFT, -radiusChunks);
+        int maxChunkX = Math.min((regionX << REGION_SHIFT) + REGION_SIZE - 1, radiusChunks);
+        int minChunkZ = Math.max(regionZ << REGION_SHIFT, -radiusChunks);
+        int maxChunkZ = Math.min((regionZ << REGION_SHIFT) + REGION_SIZE - 1, radiusChunks);
+
+        RegistryKey<Biome>[] surfaceBiomes = new RegistryKey[16];
+        Path file = regionDirectory.resolve("r." + regionX + "." + regionZ + ".mca");
+
+        try (RegionFile regionFile = new RegionFile(file, regionDirectory, false)) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                    ChunkPos pos = new ChunkPos(chunkX, chunkZ);
+                    if (regionFile.hasChunk(pos)) {
+                        skippedChunks.incrementAndGet();
+                        continue;
+                    }
+
+                    // Terrain generation ignores blender, noise config and structures - run inline on this worker
+                    ProtoChunk chunk = createChunk(pos);
+                    generator.populateNoise(Runnable::run, null, null, null, chunk).join();
+                    biomeClassifier.classifyChunkSurface(chunkX, chunkZ, surfaceBiomes);
+
+                    try (DataOutputStream out = regionFile.getChunkOutputStream(pos)) {
+                        NbtIo.write(ProtoChunkNbtWriter.write(chunk, surfaceBiomes, ChunkStatus.NOISE), out);
+                    }
+                    generatedChunks.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Empty proto chunk with explicit sections, so no biome registry (and no server) is needed
+     */
+    private ProtoChunk createChunk(ChunkPos pos) {
+        ChunkSection[] sections = new ChunkSection[worldHeight.countVerticalSections()];
+        for (int i = 0; i < sections.length; i++) {
+            sections[i] = new ChunkSection(new PalettedContainer<>(Block.STATE_IDS, Blocks.AIR.getDefaultState(),
+                    PalettedContainer.PaletteProvider.BLOCK_STATE), null);
+        }
+        return new ProtoChunk(pos, UpgradeData.NO_UPGRADE_DATA, sections,
+                new SimpleTickScheduler<>(), new SimpleTickScheduler<>(), worldHeight, null, null);
+    }
+
+    private void report(long totalChunks, long startNanos) {
+        long generated = generatedChunks.get();
+        long done = generated + skippedChunks.get();
+        double seconds = (System.nanoTime() - startNanos) / 1.0e9;
+        Terradyne.LOGGER.info("Offline generation: {}/{} chunks ({}%), {} chunks/s",
+                done, totalChunks, String.format("%.1f", 100.0 * done / Math.max(1, totalChunks)),
+                String.format("%.0f", generated / Math.max(seconds, 1.0e-3)));
+    }
+}
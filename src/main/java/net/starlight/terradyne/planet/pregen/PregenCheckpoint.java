@@ -0,0 +1,95 @@
+package net.starlight.terradyne.planet.pregen;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import net.starlight.terradyne.Terradyne;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Saved progress of a pregeneration job, stored as JSON in the world's terradyne/pregen directory
+ * Progress is recorded as a count of fully generated regions in the job's region order - on resume
+ * the first incomplete region is dispatched again (its finished chunks load straight from disk).
+ */
+public class PregenCheckpoint {
+
+    public String planetName;
+    public int centerChunkX;
+    public int centerChunkZ;
+    public int radiusChunks;
+    public int completedRegions;
+    public long completedChunks;   // Chunks inside the completed regions
+    public boolean paused;         // Stopped by command - not resumed on server start
+    public String updatedAt;
+
+    private static final Gson GSON = new GsonBuilder()
+            .setPrettyPrinting()
+            .create();
+
+    public PregenCheckpoint() {}
+
+    PregenCheckpoint(String planetName, int centerChunkX, int centerChunkZ, int radiusChunks) {
+        this.planetName = planetName;
+        this.centerChunkX = centerChunkX;
+        this.centerChunkZ = centerChunkZ;
+        this.radiusChunks = radiusChunks;
+    }
+
+    /**
+     * Whether this checkpoint belongs to a job over the same area
+     */
+    boolean matches(int centerChunkX, int centerChunkZ, int radiusChunks) {
+        return this.centerChunkX == centerChunkX && this.centerChunkZ == centerChunkZ && this.radiusChunks == radiusChunks;
+    }
+
+    /**
+     * Checkpoint file for a planet
+     */
+    static Path file(Path directory, String planetName) {
+        return directory.resolve(planetName.toLowerCase().replace(" ", "_") + ".json");
+    }
+
+    /**
+     * Load a checkpoint, or null if there is none or it cannot be read
+     */
+    static PregenCheckpoint load(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            PregenCheckpoint checkpoint = GSON.fromJson(Files.readString(file), PregenCheckpoint.class);
+            return checkpoint != null && checkpoint.planetName != null ? checkpoint : null;
+        } catch (Exception e) {
+            Terradyne.LOGGER.warn("Ignoring unreadable pregen checkpoint {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Write the checkpoint through a temporary file so a crash never leaves a truncated one
+     */
+    void save(Path file) {
+        updatedAt = LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(temp, GSON.toJson(this));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Terradyne.LOGGER.error("Failed to save pregen checkpoint {}", file, e);
+        }
+    }
+
+    static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            Terradyne.LOGGER.warn("Failed to delete pregen checkpoint {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package net.starlight.terradyne.planet.pregen;
+
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.world.ChunkTicketType;
+import net.minecraft.server.world.ServerChunkManager;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+import net.minecraft.util.math.ChunkPos;
+import net.starlight.terradyne.Terradyne;
+import net.starlight.terradyne.planet.mapping.RegionCompletionTracker;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One planet's pregeneration run, driven from the server tick
+ * Chunks are requested region by region (32×32 chunks, the climate tile and .mca size) in rings
+ * around the center, each held to FULL status by a chunk ticket until it is generated. Keeping the
+ * work inside one or two regions at a time means the region climate tiles and heightfield grids
+ * built for a chunk are still cached when its neighbours generate.
+ *
+ * The number of chunks in flight adapts to MSPT: it halves when the server runs over budget and
+ * grows slowly while there is headroom.
+ */
+final class PregenJob {
+
+    private static final ChunkTicketType<ChunkPos> PREGEN_TICKET =
+            ChunkTicketType.create("terradyne_pregen", Comparator.comparingLong(ChunkPos::toLong));
+
+    private static final int REGION_SHIFT = 5;
+    private static final int REGION_CHUNKS = 1 << (REGION_SHIFT * 2);
+
+    // === THROTTLING ===
+    private static final double TARGET_MSPT = 40.0;          // Leave headroom under the 50 ms tick
+    private static final double STALL_MSPT = 50.0;           // Dispatch nothing while the server is behind
+    private static final int MIN_IN_FLIGHT = 8;
+    private static final int MAX_IN_FLIGHT = Math.min(1024, Math.max(64, Runtime.getRuntime().availableProcessors() * 16));
+    private static final int MAX_DISPATCH_PER_TICK = 64;
+    private static final int WINDOW_ADJUST_TICKS = 20;
+
+    // === REPORTING ===
+    private static final int REPORT_INTERVAL_TICKS = 200;    // 10 seconds
+    private static final int CHECKPOINT_INTERVAL_TICKS = 600; // 30 seconds
+
+    private final ServerWorld world;
+    private final String planetName;
+    private final ServerCommandSource source;
+    private final Path checkpointFile;
+    private final PregenCheckpoint checkpoint;
+
+    private final int centerChunkX;
+    private final int centerChunkZ;
+    private final int radiusChunks;
+    private final long[] regions;       // Packed (regionX, regionZ) in ring order
+    private final long totalChunks;
+
+    // Dispatch cursor
+    private int nextRegion;
+    private int nextChunkInRegion;
+    private RegionProgress dispatching;
+
+    private final ArrayDeque<RegionProgress> openRegions = new ArrayDeque<>();
+    private final Map<Long, RegionProgress> inFlight = new HashMap<>();
+    private int window = MIN_IN_FLIGHT * 4;
+
+    // Progress
+    private long completedChunks;
+    private final long startedAt = System.nanoTime();
+    private long ticks;
+    private long lastReportChunks;
+    private long lastReportNanos = startedAt;
+    private double chunksPerSecond;
+
+    PregenJob(ServerWorld world, String planetName, ServerCommandSource source, Path checkpointFile,
+              PregenCheckpoint checkpoint) {
+        this.world = world;
+        this.planetName = planetName;
+        this.source = source;
+        this.checkpointFile = checkpointFile;
+        this.checkpoint = checkpoint;
+
+        this.centerChunkX = checkpoint.centerChunkX;
+        this.centerChunkZ = checkpoint.centerChunkZ;
+        this.radiusChunks = checkpoint.radiusChunks;
+        this.regions = createRegionOrder();
+
+        long side = 2L * radiusChunks + 1;
+        this.totalChunks = side * side;
+
+        // Resume after the regions the checkpoint recorded as complete
+        this.nextRegion = Math.min(checkpoint.completedRegions, regions.length);
+        this.completedChunks = checkpoint.completedChunks;
+        this.lastReportChunks = completedChunks;
+        checkpoint.paused = false;
+    }
+
+    /**
+     * Regions overlapping the job's square, nearest ring first
+     */
+    private long[] createRegionOrder() {
+        int centerRegionX = centerChunkX >> REGION_SHIFT;
+        int centerRegionZ = centerChunkZ >> REGION_SHIFT;
+        int minRegionX = (centerChunkX - radiusChunks) >> REGION_SHIFT;
+        int maxRegionX = (centerChunkX + radiusChunks) >> REGION_SHIFT;
+        int minRegionZ = (centerChunkZ - radiusChunks) >> REGION_SHIFT;
+        int maxRegionZ = (centerChunkZ + radiusChunks) >> REGION_SHIFT;
+
+        List<long[]> ordered = new ArrayList<>();
+        for (int regionZ = minRegionZ; regionZ <= maxRegionZ; regionZ++) {
+            for (int regionX = minRegionX; regionX <= maxRegionX; regionX++) {
+                int ring = Math.max(Math.abs(regionX - centerRegionX), Math.abs(regionZ - centerRegionZ));
+                ordered.add(new long[] {ring, ChunkPos.toLong(regionX, regionZ)});
+            }
+        }
+        // Stable sort keeps row-major order within a ring
+        ordered.sort(Comparator.comparingLong(entry -> entry[0]));
+
+        long[] packed = new long[ordered.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = ordered.get(i)[1];
+        }
+        return packed;
+    }
+
+    /**
+     * Advance one server tick - returns true once every chunk is generated
+     */
+    boolean tick(double mspt) {
+        ticks++;
+        pollCompleted();
+
+        if (ticks % WINDOW_ADJUST_TICKS == 0) {
+            adjustWindow(mspt);
+        }
+        if (mspt < STALL_MSPT) {
+            dispatch(Math.min(window - inFlight.size(), MAX_DISPATCH_PER_TICK));
+        }
+
+        if (ticks % REPORT_INTERVAL_TICKS == 0) {
+            report(mspt);
+        }
+        if (ticks % CHECKPOINT_INTERVAL_TICKS == 0) {
+            saveCheckpoint();
+        }
+        return isFinished();
+    }
+
+    private void adjustWindow(double mspt) {
+        if (mspt > TARGET_MSPT) {
+            window = Math.max(MIN_IN_FLIGHT, window / 2);
+        } else if (mspt < TARGET_MSPT * 0.75 && inFlight.size() >= window * 3 / 4) {
+            window = Math.min(MAX_IN_FLIGHT, window + MIN_IN_FLIGHT);
+        }
+    }
+
+    /**
+     * Ticket up to budget more chunks, in region order
+     */
+    private void dispatch(int budget) {
+        ServerChunkManager chunkManager = world.getChunkManager();
+
+        while (budget > 0 && nextRegion < regions.length) {
+            if (dispatching == null) {
+                dispatching = new RegionProgress();
+                openRegions.add(dispatching);
+            }
+
+            long region = regions[nextRegion];
+            int baseX = ChunkPos.getPackedX(region) << REGION_SHIFT;
+            int baseZ = ChunkPos.getPackedZ(region) << REGION_SHIFT;
+
+            while (budget > 0 && nextChunkInRegion < REGION_CHUNKS) {
+                int chunkX = baseX + (nextChunkInRegion & 31);
+                int chunkZ = baseZ + (nextChunkInRegion >> REGION_SHIFT);
+                nextChunkInRegion++;
+
+                if (Math.abs(chunkX - centerChunkX) > radiusChunks || Math.abs(chunkZ - centerChunkZ) > radiusChunks) {
+                    continue;
+                }
+
+                ChunkPos pos = new ChunkPos(chunkX, chunkZ);
+                chunkManager.addTicket(PREGEN_TICKET, pos, 0, pos);
+                inFlight.put(pos.toLong(), dispatching);
+                dispatching.pending++;
+                dispatching.chunks++;
+                budget--;
+            }
+
+            if (nextChunkInRegion == REGION_CHUNKS) {
+                dispatching.dispatched = true;
+                dispatching = null;
+                nextRegion++;
+                nextChunkInRegion = 0;
+            }
+        }
+    }
+
+    /**
+     * Release the tickets of chunks that reached FULL status and retire finished regions
+     */
+    private void pollCompleted() {
+        ServerChunkManager chunkManager = world.getChunkManager();
+
+        Iterator<Map.Entry<Long, RegionProgress>> iterator = inFlight.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, RegionProgress> entry = iterator.next();
+            long packed = entry.getKey();
+            int chunkX = ChunkPos.getPackedX(packed);
+            int chunkZ = ChunkPos.getPackedZ(packed);
+
+            // Non-blocking: null until the chunk is FULL
+            if (chunkManager.getWorldChunk(chunkX, chunkZ) != null) {
+                ChunkPos pos = new ChunkPos(chunkX, chunkZ);
+                chunkManager.removeTicket(PREGEN_TICKET, pos, 0, pos);
+                entry.getValue().pending--;
+                completedChunks++;
+                iterator.remove();
+            }
+        }
+
+        while (!openRegions.isEmpty() && openRegions.peek().isComplete()) {
+            RegionProgress region = openRegions.poll();
+            checkpoint.completedRegions++;
+            checkpoint.completedChunks += region.chunks;
+        }
+    }
+
+    boolean isFinished() {
+        return nextRegion >= regions.length && inFlight.isEmpty();
+    }
+
+    /**
+     * Drop every ticket this job holds - chunks unload and save through the normal path
+     */
+    void releaseTickets() {
+        ServerChunkManager chunkManager = world.getChunkManager();
+        for (long packed : inFlight.keySet()) {
+            ChunkPos pos = new ChunkPos(packed);
+            chunkManager.removeTicket(PREGEN_TICKET, pos, 0, pos);
+        }
+        inFlight.clear();
+    }
+
+    void saveCheckpoint() {
+        checkpoint.save(checkpointFile);
+    }
+
+    /**
+     * Stop without finishing - the checkpoint stays, marked so it is not resumed on server start
+     */
+    void pause() {
+        releaseTickets();
+        checkpoint.paused = true;
+        saveCheckpoint();
+    }
+
+    void complete() {
+        PregenCheckpoint.delete(checkpointFile);
+        double seconds = (System.nanoTime() - startedAt) / 1.0e9;
+        String message = String.format("Pregeneration of %s complete: %d chunks in %s",
+                planetName, totalChunks, formatDuration(seconds));
+        Terradyne.LOGGER.info(message);
+        source.sendFeedback(() -> Text.literal("✅ " + message).formatted(Formatting.GREEN), true);
+    }
+
+    /**
+     * Progress line: done/total, recent chunks per second and ETA
+     */
+    private void report(double mspt) {
+        long now = System.nanoTime();
+        double seconds = (now - lastReportNanos) / 1.0e9;
+        double recentRate = (completedChunks - lastReportChunks) / Math.max(seconds, 1.0e-3);
+        chunksPerSecond = chunksPerSecond == 0.0 ? recentRate : chunksPerSecond * 0.7 + recentRate * 0.3;
+        lastReportNanos = now;
+        lastReportChunks = completedChunks;
+
+        String message = getStatus(mspt);
+        Terradyne.LOGGER.info(message);
+        source.sendFeedback(() -> Text.literal(message).formatted(Formatting.GRAY), false);
+    }
+
+    String getStatus(double mspt) {
+        long done = Math.min(completedChunks, totalChunks);
+        long remaining = totalChunks - done;
+        String eta = chunksPerSecond > 0.0 ? formatDuration(remaining / chunksPerSecond) : "unknown";
+        return String.format("Pregen %s: %d/%d chunks (%.1f%%), %.1f chunks/s, ETA %s, %d in flight, MSPT %.1f",
+                planetName, done, totalChunks, 100.0 * done / totalChunks, chunksPerSecond, eta, inFlight.size(), mspt);
+    }
+
+    /**
+     * Regions currently being generated, for cache eviction
+     */
+    void addActiveRegions(List<RegionCompletionTracker.RegionKey> regionKeys) {
+        int index = nextRegion - openRegions.size() + (dispatching != null ? 1 : 0);
+        for (int i = Math.max(0, index); i <= Math.min(nextRegion, regions.length - 1); i++) {
+            long region = regions[i];
+            regionKeys.add(new RegionCompletionTracker.RegionKey(planetName,
+                    ChunkPos.getPackedX(region), ChunkPos.getPackedZ(region)));
+        }
+    }
+
+    ServerWorld getWorld() {
+        return world;
+    }
+
+    private static String formatDuration(double seconds) {
+        long total = Math.round(seconds);
+        if (total >= 3600) {
+            return String.format("%dh %02dm %02ds", total / 3600, (total / 60) % 60, total % 60);
+        }
+        return String.format("%dm %02ds", total / 60, total % 60);
+    }
+
+    /**
+     * Dispatch and completion counts for one region
+     */
+    private static final class RegionProgress {
+        int chunks;
+        int pending;
+        boolean dispatched;
+
+        boolean isComplete() {
+            return dispatched && pending == 0;
+        }
+    }
+}
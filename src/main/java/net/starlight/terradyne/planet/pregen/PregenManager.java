@@ -0,0 +1,211 @@
+package net.starlight.terradyne.planet.pregen;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.World;
+import net.starlight.terradyne.Terradyne;
+import net.starlight.terradyne.planet.config.ExistingPlanetRegistry;
+import net.starlight.terradyne.planet.mapping.RegionCompletionTracker;
+import net.starlight.terradyne.planet.physics.PlanetModel;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs planet pregeneration jobs (/terradyne pregen) on the server thread
+ * At most one job per planet. Progress is checkpointed to terradyne/pregen so unfinished jobs resume
+ * when the server starts again. MSPT is measured here as the work time between the start and end of
+ * each server tick (excluding the idle wait), smoothed, and shared by every job's throttle.
+ */
+public final class PregenManager {
+
+    private static final double MSPT_SMOOTHING = 0.1;
+
+    private static final Map<String, PregenJob> jobs = new LinkedHashMap<>();
+    private static long tickStartNanos;
+    private static double mspt;
+
+    private PregenManager() {}
+
+    /**
+     * Hook job ticking and MSPT measurement into the server tick
+     */
+    public static void init() {
+        ServerTickEvents.START_SERVER_TICK.register(server -> tickStartNanos = System.nanoTime());
+        ServerTickEvents.END_SERVER_TICK.register(PregenManager::tick);
+    }
+
+    private static void tick(MinecraftServer server) {
+        double tickMillis = (System.nanoTime() - tickStartNanos) / 1.0e6;
+        mspt = mspt == 0.0 ? tickMillis : mspt + (tickMillis - mspt) * MSPT_SMOOTHING;
+
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        Iterator<PregenJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            PregenJob job = iterator.next();
+            try {
+                if (job.tick(mspt)) {
+                    job.complete();
+                    iterator.remove();
+                }
+            } catch (RuntimeException e) {
+                Terradyne.LOGGER.error("Pregeneration job failed - progress kept in its checkpoint", e);
+                job.releaseTickets();
+                job.saveCheckpoint();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Start (or resume) pregeneration of a square of radiusBlocks around the planet center
+     * @param radiusBlocks radius in blocks, or -1 for the whole planet
+     * @return a message describing what was started
+     * @throws IllegalArgumentException if the planet does not exist
+     * @throws IllegalStateException if the planet already has a running job
+     */
+    public static String start(ServerCommandSource source, String planetName, int radiusBlocks) {
+        MinecraftServer server = source.getServer();
+        ServerWorld world = getPlanetWorld(server, planetName);
+        PlanetModel planetModel = world != null ? Terradyne.getPlanetModel(world) : null;
+        if (planetModel == null) {
+            throw new IllegalArgumentException("Planet '" + planetName + "' not found");
+        }
+
+        String name = planetModel.getConfig().getPlanetName();
+        if (jobs.containsKey(name)) {
+            throw new IllegalStateException("Pregeneration of " + name + " is already running");
+        }
+
+        int blocks = radiusBlocks < 0 ? planetModel.getConfig().getCircumference() / 2 : radiusBlocks;
+        int radiusChunks = Math.max(0, (blocks + 15) >> 4);
+
+        Path file = PregenCheckpoint.file(ExistingPlanetRegistry.getPregenDirectory(server), name);
+        PregenCheckpoint checkpoint = PregenCheckpoint.load(file);
+        boolean resumed = checkpoint != null && checkpoint.matches(0, 0, radiusChunks);
+        if (!resumed) {
+            checkpoint = new PregenCheckpoint(name, 0, 0, radiusChunks);
+        }
+
+        PregenJob job = new PregenJob(world, name, source, file, checkpoint);
+        job.saveCheckpoint();
+        jobs.put(name, job);
+
+        long side = 2L * radiusChunks + 1;
+        return String.format("%s pregeneration of %s: %d×%d chunks around the planet center%s",
+                resumed ? "Resumed" : "Started", name, side, side,
+                resumed ? " (" + checkpoint.completedRegions + " regions already done)" : "");
+    }
+
+    /**
+     * Stop a planet's job, keeping its checkpoint for a later resume
+     * @throws IllegalArgumentException if the planet has no running job
+     */
+    public static String stop(String planetName) {
+        PregenJob job = findJob(planetName);
+        if (job == null) {
+            throw new IllegalArgumentException("No pregeneration running for '" + planetName + "'");
+        }
+        job.pause();
+        jobs.values().remove(job);
+        return "Stopped pregeneration of " + planetName + " - run the same command again to resume";
+    }
+
+    /**
+     * One status line per running job
+     */
+    public static List<String> getStatus() {
+        List<String> lines = new ArrayList<>();
+        for (PregenJob job : jobs.values()) {
+            lines.add(job.getStatus(mspt));
+        }
+        return lines;
+    }
+
+    /**
+     * Regions being generated in a world - kept out of climate cache eviction
+     */
+    public static void addActiveRegions(ServerWorld world, List<RegionCompletionTracker.RegionKey> regionKeys) {
+        for (PregenJob job : jobs.values()) {
+            if (job.getWorld() == world) {
+                job.addActiveRegions(regionKeys);
+            }
+        }
+    }
+
+    /**
+     * Resume every unfinished job that was not stopped by command
+     */
+    public static void resumeAll(MinecraftServer server) {
+        Path directory = ExistingPlanetRegistry.getPregenDirectory(server);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.json")) {
+            for (Path file : files) {
+                PregenCheckpoint checkpoint = PregenCheckpoint.load(file);
+                if (checkpoint == null || checkpoint.paused) {
+                    continue;
+                }
+                ServerWorld world = getPlanetWorld(server, checkpoint.planetName);
+                if (world == null || Terradyne.getPlanetModel(world) == null) {
+                    Terradyne.LOGGER.warn("Pregen checkpoint for unknown planet '{}' - skipping", checkpoint.planetName);
+                    continue;
+                }
+                jobs.put(checkpoint.planetName, new PregenJob(world, checkpoint.planetName,
+                        server.getCommandSource(), file, checkpoint));
+                Terradyne.LOGGER.info("Resuming pregeneration of {} ({} regions already done)",
+                        checkpoint.planetName, checkpoint.completedRegions);
+            }
+        } catch (IOException e) {
+            Terradyne.LOGGER.error("Failed to scan pregen checkpoints in {}", directory, e);
+        }
+    }
+
+    /**
+     * Checkpoint every running job before the server stops - they resume on the next start
+     */
+    public static void shutdown() {
+        for (PregenJob job : jobs.values()) {
+            job.releaseTickets();
+            job.saveCheckpoint();
+        }
+        jobs.clear();
+        mspt = 0.0;
+    }
+
+    private static PregenJob findJob(String planetName) {
+        for (Map.Entry<String, PregenJob> entry : jobs.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(planetName)
+                    || normalize(entry.getKey()).equals(normalize(planetName))) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static ServerWorld getPlanetWorld(MinecraftServer server, String planetName) {
+        RegistryKey<World> worldKey = RegistryKey.of(RegistryKeys.WORLD, new Identifier("terradyne", normalize(planetName)));
+        return server.getWorld(worldKey);
+    }
+
+    private static String normalize(String planetName) {
+        return planetName.toLowerCase().replace(" ", "_");
+    }
+}
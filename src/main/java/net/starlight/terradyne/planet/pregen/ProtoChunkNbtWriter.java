@@ -0,0 +1,125 @@
+package net.starlight.terradyne.planet.pregen;
+
+import com.mojang.serialization.Codec;
+import net.minecraft.SharedConstants;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtList;
+import net.minecraft.nbt.NbtLongArray;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.NbtString;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.util.collection.PackedIntegerArray;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+import net.minecraft.world.chunk.PalettedContainer;
+import net.minecraft.world.chunk.ProtoChunk;
+import net.starlight.terradyne.Terradyne;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serializes a detached proto chunk into the same NBT layout ChunkSerializer writes
+ * Needs no server or dynamic registries: block states use vanilla's palette codec and biomes are
+ * written as id palettes directly from their registry keys.
+ */
+final class ProtoChunkNbtWriter {
+
+    // Same codec ChunkSerializer uses for block_states
+    private static final Codec<PalettedContainer<BlockState>> BLOCK_STATE_CODEC = PalettedContainer.createPalettedContainerCodec(
+            Block.STATE_IDS, BlockState.CODEC, PalettedContainer.PaletteProvider.BLOCK_STATE, Blocks.AIR.getDefaultState());
+
+    private static final int BIOMES_PER_SECTION = 4 * 4 * 4;
+
+    private ProtoChunkNbtWriter() {}
+
+    /**
+     * Chunk NBT at the given status
+     * @param surfaceBiomes the chunk's 16 surface biomes, indexed (quartZ << 2) | quartX, repeated through every section
+     */
+    static NbtCompound write(ProtoChunk chunk, RegistryKey<Biome>[] surfaceBiomes, ChunkStatus status) {
+        ChunkPos pos = chunk.getPos();
+        NbtCompound nbt = new NbtCompound();
+        nbt.putInt("DataVersion", SharedConstants.getGameVersion().getSaveVersion().getId());
+        nbt.putInt("xPos", pos.x);
+        nbt.putInt("yPos", chunk.getBottomSectionCoord());
+        nbt.putInt("zPos", pos.z);
+        nbt.putLong("LastUpdate", 0L);
+        nbt.putLong("InhabitedTime", 0L);
+        nbt.putString("Status", Registries.CHUNK_STATUS.getId(status).toString());
+        nbt.putBoolean("isLightOn", false); // The server lights the chunk when it reaches the light stage
+
+        // === SECTIONS ===
+        NbtCompound biomes = writeBiomes(surfaceBiomes);
+        ChunkSection[] sections = chunk.getSectionArray();
+        NbtList sectionList = new NbtList();
+        for (int i = 0; i < sections.length; i++) {
+            NbtCompound section = new NbtCompound();
+            section.putByte("Y", (byte) chunk.sectionIndexToCoord(i));
+            section.put("block_states", BLOCK_STATE_CODEC.encodeStart(NbtOps.INSTANCE, sections[i].getBlockStateContainer())
+                    .getOrThrow(false, Terradyne.LOGGER::error));
+            section.put("biomes", biomes.copy());
+            sectionList.add(section);
+        }
+        nbt.put("sections", sectionList);
+
+        // === HEIGHTMAPS (only the types the status keeps) ===
+        NbtCompound heightmaps = new NbtCompound();
+        for (Map.Entry<Heightmap.Type, Heightmap> entry : chunk.getHeightmaps()) {
+            if (status.getHeightmapTypes().contains(entry.getKey())) {
+                heightmaps.put(entry.getKey().getName(), new NbtLongArray(entry.getValue().asLongArray()));
+            }
+        }
+        nbt.put("Heightmaps", heightmaps);
+
+        // No structure starts or references - Terradyne planets place none
+        NbtCompound structures = new NbtCompound();
+        structures.put("starts", new NbtCompound());
+        structures.put("References", new NbtCompound());
+        nbt.put("structures", structures);
+        return nbt;
+    }
+
+    /**
+     * One section's biome container - palette of ids plus packed indices (none when uniform)
+     */
+    private static NbtCompound writeBiomes(RegistryKey<Biome>[] surfaceBiomes) {
+        List<RegistryKey<Biome>> palette = new ArrayList<>(4);
+        int[] surfaceIndices = new int[16];
+        for (int i = 0; i < 16; i++) {
+            int index = palette.indexOf(surfaceBiomes[i]);
+            if (index < 0) {
+                index = palette.size();
+                palette.add(surfaceBiomes[i]);
+            }
+            surfaceIndices[i] = index;
+        }
+
+        NbtCompound biomes = new NbtCompound();
+        NbtList paletteList = new NbtList();
+        for (RegistryKey<Biome> key : palette) {
+            paletteList.add(NbtString.of(key.getValue().toString()));
+        }
+        biomes.put("palette", paletteList);
+
+        int bits = MathHelper.ceilLog2(palette.size());
+        if (bits > 0) {
+            // Index (y << 4) | (z << 2) | x - the low four bits pick the surface quart
+            PackedIntegerArray storage = new PackedIntegerArray(bits, BIOMES_PER_SECTION);
+            for (int i = 0; i < BIOMES_PER_SECTION; i++) {
+                storage.set(i, surfaceIndices[i & 15]);
+            }
+            biomes.put("data", new NbtLongArray(storage.getData()));
+        }
+        return biomes;
+    }
+}
@@ -0,0 +1,72 @@
+package net.starlight.terradyne.planet.terrain;
+
+/**
+ * Deterministic positional RNG for world generation
+ * Every value is a pure hash of (planet seed, purpose, x, y, z): no shared state, no allocation,
+ * no contention between worldgen threads, and identical output no matter which thread
+ * generates a chunk or in what order - so chunks are bit-for-bit reproducible.
+ *
+ * Each use of randomness gets its own Purpose so unrelated decisions at the same position
+ * stay uncorrelated. Add a new Purpose (with a fresh salt) rather than reusing one.
+ */
+public final class PositionalRandom {
+
+    /**
+     * Independent random streams - salts must never change once terrain has shipped with them
+     */
+    public enum Purpose {
+        MAGMA(0x6D61676D61L);               // Volcanic magma blocks in upper rock
+
+        private final long salt;
+
+        Purpose(long salt) {
+            this.salt = salt;
+        }
+    }
+
+    private final long seed;
+
+    public PositionalRandom(long planetSeed) {
+        this.seed = mix(planetSeed);
+    }
+
+    /**
+     * Uniform 64-bit value for a position
+     */
+    public long nextLong(Purpose purpose, int x, int y, int z) {
+        long h = mix(seed ^ purpose.salt);
+        h = mix(h + x * 0x9E3779B97F4A7C15L);
+        h = mix(h + y * 0xC2B2AE3D27D4EB4FL);
+        return mix(h + z * 0x165667B19E3779F9L);
+    }
+
+    /**
+     * Uniform double in [0, 1) for a position
+     */
+    public double nextDouble(Purpose purpose, int x, int y, int z) {
+        return (nextLong(purpose, x, y, z) >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * True with the given probability at a position
+     */
+    public boolean chance(Purpose purpose, int x, int y, int z, double probability) {
+        return nextDouble(purpose, x, y, z) < probability;
+    }
+
+    /**
+     * Uniform int in [0, bound) for a position
+     */
+    public int nextInt(Purpose purpose, int x, int y, int z, int bound) {
+        return (int) (((nextLong(purpose, x, y, z) >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
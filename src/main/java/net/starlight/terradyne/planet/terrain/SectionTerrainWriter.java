@@ -0,0 +1,186 @@
+package net.starlight.terradyne.planet.terrain;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.PalettedContainer;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Section-direct terrain writer for chunk generation (0-256 range)
+ * Buffers one chunk of generated blocks, then writes them straight into the chunk's sections:
+ * all-air sections are skipped, uniform sections get a single-value container,
+ * and heightmaps are updated once per column instead of once per block
+ */
+final class SectionTerrainWriter {
+
+    private static final int WORLD_HEIGHT = 256;
+    private static final int SECTION_COUNT = WORLD_HEIGHT >> 4;
+    private static final int SECTION_VOLUME = 16 * 16 * 16;
+    private static final int COLUMN_COUNT = 16 * 16;
+
+    private static final Heightmap.Type[] WORLDGEN_HEIGHTMAPS = {
+            Heightmap.Type.OCEAN_FLOOR_WG,
+            Heightmap.Type.WORLD_SURFACE_WG
+    };
+
+    // One buffer per worker thread - chunk generation runs on the worldgen executor
+    private static final ThreadLocal<SectionTerrainWriter> WRITERS = ThreadLocal.withInitial(SectionTerrainWriter::new);
+
+    // Indexed (y << 8) | (z << 4) | x so every section is one contiguous 4096-entry slab
+    private final BlockState[] blocks = new BlockState[WORLD_HEIGHT * COLUMN_COUNT];
+    private final int[] columnTop = new int[COLUMN_COUNT];
+    private int highestY;
+
+    private SectionTerrainWriter() {
+    }
+
+    /**
+     * Get this thread's writer, cleared for a new chunk
+     */
+    static SectionTerrainWriter begin() {
+        SectionTerrainWriter writer = WRITERS.get();
+        writer.reset();
+        return writer;
+    }
+
+    private void reset() {
+        if (highestY >= 0) {
+            Arrays.fill(blocks, 0, (highestY + 1) * COLUMN_COUNT, null);
+        }
+        Arrays.fill(columnTop, -1);
+        highestY = -1;
+    }
+
+    /**
+     * Set a single block (local x/z, world y); air is left unwritten
+     */
+    void setBlock(int x, int y, int z, BlockState state) {
+        if (y < 0 || y >= WORLD_HEIGHT || state.isAir()) {
+            return;
+        }
+        blocks[(y << 8) | (z << 4) | x] = state;
+        markWritten(x, y, z);
+    }
+
+    /**
+     * Fill an inclusive vertical span of one column with the same block
+     */
+    void setSpan(int x, int z, int fromY, int toY, BlockState state) {
+        int from = Math.max(0, fromY);
+        int to = Math.min(WORLD_HEIGHT - 1, toY);
+        if (from > to || state.isAir()) {
+            return;
+        }
+        int columnIndex = (z << 4) | x;
+        for (int y = from; y <= to; y++) {
+            blocks[(y << 8) | columnIndex] = state;
+        }
+        markWritten(x, to, z);
+    }
+
+    private void markWritten(int x, int y, int z) {
+        int columnIndex = (z << 4) | x;
+        if (y > columnTop[columnIndex]) {
+            columnTop[columnIndex] = y;
+        }
+        if (y > highestY) {
+            highestY = y;
+        }
+    }
+
+    /**
+     * Write the buffered blocks into the chunk and update its worldgen heightmaps
+     * Produces the same sections and heightmaps as per-block Chunk.setBlockState calls
+     */
+    void writeTo(Chunk chunk) {
+        ChunkSection[] sections = chunk.getSectionArray();
+        int topSection = Math.min(SECTION_COUNT - 1, highestY >> 4);
+
+        for (int sectionIndex = 0; sectionIndex <= topSection && sectionIndex < sections.length; sectionIndex++) {
+            int base = sectionIndex * SECTION_VOLUME;
+            BlockState uniform = uniformState(base);
+
+            if (uniform == null) {
+                if (!hasAnyBlock(base)) {
+                    continue; // Section stays entirely air - leave the empty section untouched
+                }
+                writeMixedSection(sections[sectionIndex], base);
+            } else if (sections[sectionIndex].isEmpty()) {
+                // Whole section is one block - replace with a single-value container in one shot
+                ChunkSection previous = sections[sectionIndex];
+                sections[sectionIndex] = new ChunkSection(
+                        new PalettedContainer<>(Block.STATE_IDS, uniform, PalettedContainer.PaletteProvider.BLOCK_STATE),
+                        previous.getBiomeContainer());
+            } else {
+                writeMixedSection(sections[sectionIndex], base);
+            }
+        }
+
+        updateHeightmaps(chunk);
+    }
+
+    /**
+     * Return the block filling every cell of a section slab, or null if it is mixed or contains air
+     */
+    private BlockState uniformState(int base) {
+        BlockState first = blocks[base];
+        if (first == null) {
+            return null;
+        }
+        for (int i = base + 1; i < base + SECTION_VOLUME; i++) {
+            if (blocks[i] != first) {
+                return null;
+            }
+        }
+        return first;
+    }
+
+    private boolean hasAnyBlock(int base) {
+        for (int i = base; i < base + SECTION_VOLUME; i++) {
+            if (blocks[i] != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeMixedSection(ChunkSection section, int base) {
+        section.lock();
+        try {
+            for (int i = 0; i < SECTION_VOLUME; i++) {
+                BlockState state = blocks[base + i];
+                if (state != null) {
+                    section.setBlockState(i & 15, i >> 8, (i >> 4) & 15, state, false);
+                }
+            }
+        } finally {
+            section.unlock();
+        }
+    }
+
+    /**
+     * Track the highest matching block of each column - equivalent to tracking every placed block
+     * bottom-up, since a fresh worldgen heightmap only ever rises
+     */
+    private void updateHeightmaps(Chunk chunk) {
+        for (Heightmap.Type type : WORLDGEN_HEIGHTMAPS) {
+            Heightmap heightmap = chunk.getHeightmap(type);
+            Predicate<BlockState> predicate = type.getBlockPredicate();
+
+            for (int columnIndex = 0; columnIndex < COLUMN_COUNT; columnIndex++) {
+                for (int y = columnTop[columnIndex]; y >= 0; y--) {
+                    BlockState state = blocks[(y << 8) | columnIndex];
+                    if (state != null && predicate.test(state)) {
+                        heightmap.trackUpdate(columnIndex & 15, y, columnIndex >> 4, state);
+                        break;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package net.starlight.terradyne.planet.terrain;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+
+/**
+ * Per-chunk block strata for chunk-constant climate (0-256 range)
+ * Holds the palette block for every Y as a run-length list, once for uneroded and once for eroded
+ * columns. Columns are filled by clipping the runs to the surface and cutting the depth bands
+ * (deepslate, bedrock floor) out of them as spans, so no per-block palette lookups are needed.
+ *
+ * Produces exactly the blocks of TerrainHeightMapper.getTerrainBlockState - the precedence of
+ * applySpecialConditions (ice, snow, magma, deepslate, bedrock) is reproduced per column.
+ */
+final class StrataTemplate {
+
+    // BlockPalette.getBlockForConditions switches to loose rock above this erosion
+    private static final double ERODED_THRESHOLD = 0.5;
+    private static final int MAX_WORLD_Y = 255;
+
+    private static final BlockState DEEPSLATE = Blocks.DEEPSLATE.getDefaultState();
+    private static final BlockState BEDROCK = Blocks.BEDROCK.getDefaultState();
+    private static final BlockState SNOW = Blocks.SNOW_BLOCK.getDefaultState();
+    private static final BlockState MAGMA = Blocks.MAGMA_BLOCK.getDefaultState();
+
+    private final Strata uneroded;
+    private final Strata eroded;
+    private final boolean snowCover;
+    private final boolean volcanicPlanet;
+    private final int seaLevel;
+    private final PositionalRandom positionalRandom;
+
+    StrataTemplate(Strata uneroded, Strata eroded, boolean snowCover, boolean volcanicPlanet,
+                   int seaLevel, PositionalRandom positionalRandom) {
+        this.uneroded = uneroded;
+        this.eroded = eroded;
+        this.snowCover = snowCover;
+        this.volcanicPlanet = volcanicPlanet;
+        this.seaLevel = seaLevel;
+        this.positionalRandom = positionalRandom;
+    }
+
+    /**
+     * Fill one column from the bottom of the world up to its surface
+     */
+    void fillColumn(SectionTerrainWriter writer, int x, int z, TerrainHeightMapper.ColumnContext column, int surfaceY) {
+        Strata strata = column.erosion > ERODED_THRESHOLD ? eroded : uneroded;
+        int deepslateTop = deepslateTop(column.terrainHeight);
+        boolean magma = volcanicPlanet && column.tectonicActivity > TerrainHeightMapper.MAGMA_TECTONIC_ACTIVITY;
+        boolean surfaceIced = false;
+
+        for (int run = 0; run < strata.runCount && strata.runStart[run] <= surfaceY; run++) {
+            int from = strata.runStart[run];
+            int to = Math.min(surfaceY, strata.runStart[run + 1] - 1);
+            BlockState state = strata.runState[run];
+
+            // Frozen water is decided before any depth rule
+            if (strata.runIced[run]) {
+                writer.setSpan(x, z, from, to, state);
+                surfaceIced = to == surfaceY;
+                continue;
+            }
+
+            // Depth bands cut into the run: deepslate below the surface, then the bedrock floor
+            // (depth > 50 is already deepslate, so only the Y floor can produce bedrock)
+            writer.setSpan(x, z, from, Math.min(to, deepslateTop), DEEPSLATE);
+            int shallowFrom = Math.max(from, deepslateTop + 1);
+            writer.setSpan(x, z, shallowFrom, Math.min(to, TerrainHeightMapper.BEDROCK_FLOOR_Y - 1), BEDROCK);
+            writer.setSpan(x, z, Math.max(shallowFrom, TerrainHeightMapper.BEDROCK_FLOOR_Y), to, state);
+
+            // Volcanic overlay - magma replaces upper rock at any depth
+            if (magma && strata.runMagmaHost[run]) {
+                for (int y = from; y <= to; y++) {
+                    if (positionalRandom.chance(PositionalRandom.Purpose.MAGMA, column.worldX, y, column.worldZ,
+                            TerrainHeightMapper.MAGMA_CHANCE)) {
+                        writer.setBlock(x, y, z, MAGMA);
+                    }
+                }
+            }
+        }
+
+        // Snow caps the surface block - takes precedence over magma and depth
+        if (snowCover && !surfaceIced && surfaceY > seaLevel && surfaceY > column.terrainHeight - 1) {
+            writer.setBlock(x, surfaceY, z, SNOW);
+        }
+    }
+
+    /**
+     * Highest Y whose depth below the surface exceeds the deepslate depth, or -1 if none
+     * Evaluated with the same expression as applySpecialConditions so the boundary matches exactly
+     */
+    private static int deepslateTop(double terrainHeight) {
+        double estimate = Math.ceil(terrainHeight - TerrainHeightMapper.DEEPSLATE_DEPTH) - 1;
+        int top = (int) Math.max(-1, Math.min(MAX_WORLD_Y, estimate));
+        while (top < MAX_WORLD_Y && terrainHeight - (top + 1) > TerrainHeightMapper.DEEPSLATE_DEPTH) {
+            top++;
+        }
+        while (top >= 0 && !(terrainHeight - top > TerrainHeightMapper.DEEPSLATE_DEPTH)) {
+            top--;
+        }
+        return top;
+    }
+
+    /**
+     * Run-length strata for one erosion class: run i covers [runStart[i], runStart[i + 1])
+     */
+    static final class Strata {
+        private final int runCount;
+        private final int[] runStart;
+        private final BlockState[] runState;
+        private final boolean[] runIced;
+        private final boolean[] runMagmaHost;
+
+        private Strata(int runCount, int[] runStart, BlockState[] runState, boolean[] runIced, boolean[] runMagmaHost) {
+            this.runCount = runCount;
+            this.runStart = runStart;
+            this.runState = runState;
+            this.runIced = runIced;
+            this.runMagmaHost = runMagmaHost;
+        }
+
+        /**
+         * Compress a per-Y block array into runs of identical blocks
+         */
+        static Strata compress(BlockState[] states, boolean[] iced, BlockState upperRock) {
+            int[] runStart = new int[states.length + 1];
+            BlockState[] runState = new BlockState[states.length];
+            boolean[] runIced = new boolean[states.length];
+            boolean[] runMagmaHost = new boolean[states.length];
+
+            int runCount = 0;
+            for (int y = 0; y < states.length; y++) {
+                if (runCount > 0 && runState[runCount - 1] == states[y] && runIced[runCount - 1] == iced[y]) {
+                    continue;
+                }
+                runStart[runCount] = y;
+                runState[runCount] = states[y];
+                runIced[runCount] = iced[y];
+                runMagmaHost[runCount] = !iced[y] && states[y] == upperRock;
+                runCount++;
+            }
+            runStart[runCount] = states.length;
+
+            return new Strata(runCount, runStart, runState, runIced, runMagmaHost);
+        }
+    }
+}
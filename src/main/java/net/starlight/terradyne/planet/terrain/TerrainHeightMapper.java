@@ -3,7 +3,9 @@ package net.starlight.terradyne.planet.terrain;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
+import net.starlight.terradyne.planet.mapping.ChunkClimateContext;
 import net.starlight.terradyne.planet.mapping.PlanetaryNoiseSystem;
+import net.starlight.terradyne.planet.physics.BlockPaletteLookup;
 import net.starlight.terradyne.planet.physics.BlockPaletteManager;
 import net.starlight.terradyne.planet.physics.PlanetData;
 import net.starlight.terradyne.planet.physics.PlanetModel;
@@ -17,13 +19,26 @@ public class TerrainHeightMapper {
     private final PlanetModel planetModel;
     private final PlanetData planetData;
     private final BlockPaletteManager.BlockPalette blockPalette;
+    private final BlockPaletteLookup blockLookup;
     private final PlanetaryNoiseSystem noiseSystem;
+    private final PositionalRandom positionalRandom;
 
     // Updated Minecraft height constraints for 0-256 range
     private static final int MIN_WORLD_Y = 0;
     private static final int MAX_WORLD_Y = 255;
     private static final int WORLD_HEIGHT = 256;
 
+    // === SPECIAL CONDITION THRESHOLDS (shared with StrataTemplate) ===
+    static final double FREEZING_TEMPERATURE = -5.0;
+    static final double FREEZING_MOISTURE = 0.3;
+    static final double GLACIAL_SNOW_COVERAGE = 0.5;
+    static final double MAGMA_TECTONIC_ACTIVITY = 0.8;
+    static final double MAGMA_VOLCANISM_LEVEL = 0.6;
+    static final double MAGMA_CHANCE = 0.1;
+    static final double DEEPSLATE_DEPTH = 30.0;
+    static final double BEDROCK_DEPTH = 50.0;
+    static final int BEDROCK_FLOOR_Y = 5;
+
     /**
      * Create terrain height mapper from planet model
      */
@@ -31,7 +46,9 @@ public class TerrainHeightMapper {
         this.planetModel = planetModel;
         this.planetData = planetModel.getPlanetData();
         this.blockPalette = planetModel.getBlockPalette();
+        this.blockLookup = planetModel.getBlockLookup();
         this.noiseSystem = noiseSystem;
+        this.positionalRandom = planetModel.getPositionalRandom();
     }
 
     /**
@@ -44,30 +61,69 @@ public class TerrainHeightMapper {
     }
 
     /**
-     * Get appropriate block state for given terrain conditions
-     * PERFORMANCE FIX: Now accepts cached climate data to avoid expensive per-block sampling
+     * Create the per-column context for block selection
+     * PERFORMANCE FIX: Height, tectonic activity and erosion are sampled once per (x, z)
+     * instead of once (or twice) per block
      */
-    public BlockState getTerrainBlockState(int worldX, int worldZ, int minecraftY,
-                                           double temperature, double moisture) {
-        // Sample terrain and environmental conditions
-        double terrainHeight = noiseSystem.sampleTerrainHeight(worldX, worldZ);
+    public ColumnContext createColumnContext(int worldX, int worldZ, double temperature, double moisture) {
+        return createColumnContext(worldX, worldZ, noiseSystem.sampleTerrainHeight(worldX, worldZ),
+                temperature, moisture);
+    }
+
+    /**
+     * Create the per-column context from a height already read from the chunk heightfield
+     */
+    public ColumnContext createColumnContext(int worldX, int worldZ, double terrainHeight,
+                                             double temperature, double moisture) {
         double tectonicActivity = noiseSystem.sampleTectonicActivity(worldX, worldZ);
+        double erosion = calculateErosionFactor(tectonicActivity, temperature, moisture);
+
+        return new ColumnContext(worldX, worldZ, terrainHeight, tectonicActivity,
+                temperature, moisture, erosion);
+    }
+
+    /**
+     * Create the per-column context from a chunk's memoized height grid and climate
+     */
+    public ColumnContext createColumnContext(ChunkClimateContext climate, int worldX, int worldZ) {
+        return createColumnContext(worldX, worldZ, climate.getTerrainHeight(worldX, worldZ),
+                climate.getTemperature(), climate.getMoisture());
+    }
+
+    /**
+     * Create the per-column context, sampling climate at the column
+     */
+    public ColumnContext createColumnContext(int worldX, int worldZ) {
+        double temperature = noiseSystem.sampleTemperature(worldX, worldZ);
+        double moisture = noiseSystem.sampleMoisture(worldX, worldZ);
 
-        // Use cached climate data instead of expensive sampling
-        // double temperature = noiseSystem.sampleTemperature(worldX, worldZ);  // REMOVED - now cached!
-        // double moisture = noiseSystem.sampleMoisture(worldX, worldZ);        // REMOVED - now cached!
+        return createColumnContext(worldX, worldZ, temperature, moisture);
+    }
 
+    /**
+     * Get appropriate block state for a Y level within a prepared column
+     * Only elevation and habitability vary with Y - everything else comes from the context
+     */
+    public BlockState getTerrainBlockState(ColumnContext column, int minecraftY) {
         // Calculate terrain factors for block selection
-        double elevation = calculateElevationFactor(minecraftY, terrainHeight);
-        double erosion = calculateErosionFactor(tectonicActivity, temperature, moisture);
-        double habitability = calculateHabitabilityFactor(temperature, moisture, elevation);
+        double elevation = calculateElevationFactor(minecraftY, column.terrainHeight);
+        double habitability = calculateHabitabilityFactor(column.temperature, column.moisture, elevation);
 
         // Use block palette to select appropriate block
-        Block selectedBlock = blockPalette.getBlockForConditions(elevation, erosion, habitability);
+        Block selectedBlock = blockLookup.getBlockForConditions(elevation, column.erosion, habitability);
 
         // Apply special conditions
-        return applySpecialConditions(selectedBlock, worldX, worldZ, minecraftY,
-                terrainHeight, temperature, moisture);
+        return applySpecialConditions(selectedBlock, column, minecraftY);
+    }
+
+    /**
+     * Get appropriate block state for given terrain conditions
+     * PERFORMANCE FIX: Now accepts cached climate data to avoid expensive per-block sampling
+     * Prefer createColumnContext + getTerrainBlockState(column, y) when filling whole columns
+     */
+    public BlockState getTerrainBlockState(int worldX, int worldZ, int minecraftY,
+                                           double temperature, double moisture) {
+        return getTerrainBlockState(createColumnContext(worldX, worldZ, temperature, moisture), minecraftY);
     }
 
     /**
@@ -75,26 +131,22 @@ public class TerrainHeightMapper {
      * This method is kept for backwards compatibility but should be avoided for performance
      */
     public BlockState getTerrainBlockState(int worldX, int worldZ, int minecraftY) {
-        // This method still samples climate per-block - use cached version when possible
-        double temperature = noiseSystem.sampleTemperature(worldX, worldZ);
-        double moisture = noiseSystem.sampleMoisture(worldX, worldZ);
-
-        return getTerrainBlockState(worldX, worldZ, minecraftY, temperature, moisture);
+        return getTerrainBlockState(createColumnContext(worldX, worldZ), minecraftY);
     }
 
     /**
      * Generate a complete terrain column for chunk generation (0-256 range)
      */
     public TerrainColumn generateTerrainColumn(int worldX, int worldZ) {
-        double terrainHeight = noiseSystem.sampleTerrainHeight(worldX, worldZ);
-        int surfaceY = getMinecraftHeight(terrainHeight);
+        ColumnContext context = createColumnContext(worldX, worldZ);
+        int surfaceY = getMinecraftHeight(context.terrainHeight);
 
         TerrainColumn column = new TerrainColumn(worldX, worldZ, surfaceY);
 
         // Fill column from bottom to surface
         for (int y = MIN_WORLD_Y; y <= MAX_WORLD_Y; y++) {
             if (y <= surfaceY) {
-                BlockState blockState = getTerrainBlockState(worldX, worldZ, y);
+                BlockState blockState = getTerrainBlockState(context, y);
                 column.setBlock(y, blockState);
             } else if (y <= planetData.getSeaLevel() && planetData.hasLiquidWater()) {
                 // Fill with water up to sea level
@@ -108,6 +160,48 @@ public class TerrainHeightMapper {
         return column;
     }
 
+    /**
+     * Build the block strata for one chunk's climate
+     * PERFORMANCE FIX: With temperature and moisture fixed per chunk, the palette block at a Y only
+     * depends on Y and whether the column is eroded - so it is resolved 2×256 times per chunk
+     * instead of once per solid block
+     */
+    StrataTemplate createStrataTemplate(ChunkClimateContext climate) {
+        return createStrataTemplate(climate.getTemperature(), climate.getMoisture());
+    }
+
+    StrataTemplate createStrataTemplate(double temperature, double moisture) {
+        boolean freezing = temperature < FREEZING_TEMPERATURE && moisture > FREEZING_MOISTURE;
+        int seaLevel = planetData.getSeaLevel();
+
+        // getBlockForConditions only branches on erosion > 0.5, so one representative value per side
+        BlockState[] uneroded = new BlockState[WORLD_HEIGHT];
+        BlockState[] eroded = new BlockState[WORLD_HEIGHT];
+        boolean[] unerodedIce = new boolean[WORLD_HEIGHT];
+        boolean[] erodedIce = new boolean[WORLD_HEIGHT];
+        for (int y = MIN_WORLD_Y; y <= MAX_WORLD_Y; y++) {
+            double elevation = calculateElevationFactor(y, 0.0);
+            double habitability = calculateHabitabilityFactor(temperature, moisture, elevation);
+            boolean frozen = freezing && y > seaLevel;
+
+            Block unerodedBlock = blockLookup.getBlockForConditions(elevation, 0.0, habitability);
+            unerodedIce[y] = frozen && unerodedBlock == Blocks.WATER;
+            uneroded[y] = unerodedIce[y] ? Blocks.ICE.getDefaultState() : unerodedBlock.getDefaultState();
+
+            Block erodedBlock = blockLookup.getBlockForConditions(elevation, 1.0, habitability);
+            erodedIce[y] = frozen && erodedBlock == Blocks.WATER;
+            eroded[y] = erodedIce[y] ? Blocks.ICE.getDefaultState() : erodedBlock.getDefaultState();
+        }
+
+        BlockState upperRock = blockPalette.upperRock.getDefaultState();
+        return new StrataTemplate(
+                StrataTemplate.Strata.compress(uneroded, unerodedIce, upperRock),
+                StrataTemplate.Strata.compress(eroded, erodedIce, upperRock),
+                freezing && planetData.getGlacialCoverage() > GLACIAL_SNOW_COVERAGE,
+                planetData.getVolcanismLevel() > MAGMA_VOLCANISM_LEVEL,
+                seaLevel, positionalRandom);
+    }
+
     // === TERRAIN FACTOR CALCULATIONS ===
 
     /**
@@ -161,40 +255,41 @@ public class TerrainHeightMapper {
      * Apply special environmental conditions to block selection
      * Updated for 0-256 height range
      */
-    private BlockState applySpecialConditions(Block baseBlock, int worldX, int worldZ, int minecraftY,
-                                              double terrainHeight, double temperature, double moisture) {
+    private BlockState applySpecialConditions(Block baseBlock, ColumnContext column, int minecraftY) {
 
         // === TEMPERATURE-BASED MODIFICATIONS ===
 
         // Ice formation in cold conditions
-        if (temperature < -5 && moisture > 0.3 && minecraftY > planetData.getSeaLevel()) {
+        if (column.temperature < FREEZING_TEMPERATURE && column.moisture > FREEZING_MOISTURE &&
+                minecraftY > planetData.getSeaLevel()) {
             if (baseBlock == Blocks.WATER) {
                 return Blocks.ICE.getDefaultState();
             }
-            if (minecraftY > terrainHeight - 1 && planetData.getGlacialCoverage() > 0.5) {
+            if (minecraftY > column.terrainHeight - 1 && planetData.getGlacialCoverage() > GLACIAL_SNOW_COVERAGE) {
                 return Blocks.SNOW_BLOCK.getDefaultState();
             }
         }
 
         // Volcanic activity effects
-        if (noiseSystem.sampleTectonicActivity(worldX, worldZ) > 0.8 &&
-                planetData.getVolcanismLevel() > 0.6) {
-            if (baseBlock == blockPalette.upperRock && Math.random() < 0.1) {
+        if (column.tectonicActivity > MAGMA_TECTONIC_ACTIVITY &&
+                planetData.getVolcanismLevel() > MAGMA_VOLCANISM_LEVEL) {
+            if (baseBlock == blockPalette.upperRock &&
+                    positionalRandom.chance(PositionalRandom.Purpose.MAGMA, column.worldX, minecraftY, column.worldZ, MAGMA_CHANCE)) {
                 return Blocks.MAGMA_BLOCK.getDefaultState();
             }
         }
 
         // === DEPTH-BASED MODIFICATIONS (updated for 0-256 range) ===
 
-        double depthBelowSurface = terrainHeight - minecraftY;
+        double depthBelowSurface = column.terrainHeight - minecraftY;
 
         // Deep underground -> deepslate layer (adjusted for smaller height range)
-        if (depthBelowSurface > 30) {
+        if (depthBelowSurface > DEEPSLATE_DEPTH) {
             return Blocks.DEEPSLATE.getDefaultState();
         }
 
         // Very deep -> actual bedrock (much closer to surface in 0-256 range)
-        if (depthBelowSurface > 50 || minecraftY < 5) {
+        if (depthBelowSurface > BEDROCK_DEPTH || minecraftY < BEDROCK_FLOOR_Y) {
             return Blocks.BEDROCK.getDefaultState();
         }
 
@@ -203,6 +298,30 @@ public class TerrainHeightMapper {
 
     // === UTILITY CLASSES ===
 
+    /**
+     * Everything block selection needs that does not depend on Y, sampled once per column
+     */
+    public static final class ColumnContext {
+        public final int worldX;
+        public final int worldZ;
+        public final double terrainHeight;
+        public final double tectonicActivity;
+        public final double temperature;
+        public final double moisture;
+        public final double erosion;
+
+        ColumnContext(int worldX, int worldZ, double terrainHeight, double tectonicActivity,
+                      double temperature, double moisture, double erosion) {
+            this.worldX = worldX;
+            this.worldZ = worldZ;
+            this.terrainHeight = terrainHeight;
+            this.tectonicActivity = tectonicActivity;
+            this.temperature = temperature;
+            this.moisture = moisture;
+            this.erosion = erosion;
+        }
+    }
+
     /**
      * Container for a complete vertical column of terrain blocks (0-256 range)
      */
@@ -261,7 +380,7 @@ public class TerrainHeightMapper {
         double erosion = calculateErosionFactor(tectonicActivity, temperature, moisture);
         double habitability = calculateHabitabilityFactor(temperature, moisture, elevation);
 
-        Block selectedBlock = blockPalette.getBlockForConditions(elevation, erosion, habitability);
+        Block selectedBlock = blockLookup.getBlockForConditions(elevation, erosion, habitability);
 
         return String.format("TerrainAnalysis{x=%d,z=%d: height=%.1f(Y=%d), tectonic=%.2f, " +
                         "temp=%.1f°C, moisture=%.2f, elevation=%.2f, erosion=%.2f, " +
@@ -5,13 +5,17 @@ import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.Util;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.ChunkRegion;
 import net.minecraft.world.HeightLimitView;
 import net.minecraft.world.Heightmap;
+import net.minecraft.world.biome.Biome;
 import net.minecraft.world.biome.source.BiomeAccess;
+import net.minecraft.world.biome.source.BiomeCoords;
 import net.minecraft.world.biome.source.BiomeSource;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.gen.GenerationStep;
@@ -22,6 +26,8 @@ import net.minecraft.world.gen.chunk.VerticalBlockSample;
 import net.minecraft.world.gen.noise.NoiseConfig;
 
 import net.starlight.terradyne.Terradyne;
+import net.starlight.terradyne.planet.mapping.ChunkClimateContext;
+import net.starlight.terradyne.planet.mapping.ChunkHeightfieldCache;
 import net.starlight.terradyne.planet.physics.PlanetModelRegistry;
 import net.starlight.terradyne.planet.biome.PhysicsBasedBiomeSource;
 import net.starlight.terradyne.planet.physics.PlanetConfig;
@@ -131,6 +137,30 @@ public class UniversalChunkGenerator extends ChunkGenerator {
         return CODEC;
     }
 
+    /**
+     * Batch biome fill - classify the chunk's 16 surface quarts once and copy them into every section
+     * PERFORMANCE FIX: Replaces 1024 per-quart BiomeSource.getBiome calls (the classifier ignores Y)
+     */
+    @Override
+    public CompletableFuture<Chunk> populateBiomes(Executor executor, NoiseConfig noiseConfig, Blender blender,
+                                                   StructureAccessor structureAccessor, Chunk chunk) {
+        if (!(getBiomeSource() instanceof PhysicsBasedBiomeSource physicsSource) || !physicsSource.isInitialized()) {
+            return super.populateBiomes(executor, noiseConfig, blender, structureAccessor, chunk);
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            ChunkPos chunkPos = chunk.getPos();
+            RegistryEntry<Biome>[] surfaceBiomes = physicsSource.getChunkSurfaceBiomes(chunkPos.x, chunkPos.z);
+            int startQuartX = BiomeCoords.fromBlock(chunkPos.getStartX());
+            int startQuartZ = BiomeCoords.fromBlock(chunkPos.getStartZ());
+
+            chunk.populateBiomes((quartX, quartY, quartZ, sampler) ->
+                            surfaceBiomes[((quartZ - startQuartZ) << 2) | (quartX - startQuartX)],
+                    noiseConfig.getMultiNoiseSampler());
+            return chunk;
+        }, Util.getMainWorkerExecutor());
+    }
+
     @Override
     public CompletableFuture<Chunk> populateNoise(Executor executor, Blender blender,
                                                   NoiseConfig noiseConfig, StructureAccessor structureAccessor,
@@ -162,28 +192,30 @@ public class UniversalChunkGenerator extends ChunkGenerator {
             Terradyne.LOGGER.debug("Generating physics-based terrain for chunk {} on planet {}",
                     chunkPos, planetModel.getConfig().getPlanetName());
 
-            // === PERFORMANCE FIX: Sample climate ONCE per chunk at chunk center ===
-            int chunkCenterX = chunkPos.getStartX() + 8;
-            int chunkCenterZ = chunkPos.getStartZ() + 8;
+            // === PERFORMANCE FIX: One memoized climate context per chunk ===
+            // Height grid fetched first so the region climate build reuses it too; each field is read once
+            ChunkClimateContext climate = planetModel.createChunkClimate(chunkPos.x, chunkPos.z);
+            climate.getHeightGrid();
 
-            double chunkTemperature = planetModel.getTemperature(chunkCenterX, chunkCenterZ);
-            double chunkMoisture = planetModel.getMoisture(chunkCenterX, chunkCenterZ);
-            double chunkWindSpeed = planetModel.getNoiseSystem().sampleWindSpeed(chunkCenterX, chunkCenterZ);
+            Terradyne.LOGGER.debug("Chunk climate: temp={}°C, moisture={}, wind={}",
+                    climate.getTemperature(), climate.getMoisture(), climate.getWindSpeed());
 
-            Terradyne.LOGGER.debug("Chunk climate: temp={:.1f}°C, moisture={:.2f}, wind={:.2f}",
-                    chunkTemperature, chunkMoisture, chunkWindSpeed);
+            // PERFORMANCE FIX: Resolve the palette strata once for this chunk's climate
+            StrataTemplate strata = planetModel.getHeightMapper().createStrataTemplate(climate);
 
             // Generate terrain using physics system with cached climate data
+            // PERFORMANCE FIX: Columns are buffered and written straight into chunk sections
+            SectionTerrainWriter writer = SectionTerrainWriter.begin();
             for (int x = 0; x < 16; x++) {
                 for (int z = 0; z < 16; z++) {
                     int worldX = chunkPos.getStartX() + x;
                     int worldZ = chunkPos.getStartZ() + z;
 
                     // Generate complete terrain column using physics - adapted for 0-256 range
-                    generateTerrainColumn(chunk, x, z, worldX, worldZ, planetModel,
-                            chunkTemperature, chunkMoisture, chunkWindSpeed);
+                    generateTerrainColumn(writer, strata, x, z, worldX, worldZ, planetModel, climate);
                 }
             }
+            writer.writeTo(chunk);
 
             Terradyne.LOGGER.debug("✅ Physics-based generation completed for chunk {}", chunkPos);
 
@@ -197,15 +229,15 @@ public class UniversalChunkGenerator extends ChunkGenerator {
     /**
      * Generate terrain column adapted for 0-256 height range
      * PERFORMANCE FIX: Now accepts cached climate data instead of sampling per column
+     * Solid blocks and the water span go into the section writer; air is never written
+     * PERFORMANCE FIX: Solid blocks are copied from the chunk's strata template as spans
+     * PERFORMANCE FIX: Height and climate come from the chunk's memoized climate context
      */
-    private void generateTerrainColumn(Chunk chunk, int x, int z, int worldX, int worldZ,
-                                       PlanetModel planetModel, double temperature, double moisture, double windSpeed) {
-        // Sample terrain height (this is still needed per column for height variation)
-        double terrainHeight = planetModel.getTerrainHeight(worldX, worldZ);
-
-        // Use cached climate data instead of sampling again
-        // double temperature = planetModel.getTemperature(worldX, worldZ);  // REMOVED - now cached!
-        // double moisture = planetModel.getMoisture(worldX, worldZ);        // REMOVED - now cached!
+    private void generateTerrainColumn(SectionTerrainWriter writer, StrataTemplate strata, int x, int z, int worldX, int worldZ,
+                                       PlanetModel planetModel, ChunkClimateContext climate) {
+        // Sample tectonic activity once for the whole column - height comes from the chunk grid
+        TerrainHeightMapper.ColumnContext column = planetModel.createColumnContext(climate, worldX, worldZ);
+        double terrainHeight = column.terrainHeight;
 
         // Clamp terrain height to our 0-256 range
         int surfaceY = Math.max(MIN_WORLD_Y, Math.min(MAX_WORLD_Y, (int) terrainHeight));
@@ -213,21 +245,12 @@ public class UniversalChunkGenerator extends ChunkGenerator {
         // Adjust sea level for 0-256 range
         int seaLevel = Math.max(MIN_WORLD_Y, Math.min(MAX_WORLD_Y, planetModel.getPlanetData().getSeaLevel()));
 
-        // Generate column from bottom to top
-        for (int y = MIN_WORLD_Y; y <= MAX_WORLD_Y; y++) {
-            BlockPos pos = new BlockPos(x, y, z);
-
-            if (y <= surfaceY) {
-                // Use physics system with cached climate data to determine block type
-                BlockState blockState = planetModel.getTerrainBlockState(worldX, worldZ, y, temperature, moisture);
-                chunk.setBlockState(pos, blockState, false);
-            } else if (y <= seaLevel && planetModel.getPlanetData().hasLiquidWater()) {
-                // Fill with water up to sea level
-                chunk.setBlockState(pos, Blocks.WATER.getDefaultState(), false);
-            } else {
-                // Air above surface/water
-                chunk.setBlockState(pos, Blocks.AIR.getDefaultState(), false);
-            }
+        // Solid terrain from bottom to surface
+        strata.fillColumn(writer, x, z, column, surfaceY);
+
+        // Fill with water up to sea level
+        if (planetModel.getPlanetData().hasLiquidWater()) {
+            writer.setSpan(x, z, surfaceY + 1, seaLevel, Blocks.WATER.getDefaultState());
         }
     }
 
@@ -247,7 +270,8 @@ public class UniversalChunkGenerator extends ChunkGenerator {
             return 120; // Fallback height for 0-256 range
         }
 
-        double terrainHeight = planetModel.getTerrainHeight(x, z);
+        // Structure placement probes many columns per chunk - read them from the shared chunk grid
+        double terrainHeight = planetModel.getTerrainHeightGrid(x >> 4, z >> 4)[ChunkHeightfieldCache.index(x, z)];
         return Math.max(MIN_WORLD_Y, Math.min(MAX_WORLD_Y, (int) terrainHeight));
     }
 
@@ -269,7 +293,9 @@ public class UniversalChunkGenerator extends ChunkGenerator {
 
         // Generate physics-based column for 0-256 range
         BlockState[] column = new BlockState[WORLD_HEIGHT];
-        double terrainHeight = planetModel.getTerrainHeight(x, z);
+        ChunkClimateContext climate = planetModel.createChunkClimate(x >> 4, z >> 4);
+        TerrainHeightMapper.ColumnContext context = planetModel.createColumnContext(climate, x, z);
+        double terrainHeight = context.terrainHeight;
         int surfaceY = Math.max(MIN_WORLD_Y, Math.min(MAX_WORLD_Y, (int) terrainHeight));
         int seaLevel = Math.max(MIN_WORLD_Y, Math.min(MAX_WORLD_Y, planetModel.getPlanetData().getSeaLevel()));
 
@@ -277,7 +303,7 @@ public class UniversalChunkGenerator extends ChunkGenerator {
             int worldY = MIN_WORLD_Y + y;
 
             if (worldY <= surfaceY) {
-                column[y] = planetModel.getTerrainBlockState(x, z, worldY);
+                column[y] = planetModel.getTerrainBlockState(context, worldY);
             } else if (worldY <= seaLevel && planetModel.getPlanetData().hasLiquidWater()) {
                 column[y] = Blocks.WATER.getDefaultState();
             } else {
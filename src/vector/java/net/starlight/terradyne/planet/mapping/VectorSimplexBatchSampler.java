@@ -0,0 +1,271 @@
+package net.starlight.terradyne.planet.mapping;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD simplex kernel (jdk.incubator.vector) - one lane per sample
+ * Mirrors SimplexNoiseSampler.sample(x, y, z) operation for operation, in the same order and without
+ * fused multiply-adds, so every lane is bit-identical to the scalar sampler.
+ *
+ * Each group of lanes runs in three steps: skew and cell floor (vector), permutation hashing and gradient
+ * lookup (scalar, into per-thread lane buffers - Java 17 gathers are not intrinsified), then the four
+ * corner contributions (vector). The tail of a row that does not fill a vector runs the scalar mirror.
+ *
+ * The species are static constants - C2 only intrinsifies vector operations on a constant species, and
+ * boxes every vector otherwise. Width is the platform's preferred one (256 bits on AVX2, 512 on AVX-512);
+ * cap it with -XX:MaxVectorSize.
+ *
+ * Compiled in the 'vector' source set and loaded reflectively by SimplexBatchSamplers, so the mod
+ * runs on the scalar path when the JVM was started without --add-modules jdk.incubator.vector.
+ */
+public final class VectorSimplexBatchSampler implements SimplexBatchSampler {
+
+    // SimplexNoiseSampler.GRADIENTS, first 12 entries (hashes are taken % 12)
+    private static final double[] GRADIENT_X = {1, -1, 1, -1, 1, -1, 1, -1, 0, 0, 0, 0};
+    private static final double[] GRADIENT_Y = {1, 1, -1, -1, 0, 0, 0, 0, 1, -1, 1, -1};
+    private static final double[] GRADIENT_Z = {0, 0, 0, 0, 1, 1, -1, -1, 1, 1, -1, -1};
+
+    private static final double SKEW = 0.3333333333333333;
+    private static final double UNSKEW = 0.16666666666666666;
+    private static final double CORNER_RADIUS = 0.6;
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    // Same lane count as the double species, half the bits
+    private static final VectorSpecies<Integer> INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2));
+    private final int[] permutation;        // 256 entries
+    private final int[] gradientIndex;      // permutation % 12, for the outermost lookup
+
+    private final ThreadLocal<Scratch> scratch;
+
+    /**
+     * @param permutation the sampler's permutation table (first 256 entries are used)
+     */
+    public VectorSimplexBatchSampler(int[] permutation) {
+
+        this.permutation = new int[256];
+        this.gradientIndex = new int[256];
+        for (int i = 0; i < 256; i++) {
+            this.permutation[i] = permutation[i];
+            this.gradientIndex[i] = permutation[i] % 12;
+        }
+
+        int lanes = DOUBLES.length();
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(lanes));
+    }
+
+    @Override
+    public void sample(double[] x, double y, double[] z, double[] out, int count) {
+        Scratch s = scratch.get();
+        int lanes = DOUBLES.length();
+        int bound = DOUBLES.loopBound(count);
+        DoubleVector yv = DoubleVector.broadcast(DOUBLES, y);
+
+        for (int i = 0; i < bound; i += lanes) {
+            DoubleVector xv = DoubleVector.fromArray(DOUBLES, x, i);
+            DoubleVector zv = DoubleVector.fromArray(DOUBLES, z, i);
+
+            // === SKEW INTO THE SIMPLEX GRID ===
+            DoubleVector skew = xv.add(y).add(zv).mul(SKEW);
+            IntVector cellX = floor(xv.add(skew));
+            IntVector cellY = floor(yv.add(skew));
+            IntVector cellZ = floor(zv.add(skew));
+
+            DoubleVector unskew = toDouble(cellX.add(cellY).add(cellZ)).mul(UNSKEW);
+            DoubleVector dx0 = xv.sub(toDouble(cellX).sub(unskew));
+            DoubleVector dy0 = yv.sub(toDouble(cellY).sub(unskew));
+            DoubleVector dz0 = zv.sub(toDouble(cellZ).sub(unskew));
+
+            // === HASH THE FOUR CORNERS (scalar) ===
+            cellX.intoArray(s.cellX, 0);
+            cellY.intoArray(s.cellY, 0);
+            cellZ.intoArray(s.cellZ, 0);
+            dx0.intoArray(s.dx, 0);
+            dy0.intoArray(s.dy, 0);
+            dz0.intoArray(s.dz, 0);
+            for (int lane = 0; lane < lanes; lane++) {
+                hashCorners(s, lane);
+            }
+
+            // === CORNER OFFSETS ===
+            // Same case analysis as the scalar sampler, expressed as lane masks
+            VectorMask<Double> xy = dx0.compare(VectorOperators.GE, dy0);
+            VectorMask<Double> yz = dy0.compare(VectorOperators.GE, dz0);
+            VectorMask<Double> xz = dx0.compare(VectorOperators.GE, dz0);
+            VectorMask<Double> yzAndXz = yz.and(xz);
+
+            DoubleVector q = select(xy.and(yz.or(xz)));
+            DoubleVector r = select(xy.not().and(yz));
+            DoubleVector sz = select(yz.not().and(xy.and(xz).not()));
+            DoubleVector t = select(xy.or(yzAndXz));
+            DoubleVector u = select(xy.not().or(yz));
+            DoubleVector v = select(xy.and(yz.not()).or(xy.not().and(yzAndXz.not())));
+
+            DoubleVector dx1 = dx0.sub(q).add(UNSKEW);
+            DoubleVector dy1 = dy0.sub(r).add(UNSKEW);
+            DoubleVector dz1 = dz0.sub(sz).add(UNSKEW);
+            DoubleVector dx2 = dx0.sub(t).add(SKEW);
+            DoubleVector dy2 = dy0.sub(u).add(SKEW);
+            DoubleVector dz2 = dz0.sub(v).add(SKEW);
+            DoubleVector dx3 = dx0.sub(1.0).add(0.5);
+            DoubleVector dy3 = dy0.sub(1.0).add(0.5);
+            DoubleVector dz3 = dz0.sub(1.0).add(0.5);
+
+            // === CORNER CONTRIBUTIONS ===
+            DoubleVector n0 = corner(s, 0, dx0, dy0, dz0);
+            DoubleVector n1 = corner(s, lanes, dx1, dy1, dz1);
+            DoubleVector n2 = corner(s, 2 * lanes, dx2, dy2, dz2);
+            DoubleVector n3 = corner(s, 3 * lanes, dx3, dy3, dz3);
+
+            n0.add(n1).add(n2).add(n3).mul(32.0).intoArray(out, i);
+        }
+
+        for (int i = bound; i < count; i++) {
+            out[i] = sampleScalar(x[i], y, z[i]);
+        }
+    }
+
+    @Override
+    public int getLaneCount() {
+        return DOUBLES.length();
+    }
+
+    @Override
+    public String getName() {
+        return "vector-" + DOUBLES.vectorBitSize();
+    }
+
+    private IntVector floor(DoubleVector value) {
+        // (int) truncation, minus one where that rounded up (MathHelper.floor)
+        IntVector truncated = (IntVector) value.convertShape(VectorOperators.D2I, INTS, 0);
+        VectorMask<Integer> roundedUp = toDouble(truncated).compare(VectorOperators.GT, value).cast(INTS);
+        return truncated.sub(1, roundedUp);
+    }
+
+    private DoubleVector toDouble(IntVector value) {
+        return (DoubleVector) value.convertShape(VectorOperators.I2D, DOUBLES, 0);
+    }
+
+    private DoubleVector select(VectorMask<Double> mask) {
+        return DoubleVector.zero(DOUBLES).blend(1.0, mask);
+    }
+
+    private DoubleVector corner(Scratch s, int offset, DoubleVector dx, DoubleVector dy, DoubleVector dz) {
+        DoubleVector falloff = DoubleVector.broadcast(DOUBLES, CORNER_RADIUS)
+                .sub(dx.mul(dx)).sub(dy.mul(dy)).sub(dz.mul(dz));
+        DoubleVector dot = DoubleVector.fromArray(DOUBLES, s.gradientX, offset).mul(dx)
+                .add(DoubleVector.fromArray(DOUBLES, s.gradientY, offset).mul(dy))
+                .add(DoubleVector.fromArray(DOUBLES, s.gradientZ, offset).mul(dz));
+        DoubleVector squared = falloff.mul(falloff);
+        return squared.mul(squared).mul(dot).blend(0.0, falloff.compare(VectorOperators.LT, 0.0));
+    }
+
+    private void hashCorners(Scratch s, int lane) {
+        double dx = s.dx[lane];
+        double dy = s.dy[lane];
+        double dz = s.dz[lane];
+        int[] offsets = cornerOffsets(dx, dy, dz);
+
+        int hx = s.cellX[lane] & 0xFF;
+        int hy = s.cellY[lane] & 0xFF;
+        int hz = s.cellZ[lane] & 0xFF;
+        int lanes = s.cellX.length;
+        storeGradient(s, lane, hash(hx, hy, hz));
+        storeGradient(s, lanes + lane, hash(hx + offsets[0], hy + offsets[1], hz + offsets[2]));
+        storeGradient(s, 2 * lanes + lane, hash(hx + offsets[3], hy + offsets[4], hz + offsets[5]));
+        storeGradient(s, 3 * lanes + lane, hash(hx + 1, hy + 1, hz + 1));
+    }
+
+    private static void storeGradient(Scratch s, int index, int hash) {
+        s.gradientX[index] = GRADIENT_X[hash];
+        s.gradientY[index] = GRADIENT_Y[hash];
+        s.gradientZ[index] = GRADIENT_Z[hash];
+    }
+
+    private int hash(int x, int y, int z) {
+        return gradientIndex[(x + permutation[(y + permutation[z & 0xFF]) & 0xFF]) & 0xFF];
+    }
+
+    // Second and third corner offsets (i1, j1, k1, i2, j2, k2) for each simplex orientation
+    private static final int[][] OFFSETS = {
+            {1, 0, 0, 1, 1, 0}, {1, 0, 0, 1, 0, 1}, {0, 0, 1, 1, 0, 1},
+            {0, 0, 1, 0, 1, 1}, {0, 1, 0, 0, 1, 1}, {0, 1, 0, 1, 1, 0}
+    };
+
+    private static int[] cornerOffsets(double dx, double dy, double dz) {
+        if (dx >= dy) {
+            if (dy >= dz) return OFFSETS[0];
+            if (dx >= dz) return OFFSETS[1];
+            return OFFSETS[2];
+        }
+        if (dy < dz) return OFFSETS[3];
+        if (dx < dz) return OFFSETS[4];
+        return OFFSETS[5];
+    }
+
+    /**
+     * Scalar mirror of SimplexNoiseSampler.sample(x, y, z) for row tails
+     */
+    private double sampleScalar(double x, double y, double z) {
+        double skew = (x + y + z) * SKEW;
+        int cellX = floor(x + skew);
+        int cellY = floor(y + skew);
+        int cellZ = floor(z + skew);
+        double unskew = (double) (cellX + cellY + cellZ) * UNSKEW;
+        double dx0 = x - ((double) cellX - unskew);
+        double dy0 = y - ((double) cellY - unskew);
+        double dz0 = z - ((double) cellZ - unskew);
+        int[] o = cornerOffsets(dx0, dy0, dz0);
+
+        int hx = cellX & 0xFF;
+        int hy = cellY & 0xFF;
+        int hz = cellZ & 0xFF;
+        return 32.0 * (corner(hash(hx, hy, hz), dx0, dy0, dz0)
+                + corner(hash(hx + o[0], hy + o[1], hz + o[2]),
+                        dx0 - (double) o[0] + UNSKEW, dy0 - (double) o[1] + UNSKEW, dz0 - (double) o[2] + UNSKEW)
+                + corner(hash(hx + o[3], hy + o[4], hz + o[5]),
+                        dx0 - (double) o[3] + SKEW, dy0 - (double) o[4] + SKEW, dz0 - (double) o[5] + SKEW)
+                + corner(hash(hx + 1, hy + 1, hz + 1), dx0 - 1.0 + 0.5, dy0 - 1.0 + 0.5, dz0 - 1.0 + 0.5));
+    }
+
+    private static int floor(double value) {
+        int truncated = (int) value;
+        return value < truncated ? truncated - 1 : truncated;
+    }
+
+    private static double corner(int hash, double dx, double dy, double dz) {
+        double falloff = CORNER_RADIUS - dx * dx - dy * dy - dz * dz;
+        if (falloff < 0.0) {
+            return 0.0;
+        }
+        falloff *= falloff;
+        return falloff * falloff * (GRADIENT_X[hash] * dx + GRADIENT_Y[hash] * dy + GRADIENT_Z[hash] * dz);
+    }
+
+    /**
+     * Per-thread lane buffers for the scalar hashing step
+     */
+    private static final class Scratch {
+        final int[] cellX, cellY, cellZ;
+        final double[] dx, dy, dz;
+        // Gradient components of the four corners, corner-major (corner * lanes + lane)
+        final double[] gradientX, gradientY, gradientZ;
+
+        Scratch(int lanes) {
+            cellX = new int[lanes];
+            cellY = new int[lanes];
+            cellZ = new int[lanes];
+            dx = new double[lanes];
+            dy = new double[lanes];
+            dz = new double[lanes];
+            gradientX = new double[4 * lanes];
+            gradientY = new double[4 * lanes];
+            gradientZ = new double[4 * lanes];
+        }
+    }
+}